@@ -0,0 +1,73 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import hu03.repositorio.AlmacenColumnarAlumnos;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * AlmacenColumnarBenchmark: Mide los recorridos completos de {@link AlmacenColumnarAlumnos}
+ * (ranking, Top 10 y promedio del Indicador Bruto) sobre la misma población que los demás
+ * benchmarks, para compararlos con {@link RankingBenchmark}.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dfile.encoding=UTF-8"})
+public class AlmacenColumnarBenchmark {
+
+    private AlmacenColumnarAlumnos almacen;
+
+    /**
+     * Copia la población generada al almacén columnar.
+     * @param poblacion La población generada.
+     */
+    @Setup(Level.Trial)
+    public void preparar(PoblacionEstado poblacion) {
+        almacen = AlmacenColumnarAlumnos.desde(poblacion.modulo);
+    }
+
+    /**
+     * Ordena todas las filas por ranking y asigna los números de inscripción.
+     * @return Las filas en orden de ranking.
+     */
+    @Benchmark
+    public int[] calcularRanking() {
+        return almacen.calcularRanking();
+    }
+
+    /**
+     * Obtiene las 10 primeras filas del ranking.
+     * @return Las filas del Top 10.
+     */
+    @Benchmark
+    public int[] top10() {
+        return almacen.topK(10);
+    }
+
+    /**
+     * Recorre la columna de Indicadores Brutos.
+     * @return El promedio del Indicador Bruto.
+     */
+    @Benchmark
+    public double promedioIndicadorBruto() {
+        return almacen.promedioIndicadorBruto();
+    }
+}
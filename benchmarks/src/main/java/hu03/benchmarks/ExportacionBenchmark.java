@@ -0,0 +1,81 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import hu03.utilidades.ExportadorCsv;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExportacionBenchmark: Mide la exportación completa de la población a CSV en un archivo temporal,
+ * tanto secuencial ({@link ExportadorCsv#exportar}) como por bloques en paralelo
+ * ({@link ExportadorCsv#exportarEnParalelo}). Se invoca al exportador directamente, y no al
+ * controlador, para no medir (ni imprimir) el mensaje de resultado en cada invocación.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dfile.encoding=UTF-8"})
+public class ExportacionBenchmark {
+
+    /** Archivo temporal de destino. */
+    private File archivo;
+
+    /**
+     * Crea el archivo temporal de destino.
+     * @throws IOException Si no se puede crear el archivo.
+     */
+    @Setup(Level.Trial)
+    public void crearArchivo() throws IOException {
+        archivo = File.createTempFile("hu03-benchmark", ".csv");
+    }
+
+    /**
+     * Elimina el archivo temporal de destino.
+     */
+    @TearDown(Level.Trial)
+    public void eliminarArchivo() {
+        archivo.delete();
+    }
+
+    /**
+     * Exporta todos los alumnos de la población en orden de ranking.
+     * @param poblacion La población generada.
+     * @return La cantidad de alumnos exportados.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    @Benchmark
+    public int exportarAlumnosACsv(PoblacionEstado poblacion) throws IOException {
+        return ExportadorCsv.exportar(poblacion.modulo.getAlumnosPorRanking(), archivo.getPath());
+    }
+
+    /**
+     * Exporta todos los alumnos de la población formateando bloques en paralelo.
+     * @param poblacion La población generada.
+     * @return La cantidad de alumnos exportados.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    @Benchmark
+    public int exportarAlumnosACsvEnParalelo(PoblacionEstado poblacion) throws IOException {
+        return ExportadorCsv.exportarEnParalelo(poblacion.modulo.topK(poblacion.tamanio), archivo.getPath());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.RegistroAcademico;
+import hu03.utilidades.CalculadoraIndicador;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * IndicadorBenchmark: Mide {@link CalculadoraIndicador#calcularIndicadorBruto} con las entradas
+ * (promedio, aprobadas, inscritas, créditos y semestre) de cada alumno de la población, y el
+ * cálculo por lotes de toda la población con {@link CalculadoraIndicador#calcularIndicadoresBrutos}
+ * frente al mismo ciclo alumno por alumno.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dfile.encoding=UTF-8"})
+public class IndicadorBenchmark {
+
+    private double[] promedios;
+    private int[] aprobadas;
+    private int[] inscritas;
+    private int[] creditos;
+    private int[] semestres;
+    private long[] indicadores;
+    /** Posición del siguiente alumno a calcular. */
+    private int cursor;
+
+    /**
+     * Extrae las entradas del indicador de cada alumno de la población.
+     * @param poblacion La población generada.
+     */
+    @Setup(Level.Trial)
+    public void preparar(PoblacionEstado poblacion) {
+        int n = poblacion.alumnos.length;
+        promedios = new double[n];
+        aprobadas = new int[n];
+        inscritas = new int[n];
+        creditos = new int[n];
+        semestres = new int[n];
+        indicadores = new long[n];
+        for (int i = 0; i < n; i++) {
+            Alumno alumno = poblacion.alumnos[i];
+            RegistroAcademico registro = alumno.getRegistroAcademico();
+            promedios[i] = registro.calcularPromedio();
+            aprobadas[i] = registro.getAsignaturasAprobadas();
+            inscritas[i] = registro.getAsignaturasInscritas();
+            creditos[i] = registro.getTotalCreditos();
+            semestres[i] = alumno.getSemestre();
+        }
+    }
+
+    /**
+     * Calcula el Indicador Bruto del siguiente alumno.
+     * @return El Indicador Bruto calculado.
+     */
+    @Benchmark
+    public long calcularIndicadorBruto() {
+        int i = cursor;
+        cursor = i + 1 < promedios.length ? i + 1 : 0;
+        return CalculadoraIndicador.calcularIndicadorBruto(promedios[i], aprobadas[i], inscritas[i],
+                                                           creditos[i], semestres[i]);
+    }
+
+    /**
+     * Calcula el Indicador Bruto de toda la población con el método por lotes.
+     * @return El arreglo de indicadores calculados.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] calcularIndicadoresBrutosPorLotes() {
+        CalculadoraIndicador.calcularIndicadoresBrutos(promedios, aprobadas, inscritas, creditos, semestres, indicadores);
+        return indicadores;
+    }
+
+    /**
+     * Calcula el Indicador Bruto de toda la población alumno por alumno (referencia del método por lotes).
+     * @return El arreglo de indicadores calculados.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] calcularIndicadoresBrutosUnoPorUno() {
+        for (int i = 0; i < indicadores.length; i++) {
+            indicadores[i] = CalculadoraIndicador.calcularIndicadorBruto(promedios[i], aprobadas[i], inscritas[i],
+                                                                         creditos[i], semestres[i]);
+        }
+        return indicadores;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import hu03.controlador.ControladorAlumnos;
+import hu03.modelo.Alumno;
+import hu03.repositorio.ModuloRegistros;
+import hu03.utilidades.ConfiguracionGeneracion;
+import hu03.utilidades.GeneradorDatos;
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PoblacionEstado: Estado compartido por los benchmarks. Genera una población de alumnos
+ * reproducible (semilla fija) del tamaño indicado por el parámetro {@code tamanio} y prepara
+ * las entradas de las consultas (números de cuenta y apellidos existentes).
+ * El archivo de direcciones se busca en la propiedad del sistema {@code hu03.direcciones}
+ * o, por defecto, en {@code ../direcciones.txt} y {@code direcciones.txt}.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+public class PoblacionEstado {
+
+    /** Semilla fija para que todas las ejecuciones midan la misma población. */
+    public static final long SEMILLA = 20240611L;
+
+    /** Cantidad de alumnos de la población. */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tamanio;
+
+    /** Módulo con la población generada. */
+    public ModuloRegistros modulo;
+    /** Controlador sobre el módulo generado. */
+    public ControladorAlumnos controlador;
+    /** Alumnos de la población, en orden de alta. */
+    public Alumno[] alumnos;
+    /** Números de cuenta de la población, en orden aleatorio (pero fijo). */
+    public long[] numerosDeCuenta;
+    /** Apellidos distintos presentes en la población. */
+    public String[] apellidos;
+
+    /** Indica si las direcciones ya se cargaron en este proceso. */
+    private static boolean direccionesCargadas = false;
+
+    /**
+     * Genera la población y las entradas de las consultas.
+     */
+    @Setup(Level.Trial)
+    public void preparar() {
+        cargarDirecciones();
+        modulo = new ModuloRegistros();
+        controlador = new ControladorAlumnos(modulo);
+
+        ConfiguracionGeneracion configuracion = new ConfiguracionGeneracion(tamanio, SEMILLA);
+        configuracion.setPrimerNumCuenta(1000000);
+        GeneradorDatos.generarAlumnos(modulo, configuracion);
+        controlador.asignarNumerosDeInscripcion();
+
+        List<Alumno> registrados = modulo.getAlumnos();
+        alumnos = registrados.toArray(new Alumno[0]);
+
+        numerosDeCuenta = new long[alumnos.length];
+        Set<String> distintos = new LinkedHashSet<>();
+        for (int i = 0; i < alumnos.length; i++) {
+            numerosDeCuenta[i] = alumnos[i].getNumCuenta();
+            distintos.add(alumnos[i].getPrimerApellido());
+        }
+        apellidos = distintos.toArray(new String[0]);
+
+        // Barajar los números de cuenta (Fisher-Yates determinista) para no consultar en orden de alta
+        SplittableRandom aleatorio = new SplittableRandom(SEMILLA);
+        for (int i = numerosDeCuenta.length - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            long temporal = numerosDeCuenta[i];
+            numerosDeCuenta[i] = numerosDeCuenta[j];
+            numerosDeCuenta[j] = temporal;
+        }
+    }
+
+    private static synchronized void cargarDirecciones() {
+        if (direccionesCargadas) {
+            return;
+        }
+        String ruta = System.getProperty("hu03.direcciones");
+        if (ruta == null) {
+            ruta = new File("../direcciones.txt").isFile() ? "../direcciones.txt" : "direcciones.txt";
+        }
+        GeneradorDatos.cargarDirecciones(ruta);
+        direccionesCargadas = true;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * RankingBenchmark: Mide la asignación completa de números de inscripción
+ * ({@link hu03.controlador.ControladorAlumnos#asignarNumerosDeInscripcion()}).
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dfile.encoding=UTF-8"})
+public class RankingBenchmark {
+
+    /**
+     * Asigna el número de inscripción a todos los alumnos de la población.
+     * @param poblacion La población generada.
+     */
+    @Benchmark
+    public void asignarNumerosDeInscripcion(PoblacionEstado poblacion) {
+        poblacion.controlador.asignarNumerosDeInscripcion();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.benchmarks;
+
+import hu03.modelo.Alumno;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * RepositorioBenchmark: Mide las operaciones puntuales de {@link hu03.repositorio.ModuloRegistros}:
+ * generación del registro académico de un alumno registrado (incluye su reubicación en el ranking),
+ * búsqueda por número de cuenta y búsqueda por apellido.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dfile.encoding=UTF-8"})
+public class RepositorioBenchmark {
+
+    /** Posición de la siguiente entrada a consultar. */
+    private int cursor;
+    /** Generador de calificaciones, con semilla fija. */
+    private final SplittableRandom aleatorio = new SplittableRandom(PoblacionEstado.SEMILLA);
+
+    /**
+     * Regenera el historial académico de un alumno ya registrado.
+     * @param poblacion La población generada.
+     * @return El nuevo Indicador Bruto del alumno.
+     */
+    @Benchmark
+    public long generarRegistroAcademico(PoblacionEstado poblacion) {
+        Alumno alumno = poblacion.alumnos[siguiente(poblacion.alumnos.length)];
+        poblacion.modulo.generarRegistroAcademico(alumno, aleatorio);
+        return alumno.getIndicadorBruto();
+    }
+
+    /**
+     * Busca un alumno existente por su número de cuenta.
+     * @param poblacion La población generada.
+     * @return El alumno encontrado.
+     */
+    @Benchmark
+    public Alumno buscarAlumnoPorNumCuenta(PoblacionEstado poblacion) {
+        return poblacion.modulo.buscarAlumnoPorNumCuenta(poblacion.numerosDeCuenta[siguiente(poblacion.numerosDeCuenta.length)]);
+    }
+
+    /**
+     * Busca a los alumnos con un apellido existente.
+     * @param poblacion La población generada.
+     * @return Los alumnos encontrados.
+     */
+    @Benchmark
+    public List<Alumno> buscarAlumnosPorApellido(PoblacionEstado poblacion) {
+        return poblacion.modulo.buscarAlumnosPorApellido(poblacion.apellidos[siguiente(poblacion.apellidos.length)]);
+    }
+
+    private int siguiente(int limite) {
+        int actual = cursor;
+        cursor = actual + 1 < limite ? actual + 1 : 0;
+        return actual;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+package hu03.app;
+
+import hu03.controlador.ServidorRegistros;
+import hu03.repositorio.BitacoraOperaciones;
+import hu03.repositorio.ModuloRegistros;
+import hu03.repositorio.ModuloRegistrosConcurrente;
+import hu03.utilidades.GeneradorDatos;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Punto de entrada alternativo que atiende el registro de alumnos como un servicio HTTP/JSON
+ * (ver {@link ServidorRegistros}) en lugar del menú de consola, para varias terminales o
+ * pruebas de carga. Los alumnos se inicializan igual que en {@link HU03}: desde el snapshot
+ * {@value HU03#RUTA_SNAPSHOT} y su bitácora si existen, o generándolos. Cuando hay bitácora, se
+ * revisa su tamaño periódicamente y, al pasar de {@value #TAMANIO_BITACORA_PARA_COMPACTAR} bytes,
+ * se guarda un snapshot nuevo y se vacía, para que no crezca sin límite mientras el servidor atiende.
+ * * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class HU03Servidor {
+
+    /**
+     * Puerto en el que escucha el servidor cuando no se indica otro.
+     */
+    private static final int PUERTO_POR_DEFECTO = 8080;
+
+    /**
+     * Tamaño de la bitácora (bytes) a partir del cual se compacta.
+     */
+    private static final long TAMANIO_BITACORA_PARA_COMPACTAR = 64L * 1024 * 1024;
+
+    /**
+     * Segundos entre revisiones del tamaño de la bitácora.
+     */
+    private static final int SEGUNDOS_ENTRE_REVISIONES = 30;
+
+    /**
+     * Inicia el servidor; se detiene con Ctrl+C, volcando antes la bitácora.
+     * * @param args Argumentos de la línea de comandos: opcionalmente el puerto, la cantidad de alumnos
+     * a generar y la semilla ({@code java -cp HU03.jar hu03.app.HU03Servidor [puerto] [cantidad] [semilla]}).
+     * Si solo se indica el puerto y existe el snapshot, los alumnos se cargan de él.
+     */
+    public static void main(String[] args) {
+        int puerto = PUERTO_POR_DEFECTO;
+        int cantidad = HU03.CANTIDAD_ALUMNOS_INICIAL;
+        long semilla = System.nanoTime();
+        try {
+            if (args.length > 0) {
+                puerto = Integer.parseInt(args[0]);
+            }
+            if (args.length > 1) {
+                cantidad = Integer.parseInt(args[1]);
+            }
+            if (args.length > 2) {
+                semilla = Long.parseLong(args[2]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("ERROR: Argumentos no validos. Uso: java -cp HU03.jar hu03.app.HU03Servidor [puerto] [cantidad] [semilla]");
+            return;
+        }
+        if (cantidad < 0) {
+            System.err.println("ERROR: La cantidad de alumnos no puede ser negativa.");
+            return;
+        }
+
+        GeneradorDatos.cargarDirecciones(HU03.RUTA_DIRECCIONES);
+
+        ModuloRegistros modulo = args.length <= 1 ? HU03.cargarSnapshot(HU03.RUTA_SNAPSHOT) : null;
+        BitacoraOperaciones bitacora = null;
+        if (modulo != null) {
+            // Bitácora no síncrona: las escrituras simultáneas comparten una sola sincronización
+            bitacora = HU03.abrirBitacora(HU03.RUTA_BITACORA, modulo, false);
+            HU03.avanzarContadorNumCuenta(modulo);
+        } else {
+            modulo = new ModuloRegistros();
+            GeneradorDatos.generarAlumnos(modulo, cantidad, semilla);
+            System.out.println("ADVERTENCIA: Sin snapshot, los cambios recibidos solo se conservan en memoria.");
+        }
+
+        ModuloRegistrosConcurrente registros = new ModuloRegistrosConcurrente(modulo);
+        registros.setBitacora(bitacora);
+        ServidorRegistros servidor = new ServidorRegistros(registros);
+        try {
+            servidor.iniciar(puerto);
+        } catch (IOException e) {
+            System.err.println("ERROR al iniciar el servidor en el puerto " + puerto + ": " + e.getMessage());
+            cerrarBitacora(bitacora);
+            return;
+        }
+
+        BitacoraOperaciones bitacoraFinal = bitacora;
+        ScheduledExecutorService compactador = null;
+        if (bitacora != null) {
+            compactador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+                Thread hilo = new Thread(tarea, "compactador-bitacora");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+            compactador.scheduleWithFixedDelay(() -> compactarSiExcede(registros, bitacoraFinal),
+                                               SEGUNDOS_ENTRE_REVISIONES, SEGUNDOS_ENTRE_REVISIONES, TimeUnit.SECONDS);
+        }
+        ScheduledExecutorService compactadorFinal = compactador;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.detener(1);
+            detenerCompactador(compactadorFinal);
+            cerrarBitacora(bitacoraFinal);
+            System.out.println("Servidor detenido.");
+        }));
+        System.out.println("Servidor escuchando en http://localhost:" + servidor.getPuerto() + "/ con "
+                           + registros.tamanio() + " alumnos ("
+                           + (servidor.usaHilosVirtuales() ? "hilos virtuales" : "grupo de hilos") + ").");
+        System.out.println("Presione Ctrl+C para detenerlo.");
+    }
+
+    /**
+     * Guarda un snapshot nuevo y vacía la bitácora si esta ya pasó del tamaño máximo. Los errores
+     * se informan sin detener las revisiones siguientes.
+     * * @param registros El registro de alumnos que atiende el servidor.
+     * @param bitacora La bitácora del registro.
+     */
+    private static void compactarSiExcede(ModuloRegistrosConcurrente registros, BitacoraOperaciones bitacora) {
+        long tamanio = bitacora.getTamanio();
+        if (tamanio < TAMANIO_BITACORA_PARA_COMPACTAR) {
+            return;
+        }
+        try {
+            long inicio = System.nanoTime();
+            registros.guardarSnapshot(HU03.RUTA_SNAPSHOT);
+            System.out.println("Bitacora compactada (" + tamanio + " bytes): snapshot de " + registros.tamanio()
+                               + " alumnos guardado en " + HU03.RUTA_SNAPSHOT + " en "
+                               + (System.nanoTime() - inicio) / 1_000_000 + " ms.");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ERROR al compactar la bitacora: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Detiene las revisiones de la bitácora, esperando a que termine una compactación en curso.
+     * * @param compactador El ejecutor de las revisiones, o null.
+     */
+    private static void detenerCompactador(ScheduledExecutorService compactador) {
+        if (compactador == null) {
+            return;
+        }
+        compactador.shutdown();
+        try {
+            compactador.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Vuelca las operaciones pendientes de la bitácora (si hay una) y la cierra.
+     * * @param bitacora La bitácora, o null.
+     */
+    private static void cerrarBitacora(BitacoraOperaciones bitacora) {
+        if (bitacora == null) {
+            return;
+        }
+        try {
+            bitacora.close();
+        } catch (IOException e) {
+            System.err.println("ERROR al cerrar la bitacora: " + e.getMessage());
+        }
+    }
+}
@@ -1,395 +1,616 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-package hu03.controlador;
-
-import hu03.repositorio.ModuloRegistros;
-import hu03.modelo.Alumno;
-import hu03.modelo.RegistroAcademico; 
-import hu03.utilidades.GeneradorDatos;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-
-/**
- * ControladorAlumnos: Gestiona las operaciones CRUD y Reportes del sistema.
- * Actúa como el intermediario entre la Vista (HU03) y el Modelo/Repositorio (ModuloRegistros).
- * Contiene la lógica de negocio para la gestión y el ranking de los alumnos.
- * * @author EnrollEngine
- * @version 3.10.18
- */
-public class ControladorAlumnos {
-    /**
-     * Referencia al Módulo de Registros (Repositorio o Modelo) que contiene la lista de alumnos.
-     */
-    ModuloRegistros repositorio;
-
-    /**
-     * Constructor del controlador de alumnos.
-     * * @param repositorio Instancia del ModuloRegistros que proporciona acceso a los datos.
-     */
-    public ControladorAlumnos(ModuloRegistros repositorio) {
-        this.repositorio = repositorio;
-    }
-    
-    // ===============================================
-    //            ASIGNACIÓN DE NÚMERO DE INSCRIPCIÓN
-    // ===============================================
-
-    /**
-     * Calcula el ranking para todos los alumnos basado en dos criterios:
-     * 1. Indicador Bruto (Descendente).
-     * 2. Primer Apellido (Ascendente, como desempate).
-     * El resultado (el puesto en el ranking) se asigna como el Num. Inscripción Final
-     * a cada objeto Alumno. Se debe llamar después de cualquier modificación de datos.
-     */
-    public void asignarNumerosDeInscripcion() {
-        if (repositorio.getAlumnos().isEmpty()) {
-            return;
-        }
-
-        List<Alumno> alumnosOrdenables = new ArrayList<>(repositorio.getAlumnos());
-
-        // Ordenar con la lógica de desempate (Indicador Bruto Descendente, Apellido Ascendente)
-        Collections.sort(alumnosOrdenables, new Comparator<Alumno>() {
-            @Override
-            public int compare(Alumno a1, Alumno a2) {
-                long indicador1 = a1.getIndicadorBruto();
-                long indicador2 = a2.getIndicadorBruto();
-                
-                // Criterio 1: Ordenar por Indicador Bruto (Descendente)
-                int comparacionIndicador = Long.compare(indicador2, indicador1); 
-
-                if (comparacionIndicador != 0) {
-                    return comparacionIndicador;
-                } else {
-                    // Criterio 2: Desempate por Primer Apellido (Ascendente / Alfabético)
-                    return a1.getPrimerApellido().compareTo(a2.getPrimerApellido()); 
-                }
-            }
-        });
-
-        // Asignar el puesto (Número de Inscripción Final) a CADA alumno
-        for (int i = 0; i < alumnosOrdenables.size(); i++) {
-            Alumno alumno = alumnosOrdenables.get(i);
-            int numInscripcionAsignado = i + 1; // Puesto 1, 2, 3...
-            
-            // Almacenar el puesto en el objeto Alumno
-            alumno.setNumInscripcionFinal(numInscripcionAsignado);
-        }
-        
-        // System.out.println("⚙️ Se han actualizado los Números de Inscripción para todos los alumnos.");
-    }
-    
-    // ===============================================
-    //              CREAR (C)
-    // ===============================================
-
-    /**
-     * Crea una nueva instancia de Alumno, genera su registro académico inicial
-     * y lo añade al repositorio. Finalmente, actualiza el ranking global.
-     * * @param primerNombre Primer nombre del alumno.
-     * @param segundoNombre Segundo nombre del alumno.
-     * @param primerApellido Primer apellido del alumno.
-     * @param segundoApellido Segundo apellido del alumno.
-     * @param edad Edad del alumno.
-     * @param semestre Semestre que cursa el alumno.
-     * @param direccion Dirección de residencia del alumno.
-     * @param genero Género del alumno.
-     * @return El objeto Alumno recién creado.
-     */
-    public Alumno crearAlumno(String primerNombre, String segundoNombre, String primerApellido, 
-                             String segundoApellido, int edad, int semestre, String direccion, String genero) {
-        
-        long numCuenta = GeneradorDatos.generarNumCuenta();
-        String carrera = "Ingenieria en Computacion"; 
-        
-        Alumno nuevoAlumno = new Alumno(
-            numCuenta, primerNombre, segundoNombre, primerApellido, segundoApellido, 
-            edad, carrera, semestre, direccion, genero
-        );
-        
-        // Generar las materias y notas para el nuevo alumno
-        repositorio.generarRegistroAcademico(nuevoAlumno);
-        // Añadir al repositorio
-        repositorio.agregarAlumno(nuevoAlumno);
-        
-        // Actualizar ranking para incluir al nuevo alumno
-        asignarNumerosDeInscripcion(); 
-        
-        System.out.println("Alumno creado exitosamente. Cuenta: " + numCuenta + 
-                             " | Indicador: " + nuevoAlumno.getIndicadorBruto()); 
-        return nuevoAlumno;
-    }
-    
-    
-    // ===============================================
-    //              LEER (R)
-    // ===============================================
-
-    /**
-     * Busca un alumno dentro del repositorio utilizando su número de cuenta.
-     * * @param numCuenta El número de cuenta (identificador único) del alumno a buscar.
-     * @return El objeto Alumno si es encontrado, o null si no existe.
-     */
-    public Alumno buscarAlumnoPorNumCuenta(long numCuenta) {
-        for (Alumno alumno : repositorio.getAlumnos()) {
-            if (alumno.getNumCuenta() == numCuenta) {
-                return alumno;
-            }
-        }
-        return null; 
-    }
-
-    // ===============================================
-    //              EDITAR (U)
-    // ===============================================
-
-    /**
-     * Edita los datos personales de un alumno existente.
-     * Si se cambia el semestre, se recalcula el registro académico y el Indicador Bruto.
-     * * @param numCuenta Número de cuenta del alumno a editar.
-     * @param nuevoPrimerNombre Nuevo primer nombre.
-     * @param nuevoSegundoNombre Nuevo segundo nombre.
-     * @param nuevoPrimerApellido Nuevo primer apellido.
-     * @param nuevoSegundoApellido Nuevo segundo apellido.
-     * @param nuevaEdad Nueva edad.
-     * @param nuevoSemestre Nuevo semestre (si es diferente, se regenera el registro académico).
-     * @param nuevaDireccion Nueva dirección.
-     * @param nuevoGenero Nuevo género.
-     * @return true si el alumno fue editado con éxito, false si no fue encontrado.
-     */
-    public boolean editarAlumno(long numCuenta, 
-                                 String nuevoPrimerNombre, String nuevoSegundoNombre, 
-                                 String nuevoPrimerApellido, String nuevoSegundoApellido, 
-                                 int nuevaEdad, int nuevoSemestre, String nuevaDireccion, String nuevoGenero) {
-        
-        Alumno alumno = buscarAlumnoPorNumCuenta(numCuenta);
-        if (alumno == null) {
-            System.out.println("Error: No se encontro un alumno con la cuenta: " + numCuenta);
-            return false;
-        }
-        
-        // Actualización de los campos personales
-        alumno.setPrimerNombre(nuevoPrimerNombre);
-        alumno.setSegundoNombre(nuevoSegundoNombre);
-        alumno.setPrimerApellido(nuevoPrimerApellido);
-        alumno.setSegundoApellido(nuevoSegundoApellido);
-        alumno.setEdad(nuevaEdad);
-        alumno.setDireccion(nuevaDireccion);
-        alumno.setGenero(nuevoGenero);
-        
-        // Si se edita el semestre, hay que recalcular el indicador y el registro
-        if (nuevoSemestre > 0 && alumno.getSemestre() != nuevoSemestre) {
-            alumno.setSemestre(nuevoSemestre);
-            // Se asume que generarRegistroAcademico también recalcula el IndicadorBruto
-            repositorio.generarRegistroAcademico(alumno); 
-        }
-        
-        // Recalcular el ranking global debido a posibles cambios en el Indicador Bruto (por cambio de semestre)
-        asignarNumerosDeInscripcion(); 
-
-        System.out.println("Registro del alumno " + numCuenta + " modificado con exito.");
-        return true;
-    }
-    
-    // ===============================================
-    //              ELIMINAR (D)
-    // ===============================================
-
-    /**
-     * Elimina un alumno del repositorio utilizando un Iterador.
-     * El ranking global se actualiza tras la eliminación.
-     * * @param numCuenta Número de cuenta del alumno a eliminar.
-     * @return true si el alumno fue eliminado con éxito, false si no fue encontrado.
-     */
-    public boolean eliminarAlumno(long numCuenta) {
-        Iterator<Alumno> it = repositorio.getAlumnos().iterator();
-        while (it.hasNext()) {
-            Alumno alumno = it.next();
-            if (alumno.getNumCuenta() == numCuenta) {
-                it.remove(); 
-                
-                // Actualizar ranking
-                asignarNumerosDeInscripcion(); 
-                
-                System.out.println("🗑️ Alumno con cuenta " + numCuenta + " eliminado del registro.");
-                return true;
-            }
-        }
-        System.out.println("Error: No se encontro un alumno con la cuenta: " + numCuenta + " para eliminar.");
-        return false; 
-    }
-
-    // ===============================================
-    //            5. IMPRESIÓN AL AZAR
-    // ===============================================
-
-    /**
-     * Imprime una cantidad especificada de alumnos seleccionados aleatoriamente.
-     * La lista completa se mezcla (shuffle) antes de seleccionar la cantidad deseada.
-     * * @param cantidad Número de alumnos a imprimir.
-     */
-    public void imprimirAlumnosAlAzar(int cantidad) {
-        List<Alumno> alumnos = repositorio.getAlumnos();
-        
-        if (alumnos.isEmpty()) {
-            System.out.println("No hay alumnos registrados para seleccionar al azar.");
-            return;
-        }
-        
-        // 1. Asegurar que el ranking esté actualizado para mostrar el puesto
-        asignarNumerosDeInscripcion(); 
-        
-        // 2. Determinar la cantidad real a imprimir
-        int numAImprimir = Math.min(cantidad, alumnos.size());
-        
-        if (numAImprimir <= 0) {
-              System.out.println("La cantidad debe ser mayor a 0 o se excede el maximo (" + alumnos.size() + ").");
-              return;
-        }
-        
-        // 3. Crear una copia de la lista y mezclarla (Shuffle)
-        List<Alumno> copiaAlumnos = new ArrayList<>(alumnos);
-        Collections.shuffle(copiaAlumnos);
-        
-        // 4. Imprimir la lista
-        System.out.println("\n==================================================");
-        System.out.println("      " + numAImprimir + " ALUMNOS SELECCIONADOS AL AZAR      ");
-        System.out.println("==================================================");
-
-        for (int i = 0; i < numAImprimir; i++) {
-            Alumno alumno = copiaAlumnos.get(i);
-            
-            System.out.printf("%d. Cuenta: %-10d | Nombre: %s | Num Inscripcion: %d | Indicador: %d\n",
-                              (i + 1),
-                              alumno.getNumCuenta(),
-                              alumno.getNombreCompleto(),
-                              alumno.getNumInscripcionFinal(),
-                              alumno.getIndicadorBruto());
-        }
-        System.out.println("==================================================");
-    }
-    
-    // ===============================================
-    //            7. REPORTE TOP 10 INDICADOR
-    // ===============================================
-
-    /**
-     * Genera y muestra por consola el reporte del Top 10 de alumnos,
-     * ordenados por su Número de Inscripción Final (puesto en el ranking).
-     */
-    public void imprimirTop10Indicador() {
-        if (repositorio.getAlumnos().isEmpty()) {
-            System.out.println("No hay alumnos registrados para generar el ranking.");
-            return;
-        }
-        
-        // Asegurar que el ranking esté actualizado antes de generar el reporte
-        asignarNumerosDeInscripcion(); 
-
-        // 1. Crear una copia de la lista para ordenar
-        List<Alumno> alumnosOrdenables = new ArrayList<>(repositorio.getAlumnos());
-
-        // 2. Ordenar usando el Num. Inscripción Final ya asignado (puesto)
-        Collections.sort(alumnosOrdenables, new Comparator<Alumno>() {
-            @Override
-            public int compare(Alumno a1, Alumno a2) {
-                // Ordenar por Num. Inscripción Final (el puesto): Ascendente (1 es mejor)
-                return Integer.compare(a1.getNumInscripcionFinal(), a2.getNumInscripcionFinal());
-            }
-        });
-
-        // 3. Imprimir el Top 10
-        int numAImprimir = Math.min(10, alumnosOrdenables.size());
-
-        System.out.println("\n==================================================");
-        System.out.println("      TOP " + numAImprimir + " ALUMNOS - NUM. INSCRIPCION ASIGNADO      ");
-        System.out.println("==================================================");
-
-        for (int i = 0; i < numAImprimir; i++) {
-            Alumno alumno = alumnosOrdenables.get(i);
-            
-            int numInscripcionAsignado = alumno.getNumInscripcionFinal(); 
-            long indicadorBruto = alumno.getIndicadorBruto();
-
-            String ranking = String.format("%-4s", numInscripcionAsignado + ".");
-            
-            System.out.printf("%s Num. Inscripcion: %-4d | Indicador: %-12d | Cuenta: %-10d | Nombre: %s\n",
-                              ranking,
-                              numInscripcionAsignado,
-                              indicadorBruto,
-                              alumno.getNumCuenta(),
-                              alumno.getNombreCompleto());
-        }
-        System.out.println("==================================================");
-    }
-    
-    // ===============================================
-    //            8. EXPORTAR A CSV (NUEVO)
-    // ===============================================
-
-    /**
-     * Exporta todos los registros de alumnos al formato CSV.
-     * Los alumnos se ordenan por su Número de Inscripción Final (Ranking).
-     * * @param nombreArchivo El nombre del archivo CSV a crear/sobrescribir.
-     */
-    public void exportarAlumnosACsv(String nombreArchivo) {
-        if (repositorio.getAlumnos().isEmpty()) {
-            System.out.println("No hay alumnos registrados para exportar.");
-            return;
-        }
-
-        // 1. Asegurar que el ranking esté actualizado antes de exportar
-        asignarNumerosDeInscripcion();
-
-        // Obtener la lista de alumnos y ordenar por Num. Inscripción Final (Ranking)
-        List<Alumno> alumnosOrdenados = new ArrayList<>(repositorio.getAlumnos());
-        // Uso de lambda para ordenar por NumInscripcionFinal (Ascendente)
-        Collections.sort(alumnosOrdenados, (a1, a2) -> 
-            Integer.compare(a1.getNumInscripcionFinal(), a2.getNumInscripcionFinal()));
-        
-        // Usamos try-with-resources para asegurar que el FileWriter se cierre automáticamente
-        try (FileWriter writer = new FileWriter(nombreArchivo)) {
-            
-            // =========================================================
-            // 2. Escribir la cabecera (Header)
-            // =========================================================
-            writer.append("NumInscripcion,NumCuenta,NombreCompleto,PrimerApellido,SegundoApellido,Semestre,Edad,IndicadorBruto,Promedio,AsignaturasAprobadas,TotalCreditos\n");
-            
-            // =========================================================
-            // 3. Escribir los registros de cada alumno
-            // =========================================================
-            for (Alumno alumno : alumnosOrdenados) {
-                RegistroAcademico registro = alumno.getRegistroAcademico();
-                
-                // Usamos String.format para garantizar la consistencia en el orden y formato
-                String linea = String.format(
-                    "%d,%d,\"%s\",\"%s\",\"%s\",%d,%d,%d,%.2f,%d,%d\n",
-                    alumno.getNumInscripcionFinal(),        // NumInscripcion
-                    alumno.getNumCuenta(),                  // NumCuenta
-                    alumno.getNombreCompleto().replace(",", "."), // NombreCompleto (reemplazar comas dentro del nombre)
-                    alumno.getPrimerApellido(),             // PrimerApellido
-                    alumno.getSegundoApellido(),            // SegundoApellido
-                    alumno.getSemestre(),                   // Semestre
-                    alumno.getEdad(),                       // Edad
-                    alumno.getIndicadorBruto(),             // IndicadorBruto
-                    registro.calcularPromedio(),            // Promedio (2 decimales)
-                    registro.getAsignaturasAprobadas(),     // AsignaturasAprobadas
-                    registro.getTotalCreditos()             // TotalCreditos
-                );
-                writer.append(linea);
-            }
-
-            System.out.println("Exito: Los datos de los " + alumnosOrdenados.size() + " alumnos han sido exportados a: " + nombreArchivo);
-
-        } catch (IOException e) {
-            System.err.println("ERROR al escribir el archivo CSV: " + e.getMessage());
-        }
-    }
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.controlador;
+
+import hu03.repositorio.BitacoraOperaciones;
+import hu03.repositorio.ModuloRegistros;
+import hu03.repositorio.SnapshotRegistros;
+import hu03.modelo.Alumno;
+import hu03.modelo.DatosAlumno;
+import hu03.utilidades.ExportadorCsv;
+import hu03.utilidades.GeneradorDatos;
+import hu03.utilidades.ImportadorCsv;
+import java.io.IOException;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ControladorAlumnos: Gestiona las operaciones CRUD y Reportes del sistema.
+ * Actúa como el intermediario entre la Vista (HU03) y el Modelo/Repositorio (ModuloRegistros).
+ * Contiene la lógica de negocio para la gestión y el ranking de los alumnos.
+ * * @author EnrollEngine
+ * @version 3.10.18
+ */
+public class ControladorAlumnos {
+    /**
+     * Referencia al Módulo de Registros (Repositorio o Modelo) que contiene la lista de alumnos.
+     */
+    ModuloRegistros repositorio;
+
+    /**
+     * Bitácora donde se registran las altas, ediciones y bajas para poder recuperarlas
+     * después de una falla, o null si los cambios solo viven en memoria.
+     */
+    private BitacoraOperaciones bitacora;
+
+    /**
+     * Constructor del controlador de alumnos.
+     * * @param repositorio Instancia del ModuloRegistros que proporciona acceso a los datos.
+     */
+    public ControladorAlumnos(ModuloRegistros repositorio) {
+        this.repositorio = repositorio;
+    }
+
+    /**
+     * Establece la bitácora donde se registran las operaciones CRUD.
+     * * @param bitacora La bitácora abierta, o null para no registrar las operaciones.
+     */
+    public void setBitacora(BitacoraOperaciones bitacora) {
+        this.bitacora = bitacora;
+    }
+
+    /**
+     * Vuelca las operaciones pendientes de la bitácora (si hay una) y la cierra.
+     */
+    public void cerrarBitacora() {
+        if (bitacora == null) {
+            return;
+        }
+        try {
+            bitacora.close();
+        } catch (IOException e) {
+            System.err.println("ERROR al cerrar la bitacora: " + e.getMessage());
+        }
+        bitacora = null;
+    }
+    
+    // ===============================================
+    //            ASIGNACIÓN DE NÚMERO DE INSCRIPCIÓN
+    // ===============================================
+
+    /**
+     * Materializa el ranking en todos los alumnos basado en dos criterios:
+     * 1. Indicador Bruto (Descendente).
+     * 2. Primer Apellido (Ascendente, como desempate).
+     * El repositorio mantiene el ranking ordenado de forma incremental, por lo que este método
+     * solo recorre el orden existente (O(n), sin ordenar) y copia el puesto como el
+     * Num. Inscripción Final de cada objeto Alumno. Las operaciones CRUD ya no necesitan
+     * llamarlo: el repositorio asigna su nuevo puesto al alumno que agrega o modifica, y el
+     * puesto vigente de cualquier alumno se obtiene con
+     * {@link ModuloRegistros#obtenerNumInscripcion(Alumno)}.
+     */
+    public void asignarNumerosDeInscripcion() {
+        int numInscripcionAsignado = 1; // Puesto 1, 2, 3...
+        for (Alumno alumno : repositorio.getAlumnosPorRanking()) {
+            // Almacenar el puesto en el objeto Alumno
+            alumno.setNumInscripcionFinal(numInscripcionAsignado++);
+        }
+    }
+    
+    /**
+     * Recalcula el Indicador Bruto de todos los alumnos a partir de sus registros académicos
+     * actuales (ver {@link ModuloRegistros#recalcularIndicadores()}) y vuelve a materializar
+     * el Num. Inscripción de cada alumno.
+     * Los indicadores recalculados no se registran en la bitácora (se derivan de los registros):
+     * para conservarlos al reiniciar, hay que guardar un snapshot.
+     */
+    public void recalcularIndicadores() {
+        long inicio = System.nanoTime();
+        int cambios = repositorio.recalcularIndicadores();
+        asignarNumerosDeInscripcion();
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println("Indicadores recalculados para " + repositorio.getAlumnos().size() + " alumnos en "
+                           + milisegundos + " ms (" + cambios + " cambiaron).");
+        if (cambios > 0 && bitacora != null) {
+            System.out.println("Guarde un snapshot para conservar los indicadores recalculados.");
+        }
+    }
+    
+    // ===============================================
+    //              CREAR (C)
+    // ===============================================
+
+    /**
+     * Crea una nueva instancia de Alumno, genera su registro académico inicial
+     * y lo añade al repositorio, que lo inserta en el ranking global en O(log n).
+     * * @param primerNombre Primer nombre del alumno.
+     * @param segundoNombre Segundo nombre del alumno.
+     * @param primerApellido Primer apellido del alumno.
+     * @param segundoApellido Segundo apellido del alumno.
+     * @param edad Edad del alumno.
+     * @param semestre Semestre que cursa el alumno.
+     * @param direccion Dirección de residencia del alumno.
+     * @param genero Género del alumno.
+     * @return El objeto Alumno recién creado.
+     */
+    public Alumno crearAlumno(String primerNombre, String segundoNombre, String primerApellido, 
+                             String segundoApellido, int edad, int semestre, String direccion, String genero) {
+        
+        long numCuenta = GeneradorDatos.generarNumCuenta();
+        String carrera = "Ingenieria en Computacion"; 
+        
+        Alumno nuevoAlumno = new Alumno(
+            numCuenta, primerNombre, segundoNombre, primerApellido, segundoApellido, 
+            edad, carrera, semestre, direccion, genero
+        );
+        
+        // Generar las materias y notas para el nuevo alumno
+        repositorio.generarRegistroAcademico(nuevoAlumno);
+        // Añadir al repositorio (y al ranking)
+        repositorio.agregarAlumno(nuevoAlumno);
+        if (bitacora != null) {
+            try {
+                bitacora.registrarAlta(nuevoAlumno);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: El alta no se pudo registrar en la bitacora: " + e.getMessage());
+            }
+        }
+        
+        System.out.println("Alumno creado exitosamente. Cuenta: " + numCuenta + 
+                             " | Indicador: " + nuevoAlumno.getIndicadorBruto()); 
+        return nuevoAlumno;
+    }
+    
+    
+    // ===============================================
+    //              LEER (R)
+    // ===============================================
+
+    /**
+     * Busca un alumno dentro del repositorio utilizando su número de cuenta.
+     * La búsqueda se resuelve con el índice de clave primaria del repositorio (O(1)) y no
+     * modifica al alumno: su Num. Inscripción se asigna cuando cambian sus datos.
+     * * @param numCuenta El número de cuenta (identificador único) del alumno a buscar.
+     * @return El objeto Alumno si es encontrado, o null si no existe.
+     */
+    public Alumno buscarAlumnoPorNumCuenta(long numCuenta) {
+        return repositorio.buscarAlumnoPorNumCuenta(numCuenta);
+    }
+
+    // ===============================================
+    //              EDITAR (U)
+    // ===============================================
+
+    /**
+     * Edita los datos personales de un alumno existente.
+     * Si se cambia el semestre, se recalcula el registro académico y el Indicador Bruto.
+     * * @param numCuenta Número de cuenta del alumno a editar.
+     * @param nuevoPrimerNombre Nuevo primer nombre.
+     * @param nuevoSegundoNombre Nuevo segundo nombre.
+     * @param nuevoPrimerApellido Nuevo primer apellido.
+     * @param nuevoSegundoApellido Nuevo segundo apellido.
+     * @param nuevaEdad Nueva edad.
+     * @param nuevoSemestre Nuevo semestre (si es diferente, se regenera el registro académico).
+     * @param nuevaDireccion Nueva dirección.
+     * @param nuevoGenero Nuevo género.
+     * @return true si el alumno fue editado con éxito, false si no fue encontrado.
+     */
+    public boolean editarAlumno(long numCuenta, 
+                                 String nuevoPrimerNombre, String nuevoSegundoNombre, 
+                                 String nuevoPrimerApellido, String nuevoSegundoApellido, 
+                                 int nuevaEdad, int nuevoSemestre, String nuevaDireccion, String nuevoGenero) {
+        
+        // La modificación se aplica a través del repositorio para reubicar al alumno en el ranking
+        Alumno alumno = repositorio.modificarAlumno(numCuenta, a -> {
+            // Actualización de los campos personales
+            a.setPrimerNombre(nuevoPrimerNombre);
+            a.setSegundoNombre(nuevoSegundoNombre);
+            a.setPrimerApellido(nuevoPrimerApellido);
+            a.setSegundoApellido(nuevoSegundoApellido);
+            a.setEdad(nuevaEdad);
+            a.setDireccion(nuevaDireccion);
+            a.setGenero(nuevoGenero);
+            
+            // Si se edita el semestre, hay que recalcular el indicador y el registro
+            if (nuevoSemestre > 0 && a.getSemestre() != nuevoSemestre) {
+                a.setSemestre(nuevoSemestre);
+                // generarRegistroAcademico también recalcula el IndicadorBruto
+                repositorio.generarRegistroAcademico(a); 
+            }
+        });
+        if (alumno == null) {
+            System.out.println("Error: No se encontro un alumno con la cuenta: " + numCuenta);
+            return false;
+        }
+        if (bitacora != null) {
+            try {
+                bitacora.registrarModificacion(alumno);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: La edicion no se pudo registrar en la bitacora: " + e.getMessage());
+            }
+        }
+
+        System.out.println("Registro del alumno " + numCuenta + " modificado con exito.");
+        return true;
+    }
+    
+    // ===============================================
+    //              ELIMINAR (D)
+    // ===============================================
+
+    /**
+     * Elimina un alumno del repositorio utilizando el índice por número de cuenta.
+     * El repositorio retira al alumno del ranking global en O(log n).
+     * * @param numCuenta Número de cuenta del alumno a eliminar.
+     * @return true si el alumno fue eliminado con éxito, false si no fue encontrado.
+     */
+    public boolean eliminarAlumno(long numCuenta) {
+        Alumno eliminado = repositorio.eliminarAlumno(numCuenta);
+        if (eliminado != null) {
+            if (bitacora != null) {
+                try {
+                    bitacora.registrarBaja(numCuenta);
+                } catch (IOException e) {
+                    System.err.println("ADVERTENCIA: La baja no se pudo registrar en la bitacora: " + e.getMessage());
+                }
+            }
+            System.out.println("🗑️ Alumno con cuenta " + numCuenta + " eliminado del registro.");
+            return true;
+        }
+        System.out.println("Error: No se encontro un alumno con la cuenta: " + numCuenta + " para eliminar.");
+        return false; 
+    }
+
+    // ===============================================
+    //              OPERACIONES POR LOTES
+    // ===============================================
+
+    /**
+     * Da de alta un lote de alumnos (por ejemplo, las inscripciones de inicio de semestre).
+     * Primero se validan todos los datos: si alguno no es válido, no se aplica ninguna alta.
+     * Los números de cuenta se reservan en un solo bloque y el repositorio inserta el lote en
+     * el ranking con una sola pasada si es grande (ver {@link ModuloRegistros#agregarAlumnos}).
+     * * @param solicitudes Los datos de cada alumno a crear.
+     * @return Los alumnos creados, en el orden de las solicitudes; vacía si el lote fue rechazado.
+     */
+    public List<Alumno> crearAlumnos(List<DatosAlumno> solicitudes) {
+        if (!validarDatos(solicitudes)) {
+            System.out.println("Error: Lote rechazado, no se creo ningun alumno.");
+            return Collections.emptyList();
+        }
+        long inicio = System.nanoTime();
+        long numCuenta = GeneradorDatos.reservarBloqueNumCuenta(solicitudes.size());
+        String carrera = "Ingenieria en Computacion";
+        List<Alumno> nuevos = new ArrayList<>(solicitudes.size());
+        for (DatosAlumno datos : solicitudes) {
+            Alumno alumno = new Alumno(
+                numCuenta++, datos.getPrimerNombre(), datos.getSegundoNombre(), datos.getPrimerApellido(),
+                datos.getSegundoApellido(), datos.getEdad(), carrera, datos.getSemestre(),
+                datos.getDireccion(), datos.getGenero()
+            );
+            repositorio.generarRegistroAcademico(alumno);
+            nuevos.add(alumno);
+        }
+        repositorio.agregarAlumnos(nuevos);
+        if (bitacora != null) {
+            try {
+                bitacora.registrarAltas(nuevos);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: Las altas no se pudieron registrar en la bitacora: " + e.getMessage());
+            }
+        }
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println(nuevos.size() + " alumnos creados en " + milisegundos + " ms.");
+        return nuevos;
+    }
+
+    /**
+     * Edita los datos personales de un lote de alumnos, como {@link #editarAlumno} para cada uno:
+     * los datos se reemplazan completos y, si cambia el semestre, se regenera el registro académico.
+     * Si algún número de cuenta no existe o algún dato no es válido, no se aplica ninguna edición.
+     * * @param ediciones Los nuevos datos de cada alumno, por número de cuenta.
+     * @return true si se aplicó el lote, false si fue rechazado.
+     */
+    public boolean editarAlumnos(Map<Long, DatosAlumno> ediciones) {
+        boolean valido = validarDatos(new ArrayList<>(ediciones.values()));
+        valido &= validarExistencia(ediciones.keySet());
+        if (!valido) {
+            System.out.println("Error: Lote rechazado, no se modifico ningun alumno.");
+            return false;
+        }
+        long inicio = System.nanoTime();
+        Map<Long, Consumer<Alumno>> modificaciones = new LinkedHashMap<>();
+        for (Map.Entry<Long, DatosAlumno> edicion : ediciones.entrySet()) {
+            DatosAlumno datos = edicion.getValue();
+            modificaciones.put(edicion.getKey(), a -> {
+                a.setPrimerNombre(datos.getPrimerNombre());
+                a.setSegundoNombre(datos.getSegundoNombre());
+                a.setPrimerApellido(datos.getPrimerApellido());
+                a.setSegundoApellido(datos.getSegundoApellido());
+                a.setEdad(datos.getEdad());
+                a.setDireccion(datos.getDireccion());
+                a.setGenero(datos.getGenero());
+                if (a.getSemestre() != datos.getSemestre()) {
+                    a.setSemestre(datos.getSemestre());
+                    // generarRegistroAcademico también recalcula el IndicadorBruto
+                    repositorio.generarRegistroAcademico(a);
+                }
+            });
+        }
+        List<Alumno> modificados = repositorio.modificarAlumnos(modificaciones);
+        if (bitacora != null) {
+            try {
+                bitacora.registrarModificaciones(modificados);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: Las ediciones no se pudieron registrar en la bitacora: " + e.getMessage());
+            }
+        }
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println(modificados.size() + " registros modificados en " + milisegundos + " ms.");
+        return true;
+    }
+
+    /**
+     * Elimina un lote de alumnos. Si algún número de cuenta no existe, no se elimina ninguno.
+     * * @param numCuentas Los números de cuenta de los alumnos a eliminar.
+     * @return true si se aplicó el lote, false si fue rechazado.
+     */
+    public boolean eliminarAlumnos(Collection<Long> numCuentas) {
+        if (!validarExistencia(numCuentas)) {
+            System.out.println("Error: Lote rechazado, no se elimino ningun alumno.");
+            return false;
+        }
+        long inicio = System.nanoTime();
+        List<Alumno> eliminados = repositorio.eliminarAlumnos(numCuentas);
+        if (bitacora != null) {
+            List<Long> cuentasEliminadas = new ArrayList<>(eliminados.size());
+            for (Alumno alumno : eliminados) {
+                cuentasEliminadas.add(alumno.getNumCuenta());
+            }
+            try {
+                bitacora.registrarBajas(cuentasEliminadas);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: Las bajas no se pudieron registrar en la bitacora: " + e.getMessage());
+            }
+        }
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println(eliminados.size() + " alumnos eliminados del registro en " + milisegundos + " ms.");
+        return true;
+    }
+
+    /**
+     * Valida los datos de un lote, imprimiendo cada problema encontrado.
+     * @return true si todos los datos son válidos.
+     */
+    private boolean validarDatos(List<DatosAlumno> lote) {
+        boolean valido = true;
+        for (int i = 0; i < lote.size(); i++) {
+            String error = lote.get(i) == null ? "Faltan los datos." : lote.get(i).validar();
+            if (error != null) {
+                System.out.println("Error en el elemento " + (i + 1) + " del lote: " + error);
+                valido = false;
+            }
+        }
+        return valido;
+    }
+
+    /**
+     * Verifica que todos los números de cuenta de un lote estén registrados, imprimiendo los que no.
+     * @return true si todos existen.
+     */
+    private boolean validarExistencia(Collection<Long> numCuentas) {
+        boolean valido = true;
+        for (Long numCuenta : numCuentas) {
+            if (numCuenta == null || repositorio.buscarAlumnoPorNumCuenta(numCuenta) == null) {
+                System.out.println("Error: No se encontro un alumno con la cuenta: " + numCuenta);
+                valido = false;
+            }
+        }
+        return valido;
+    }
+
+    // ===============================================
+    //            5. IMPRESIÓN AL AZAR
+    // ===============================================
+
+    /**
+     * Imprime una cantidad especificada de alumnos seleccionados aleatoriamente.
+     * La lista completa se mezcla (shuffle) antes de seleccionar la cantidad deseada.
+     * * @param cantidad Número de alumnos a imprimir.
+     */
+    public void imprimirAlumnosAlAzar(int cantidad) {
+        List<Alumno> alumnos = repositorio.getAlumnos();
+        
+        if (alumnos.isEmpty()) {
+            System.out.println("No hay alumnos registrados para seleccionar al azar.");
+            return;
+        }
+        
+        // 1. Determinar la cantidad real a imprimir
+        int numAImprimir = Math.min(cantidad, alumnos.size());
+        
+        if (numAImprimir <= 0) {
+              System.out.println("La cantidad debe ser mayor a 0 o se excede el maximo (" + alumnos.size() + ").");
+              return;
+        }
+        
+        // 2. Crear una copia de la lista y mezclarla (Shuffle)
+        List<Alumno> copiaAlumnos = new ArrayList<>(alumnos);
+        Collections.shuffle(copiaAlumnos);
+        
+        // 3. Imprimir la lista (el puesto se calcula bajo demanda solo para los impresos)
+        System.out.println("\n==================================================");
+        System.out.println("      " + numAImprimir + " ALUMNOS SELECCIONADOS AL AZAR      ");
+        System.out.println("==================================================");
+
+        for (int i = 0; i < numAImprimir; i++) {
+            Alumno alumno = copiaAlumnos.get(i);
+            
+            System.out.printf("%d. Cuenta: %-10d | Nombre: %s | Num Inscripcion: %d | Indicador: %d\n",
+                              (i + 1),
+                              alumno.getNumCuenta(),
+                              alumno.getNombreCompleto(),
+                              repositorio.obtenerNumInscripcion(alumno),
+                              alumno.getIndicadorBruto());
+        }
+        System.out.println("==================================================");
+    }
+    
+    // ===============================================
+    //            7. REPORTE TOP 10 INDICADOR
+    // ===============================================
+
+    /**
+     * Obtiene los K alumnos con mejor puesto en el ranking (mayor Indicador Bruto).
+     * Todos los reportes que necesiten un "Top N" deben usar este método, que consulta
+     * directamente el ranking del repositorio sin ordenar a toda la población.
+     * * @param k Cantidad de alumnos a obtener.
+     * @return Lista con a lo más k alumnos; la posición i de la lista corresponde al puesto i + 1.
+     */
+    public List<Alumno> topK(int k) {
+        return repositorio.topK(k);
+    }
+
+    /**
+     * Genera y muestra por consola el reporte del Top 10 de alumnos,
+     * ordenados por su Número de Inscripción Final (puesto en el ranking).
+     */
+    public void imprimirTop10Indicador() {
+        if (repositorio.getAlumnos().isEmpty()) {
+            System.out.println("No hay alumnos registrados para generar el ranking.");
+            return;
+        }
+        
+        // 1. Obtener el Top 10 directamente del ranking
+        List<Alumno> mejores = topK(10);
+
+        // 2. Imprimir el Top 10
+        int numAImprimir = mejores.size();
+
+        System.out.println("\n==================================================");
+        System.out.println("      TOP " + numAImprimir + " ALUMNOS - NUM. INSCRIPCION ASIGNADO      ");
+        System.out.println("==================================================");
+
+        for (int i = 0; i < numAImprimir; i++) {
+            Alumno alumno = mejores.get(i);
+            
+            int numInscripcionAsignado = i + 1; // El orden de la lista es el puesto
+            long indicadorBruto = alumno.getIndicadorBruto();
+
+            String ranking = String.format("%-4s", numInscripcionAsignado + ".");
+            
+            System.out.printf("%s Num. Inscripcion: %-4d | Indicador: %-12d | Cuenta: %-10d | Nombre: %s\n",
+                              ranking,
+                              numInscripcionAsignado,
+                              indicadorBruto,
+                              alumno.getNumCuenta(),
+                              alumno.getNombreCompleto());
+        }
+        System.out.println("==================================================");
+    }
+    
+    // ===============================================
+    //            8. EXPORTAR A CSV (NUEVO)
+    // ===============================================
+
+    /**
+     * Exporta todos los registros de alumnos al formato CSV.
+     * Los alumnos se escriben recorriendo directamente el ranking (sin reordenar), por lo que
+     * el Número de Inscripción exportado es el puesto vigente de cada alumno.
+     * * @param nombreArchivo El nombre del archivo CSV a crear/sobrescribir.
+     */
+    public void exportarAlumnosACsv(String nombreArchivo) {
+        if (repositorio.getAlumnos().isEmpty()) {
+            System.out.println("No hay alumnos registrados para exportar.");
+            return;
+        }
+
+        try {
+            int exportados = ExportadorCsv.exportar(repositorio.getAlumnosPorRanking(), nombreArchivo);
+            System.out.println("Exito: Los datos de los " + exportados + " alumnos han sido exportados a: " + nombreArchivo);
+        } catch (IOException e) {
+            System.err.println("ERROR al escribir el archivo CSV: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Exporta todos los registros de alumnos al formato CSV formateando bloques del ranking
+     * en paralelo (ver {@link ExportadorCsv#exportarEnParalelo}). Produce el mismo archivo que
+     * {@link #exportarAlumnosACsv(String)}, pero su tiempo escala con la cantidad de núcleos;
+     * conviene para poblaciones grandes.
+     * * @param nombreArchivo El nombre del archivo CSV a crear/sobrescribir.
+     */
+    public void exportarAlumnosACsvEnParalelo(String nombreArchivo) {
+        if (repositorio.getAlumnos().isEmpty()) {
+            System.out.println("No hay alumnos registrados para exportar.");
+            return;
+        }
+
+        try {
+            List<Alumno> alumnosEnOrden = repositorio.topK(repositorio.getAlumnos().size());
+            int exportados = ExportadorCsv.exportarEnParalelo(alumnosEnOrden, nombreArchivo);
+            System.out.println("Exito: Los datos de los " + exportados + " alumnos han sido exportados a: " + nombreArchivo);
+        } catch (IOException e) {
+            System.err.println("ERROR al escribir el archivo CSV: " + e.getMessage());
+        }
+    }
+
+    // ===============================================
+    //            IMPORTAR DESDE CSV
+    // ===============================================
+
+    /**
+     * Importa alumnos y sus calificaciones desde archivos CSV (ver {@link ImportadorCsv}):
+     * los archivos se leen de forma continua, los indicadores se calculan en paralelo y los
+     * alumnos entran al ranking en una sola pasada. Si falla la lectura, no se importa ninguno.
+     * * @param rutaAlumnos La ruta del archivo CSV de alumnos.
+     * @param rutaCalificaciones La ruta del archivo CSV de calificaciones, o null para importar
+     *                           a los alumnos sin calificaciones.
+     * @return La cantidad de alumnos importados.
+     */
+    public int importarAlumnosDeCsv(String rutaAlumnos, String rutaCalificaciones) {
+        long inicio = System.nanoTime();
+        List<Alumno> importados;
+        try {
+            importados = ImportadorCsv.importar(repositorio, rutaAlumnos, rutaCalificaciones);
+        } catch (IOException e) {
+            System.err.println("ERROR al importar el archivo CSV: " + e.getMessage());
+            return 0;
+        }
+        if (bitacora != null) {
+            try {
+                bitacora.registrarAltas(importados);
+            } catch (IOException e) {
+                System.err.println("ADVERTENCIA: Las altas importadas no se pudieron registrar en la bitacora: " + e.getMessage());
+            }
+        }
+        long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        System.out.println("Exito: " + importados.size() + " alumnos importados de " + rutaAlumnos + " en "
+                           + milisegundos + " ms.");
+        return importados.size();
+    }
+
+    // ===============================================
+    //              SNAPSHOT BINARIO
+    // ===============================================
+
+    /**
+     * Guarda el estado completo del repositorio (catálogo, alumnos, registros y ranking)
+     * en un snapshot binario que puede cargarse al reiniciar la aplicación
+     * (ver {@link SnapshotRegistros}). Si hay una bitácora, se compacta: sus operaciones quedan
+     * incluidas en el snapshot y se vacía; si no la hay, se crea una nueva a partir de este
+     * snapshot para registrar los cambios siguientes.
+     * * @param ruta La ruta del archivo de snapshot a crear/sobrescribir.
+     * @param rutaBitacora La ruta de la bitácora asociada al snapshot.
+     */
+    public void guardarSnapshot(String ruta, String rutaBitacora) {
+        try {
+            if (bitacora != null) {
+                bitacora.compactar(repositorio, ruta);
+            } else {
+                SnapshotRegistros.guardar(repositorio, ruta);
+                bitacora = BitacoraOperaciones.crear(rutaBitacora, true);
+            }
+            System.out.println("Exito: Snapshot de " + repositorio.getAlumnos().size() + " alumnos guardado en: " + ruta);
+        } catch (IOException e) {
+            System.err.println("ERROR al guardar el snapshot: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
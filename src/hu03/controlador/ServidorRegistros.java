@@ -0,0 +1,477 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.controlador;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hu03.modelo.Alumno;
+import hu03.repositorio.ModuloRegistrosConcurrente;
+import hu03.repositorio.VistaRanking;
+import hu03.utilidades.FormatoJson;
+import hu03.utilidades.GeneradorDatos;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ServidorRegistros: Servidor HTTP embebido (com.sun.net.httpserver) que expone el registro de
+ * alumnos como un servicio JSON, para atender a varios clientes a la vez y hacer pruebas de carga
+ * con herramientas locales. Todas las operaciones pasan por un {@link ModuloRegistrosConcurrente}.
+ * <p>
+ * Rutas:
+ * <pre>
+ * GET    /alumnos/{numCuenta}                          Consulta de un alumno
+ * GET    /alumnos?apellido=...                         Búsqueda por apellido
+ * GET    /alumnos?prefijo=...[&amp;pagina=0&amp;tamanio=20]     Búsqueda por prefijo de nombre o apellido
+ * POST   /alumnos                                      Alta (cuerpo JSON)
+ * PUT    /alumnos/{numCuenta}                          Edición (cuerpo JSON con los campos a cambiar)
+ * DELETE /alumnos/{numCuenta}                          Baja
+ * GET    /ranking?k=10                                 Top K (desde la vista inmutable del ranking)
+ * </pre>
+ * Los cuerpos de más de {@value #TAMANIO_MAXIMO_CUERPO} bytes se rechazan con 413 sin leerlos
+ * completos.
+ * <p>
+ * Cada petición se atiende en un hilo virtual cuando la JVM los ofrece (Java 21 o posterior);
+ * en versiones anteriores se usa un grupo de hilos que crece según la demanda.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class ServidorRegistros {
+
+    /** Carrera asignada a los alumnos dados de alta por el servicio. */
+    private static final String CARRERA = "Ingenieria en Computacion";
+
+    /** Tamaño de página de la búsqueda por prefijo cuando no se indica otro. */
+    private static final int TAMANIO_PAGINA_POR_DEFECTO = 20;
+
+    /** Cantidad máxima de alumnos que puede pedir una sola consulta. */
+    private static final int MAXIMO_POR_CONSULTA = 1000;
+
+    /** Tamaño máximo en bytes del cuerpo de una petición (un alumno ocupa menos de 1 KiB). */
+    private static final int TAMANIO_MAXIMO_CUERPO = 64 * 1024;
+
+    private final ModuloRegistrosConcurrente registros;
+    private HttpServer servidor;
+    private ExecutorService ejecutor;
+    private boolean hilosVirtuales;
+
+    /**
+     * Crea el servidor sobre el registro indicado (aún sin escuchar).
+     * @param registros El registro de alumnos con acceso concurrente.
+     */
+    public ServidorRegistros(ModuloRegistrosConcurrente registros) {
+        this.registros = registros;
+    }
+
+    /**
+     * Comienza a escuchar peticiones en el puerto indicado.
+     * @param puerto El puerto TCP (0 para que el sistema elija uno libre).
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public synchronized void iniciar(int puerto) throws IOException {
+        if (servidor != null) {
+            return;
+        }
+        HttpServer nuevo = HttpServer.create(new InetSocketAddress(puerto), 0);
+        nuevo.createContext("/alumnos", this::atenderAlumnos);
+        nuevo.createContext("/ranking", this::atenderRanking);
+        ejecutor = crearEjecutor();
+        nuevo.setExecutor(ejecutor);
+        nuevo.start();
+        servidor = nuevo;
+    }
+
+    /**
+     * Deja de aceptar peticiones, espera a lo más el tiempo indicado a las que están en curso
+     * y libera los hilos.
+     * @param segundosEspera Segundos de espera para las peticiones en curso.
+     */
+    public synchronized void detener(int segundosEspera) {
+        if (servidor == null) {
+            return;
+        }
+        servidor.stop(segundosEspera);
+        ejecutor.shutdown();
+        servidor = null;
+    }
+
+    /**
+     * @return El puerto en el que escucha el servidor, o -1 si no está iniciado.
+     */
+    public synchronized int getPuerto() {
+        return servidor == null ? -1 : servidor.getAddress().getPort();
+    }
+
+    /**
+     * @return true si las peticiones se atienden en hilos virtuales.
+     */
+    public synchronized boolean usaHilosVirtuales() {
+        return hilosVirtuales;
+    }
+
+    // ===============================================
+    //                     RUTAS
+    // ===============================================
+
+    private void atenderAlumnos(HttpExchange intercambio) throws IOException {
+        try {
+            String ruta = intercambio.getRequestURI().getPath();
+            String metodo = intercambio.getRequestMethod();
+            if (ruta.equals("/alumnos") || ruta.equals("/alumnos/")) {
+                if (metodo.equals("GET")) {
+                    buscarAlumnos(intercambio);
+                } else if (metodo.equals("POST")) {
+                    crearAlumno(intercambio);
+                } else {
+                    responderError(intercambio, 405, "Metodo no permitido: " + metodo);
+                }
+                return;
+            }
+            long numCuenta = leerNumCuenta(ruta.substring("/alumnos/".length()));
+            if (metodo.equals("GET")) {
+                consultarAlumno(intercambio, numCuenta);
+            } else if (metodo.equals("PUT")) {
+                editarAlumno(intercambio, numCuenta);
+            } else if (metodo.equals("DELETE")) {
+                eliminarAlumno(intercambio, numCuenta);
+            } else {
+                responderError(intercambio, 405, "Metodo no permitido: " + metodo);
+            }
+        } catch (IllegalArgumentException e) {
+            responderError(intercambio, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("ERROR al atender " + intercambio.getRequestURI() + ": " + e);
+            responderError(intercambio, 500, "Error interno del servidor");
+        } finally {
+            intercambio.close();
+        }
+    }
+
+    private void atenderRanking(HttpExchange intercambio) throws IOException {
+        try {
+            if (!intercambio.getRequestMethod().equals("GET")) {
+                responderError(intercambio, 405, "Metodo no permitido: " + intercambio.getRequestMethod());
+                return;
+            }
+            Map<String, String> parametros = leerParametros(intercambio);
+            int k = leerEntero(parametros, "k", 10, 0, MAXIMO_POR_CONSULTA);
+            // La vista ya está ordenada y no requiere candados
+            VistaRanking vista = registros.getVistaRanking();
+            int cantidad = Math.min(k, vista.tamanio());
+            StringBuilder json = new StringBuilder(64 + cantidad * 96);
+            json.append("{\"version\":").append(vista.getVersion())
+                .append(",\"total\":").append(vista.tamanio())
+                .append(",\"alumnos\":[");
+            for (int i = 0; i < cantidad; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"numInscripcion\":").append(i + 1)
+                    .append(",\"numCuenta\":").append(vista.getNumCuenta(i))
+                    .append(",\"nombreCompleto\":");
+                FormatoJson.escribirTexto(json, vista.getNombreCompleto(i));
+                json.append(",\"indicadorBruto\":").append(vista.getIndicadorBruto(i)).append('}');
+            }
+            json.append("]}");
+            responder(intercambio, 200, json);
+        } catch (IllegalArgumentException e) {
+            responderError(intercambio, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("ERROR al atender " + intercambio.getRequestURI() + ": " + e);
+            responderError(intercambio, 500, "Error interno del servidor");
+        } finally {
+            intercambio.close();
+        }
+    }
+
+    // ===============================================
+    //                   CONSULTAS
+    // ===============================================
+
+    private void consultarAlumno(HttpExchange intercambio, long numCuenta) throws IOException {
+        consultarAlumno(intercambio, numCuenta, 200);
+    }
+
+    /**
+     * Responde con los datos vigentes de un alumno, copiados con el candado de lectura para que
+     * una edición simultánea no los cambie a la mitad (404 si el alumno no existe).
+     */
+    private void consultarAlumno(HttpExchange intercambio, long numCuenta, int codigo) throws IOException {
+        StringBuilder json = registros.leer(modulo -> {
+            Alumno alumno = modulo.buscarAlumnoPorNumCuenta(numCuenta);
+            if (alumno == null) {
+                return null;
+            }
+            StringBuilder salida = new StringBuilder(512);
+            FormatoJson.escribirAlumno(salida, alumno, modulo.obtenerNumInscripcion(alumno));
+            return salida;
+        });
+        if (json == null) {
+            responderError(intercambio, 404, "No existe un alumno con la cuenta " + numCuenta);
+        } else {
+            responder(intercambio, codigo, json);
+        }
+    }
+
+    private void buscarAlumnos(HttpExchange intercambio) throws IOException {
+        Map<String, String> parametros = leerParametros(intercambio);
+        String apellido = parametros.get("apellido");
+        String prefijo = parametros.get("prefijo");
+        if ((apellido == null) == (prefijo == null)) {
+            throw new IllegalArgumentException("Indique exactamente uno de los parametros 'apellido' o 'prefijo'");
+        }
+        int pagina = leerEntero(parametros, "pagina", 0, 0, Integer.MAX_VALUE);
+        int tamanio = leerEntero(parametros, "tamanio", TAMANIO_PAGINA_POR_DEFECTO, 1, MAXIMO_POR_CONSULTA);
+        StringBuilder json = registros.leer(modulo -> {
+            List<Alumno> encontrados = apellido != null
+                    ? modulo.buscarAlumnosPorApellido(apellido)
+                    : modulo.buscarAlumnosPorPrefijo(prefijo, pagina, tamanio);
+            int cantidad = Math.min(encontrados.size(), MAXIMO_POR_CONSULTA);
+            StringBuilder salida = new StringBuilder(64 + cantidad * 400);
+            salida.append("{\"total\":").append(encontrados.size()).append(",\"alumnos\":[");
+            for (int i = 0; i < cantidad; i++) {
+                if (i > 0) {
+                    salida.append(',');
+                }
+                Alumno alumno = encontrados.get(i);
+                FormatoJson.escribirAlumno(salida, alumno, modulo.obtenerNumInscripcion(alumno));
+            }
+            return salida.append("]}");
+        });
+        responder(intercambio, 200, json);
+    }
+
+    // ===============================================
+    //              ALTAS, BAJAS Y CAMBIOS
+    // ===============================================
+
+    private void crearAlumno(HttpExchange intercambio) throws IOException {
+        String cuerpo = leerCuerpo(intercambio);
+        if (cuerpo == null) {
+            responderCuerpoDemasiadoGrande(intercambio);
+            return;
+        }
+        Map<String, String> campos = FormatoJson.leerObjeto(cuerpo);
+        String primerNombre = requerirTexto(campos, "primerNombre");
+        String primerApellido = requerirTexto(campos, "primerApellido");
+        int edad = requerirEntero(campos, "edad", 18, 25);
+        int semestre = requerirEntero(campos, "semestre", 1, 10);
+        String genero = campos.get("genero");
+
+        Alumno alumno = new Alumno(GeneradorDatos.generarNumCuenta(), primerNombre, campos.get("segundoNombre"),
+                                   primerApellido, campos.get("segundoApellido"), edad, CARRERA, semestre,
+                                   campos.get("direccion"), genero == null ? null : genero.toUpperCase());
+        if (!registros.agregarAlumno(alumno, true)) {
+            responderError(intercambio, 409, "Ya existe un alumno con la cuenta " + alumno.getNumCuenta());
+            return;
+        }
+        consultarAlumno(intercambio, alumno.getNumCuenta(), 201);
+    }
+
+    private void editarAlumno(HttpExchange intercambio, long numCuenta) throws IOException {
+        String cuerpo = leerCuerpo(intercambio);
+        if (cuerpo == null) {
+            responderCuerpoDemasiadoGrande(intercambio);
+            return;
+        }
+        Map<String, String> campos = FormatoJson.leerObjeto(cuerpo);
+        // Se validan todos los campos antes de modificar al alumno
+        Integer edad = campos.containsKey("edad") ? requerirEntero(campos, "edad", 18, 25) : null;
+        Integer semestre = campos.containsKey("semestre") ? requerirEntero(campos, "semestre", 1, 10) : null;
+        if (campos.containsKey("primerNombre")) {
+            requerirTexto(campos, "primerNombre");
+        }
+        if (campos.containsKey("primerApellido")) {
+            requerirTexto(campos, "primerApellido");
+        }
+
+        // Si cambia el semestre, se genera un registro académico nuevo (y su indicador)
+        Alumno alumno = registros.modificarAlumno(numCuenta, a -> {
+            if (campos.containsKey("primerNombre")) {
+                a.setPrimerNombre(campos.get("primerNombre"));
+            }
+            if (campos.containsKey("segundoNombre")) {
+                a.setSegundoNombre(campos.get("segundoNombre"));
+            }
+            if (campos.containsKey("primerApellido")) {
+                a.setPrimerApellido(campos.get("primerApellido"));
+            }
+            if (campos.containsKey("segundoApellido")) {
+                a.setSegundoApellido(campos.get("segundoApellido"));
+            }
+            if (campos.containsKey("direccion")) {
+                a.setDireccion(campos.get("direccion"));
+            }
+            if (campos.containsKey("genero")) {
+                String genero = campos.get("genero");
+                a.setGenero(genero == null ? null : genero.toUpperCase());
+            }
+            if (edad != null) {
+                a.setEdad(edad);
+            }
+            if (semestre != null) {
+                a.setSemestre(semestre);
+            }
+        }, a -> semestre != null && a.getSemestre() != semestre);
+        if (alumno == null) {
+            responderError(intercambio, 404, "No existe un alumno con la cuenta " + numCuenta);
+            return;
+        }
+        consultarAlumno(intercambio, numCuenta);
+    }
+
+    private void eliminarAlumno(HttpExchange intercambio, long numCuenta) throws IOException {
+        if (registros.eliminarAlumno(numCuenta) == null) {
+            responderError(intercambio, 404, "No existe un alumno con la cuenta " + numCuenta);
+            return;
+        }
+        responder(intercambio, 200, new StringBuilder("{\"numCuenta\":").append(numCuenta).append(",\"eliminado\":true}"));
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /**
+     * Crea el ejecutor de las peticiones: un hilo virtual por petición si la JVM lo permite
+     * (se busca por reflexión, ya que el proyecto compila para Java 8), o un grupo de hilos
+     * que crece según la demanda.
+     */
+    private ExecutorService crearEjecutor() {
+        try {
+            Method fabrica = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            hilosVirtuales = true;
+            return (ExecutorService) fabrica.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            hilosVirtuales = false;
+            return Executors.newCachedThreadPool(tarea -> {
+                Thread hilo = new Thread(tarea, "servidor-registros");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        }
+    }
+
+    private static long leerNumCuenta(String texto) {
+        try {
+            return Long.parseLong(texto);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Numero de cuenta no valido: " + texto);
+        }
+    }
+
+    private static Map<String, String> leerParametros(HttpExchange intercambio) throws UnsupportedEncodingException {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = intercambio.getRequestURI().getRawQuery();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String nombre = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.put(URLDecoder.decode(nombre, "UTF-8"), URLDecoder.decode(valor, "UTF-8"));
+        }
+        return parametros;
+    }
+
+    private static int leerEntero(Map<String, String> parametros, String nombre, int porDefecto, int minimo, int maximo) {
+        String valor = parametros.get(nombre);
+        if (valor == null) {
+            return porDefecto;
+        }
+        return validarEntero(nombre, valor, minimo, maximo);
+    }
+
+    private static int requerirEntero(Map<String, String> campos, String nombre, int minimo, int maximo) {
+        String valor = campos.get(nombre);
+        if (valor == null) {
+            throw new IllegalArgumentException("Falta el campo '" + nombre + "'");
+        }
+        return validarEntero(nombre, valor, minimo, maximo);
+    }
+
+    private static int validarEntero(String nombre, String valor, int minimo, int maximo) {
+        int numero;
+        try {
+            numero = Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + nombre + "' debe ser un numero entero: " + valor);
+        }
+        if (numero < minimo || numero > maximo) {
+            throw new IllegalArgumentException("'" + nombre + "' debe estar entre " + minimo + " y " + maximo);
+        }
+        return numero;
+    }
+
+    private static String requerirTexto(Map<String, String> campos, String nombre) {
+        String valor = campos.get(nombre);
+        if (valor == null || valor.trim().isEmpty()) {
+            throw new IllegalArgumentException("Falta el campo '" + nombre + "'");
+        }
+        return valor;
+    }
+
+    /**
+     * Lee el cuerpo de la petición como texto UTF-8, sin guardar en memoria más de
+     * {@link #TAMANIO_MAXIMO_CUERPO} bytes: si la cabecera Content-Length ya excede el máximo
+     * no se lee nada, y si el cuerpo no la declara se deja de leer al pasar del máximo.
+     * @return El cuerpo, o null si excede el tamaño máximo.
+     */
+    private static String leerCuerpo(HttpExchange intercambio) throws IOException {
+        String longitudDeclarada = intercambio.getRequestHeaders().getFirst("Content-Length");
+        if (longitudDeclarada != null) {
+            try {
+                if (Long.parseLong(longitudDeclarada.trim()) > TAMANIO_MAXIMO_CUERPO) {
+                    return null;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Content-Length no valido: " + longitudDeclarada);
+            }
+        }
+        ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+        byte[] bufer = new byte[4096];
+        try (InputStream entrada = intercambio.getRequestBody()) {
+            int leidos;
+            while ((leidos = entrada.read(bufer)) != -1) {
+                if (cuerpo.size() + leidos > TAMANIO_MAXIMO_CUERPO) {
+                    return null;
+                }
+                cuerpo.write(bufer, 0, leidos);
+            }
+        }
+        return new String(cuerpo.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void responderCuerpoDemasiadoGrande(HttpExchange intercambio) throws IOException {
+        responderError(intercambio, 413, "El cuerpo de la peticion excede " + TAMANIO_MAXIMO_CUERPO + " bytes");
+    }
+
+    private static void responderError(HttpExchange intercambio, int codigo, String mensaje) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        FormatoJson.escribirTexto(json, mensaje);
+        responder(intercambio, codigo, json.append('}'));
+    }
+
+    private static void responder(HttpExchange intercambio, int codigo, CharSequence json) throws IOException {
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        intercambio.sendResponseHeaders(codigo, bytes.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(bytes);
+        }
+    }
+}
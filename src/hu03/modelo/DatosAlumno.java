@@ -0,0 +1,207 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.modelo;
+
+/**
+ * DatosAlumno: Datos personales capturados para dar de alta o editar a un alumno en una
+ * operación por lotes. No incluye número de cuenta, carrera, registro académico ni
+ * indicador: esos los asigna el sistema.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class DatosAlumno {
+    /** Edad mínima aceptada para un alumno. */
+    public static final int EDAD_MINIMA = 18;
+    /** Edad máxima aceptada para un alumno. */
+    public static final int EDAD_MAXIMA = 25;
+    /** Primer semestre de la carrera. */
+    public static final int SEMESTRE_MINIMO = 1;
+    /** Último semestre de la carrera. */
+    public static final int SEMESTRE_MAXIMO = 10;
+
+    /** Primer nombre del alumno. */
+    private String primerNombre;
+    /** Segundo nombre del alumno (puede estar vacío). */
+    private String segundoNombre;
+    /** Primer apellido del alumno. */
+    private String primerApellido;
+    /** Segundo apellido del alumno (puede estar vacío). */
+    private String segundoApellido;
+    /** Edad del alumno. */
+    private int edad;
+    /** Semestre que cursa el alumno. */
+    private int semestre;
+    /** Dirección de residencia del alumno. */
+    private String direccion;
+    /** Género del alumno. */
+    private String genero;
+
+    /**
+     * Constructor por defecto.
+     */
+    public DatosAlumno() {
+    }
+
+    /**
+     * Constructor que inicializa todos los datos.
+     * @param primerNombre Primer nombre del alumno.
+     * @param segundoNombre Segundo nombre del alumno.
+     * @param primerApellido Primer apellido del alumno.
+     * @param segundoApellido Segundo apellido del alumno.
+     * @param edad Edad del alumno.
+     * @param semestre Semestre que cursa el alumno.
+     * @param direccion Dirección de residencia del alumno.
+     * @param genero Género del alumno.
+     */
+    public DatosAlumno(String primerNombre, String segundoNombre, String primerApellido, String segundoApellido,
+                       int edad, int semestre, String direccion, String genero) {
+        this.primerNombre = primerNombre;
+        this.segundoNombre = segundoNombre;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.edad = edad;
+        this.semestre = semestre;
+        this.direccion = direccion;
+        this.genero = genero;
+    }
+
+    /**
+     * Verifica que los datos puedan aplicarse a un alumno: nombre y primer apellido
+     * no vacíos, y edad y semestre dentro de sus rangos.
+     * @return La descripción del primer problema encontrado, o null si los datos son válidos.
+     */
+    public String validar() {
+        if (primerNombre == null || primerNombre.trim().isEmpty()) {
+            return "El primer nombre es obligatorio.";
+        }
+        if (primerApellido == null || primerApellido.trim().isEmpty()) {
+            return "El primer apellido es obligatorio.";
+        }
+        if (edad < EDAD_MINIMA || edad > EDAD_MAXIMA) {
+            return "La edad debe estar entre " + EDAD_MINIMA + " y " + EDAD_MAXIMA + " (se recibio " + edad + ").";
+        }
+        if (semestre < SEMESTRE_MINIMO || semestre > SEMESTRE_MAXIMO) {
+            return "El semestre debe estar entre " + SEMESTRE_MINIMO + " y " + SEMESTRE_MAXIMO
+                   + " (se recibio " + semestre + ").";
+        }
+        return null;
+    }
+
+    // --- Getters ---
+
+    /**
+     * @return El primer nombre del alumno.
+     */
+    public String getPrimerNombre() {
+        return primerNombre;
+    }
+
+    /**
+     * @return El segundo nombre del alumno.
+     */
+    public String getSegundoNombre() {
+        return segundoNombre;
+    }
+
+    /**
+     * @return El primer apellido del alumno.
+     */
+    public String getPrimerApellido() {
+        return primerApellido;
+    }
+
+    /**
+     * @return El segundo apellido del alumno.
+     */
+    public String getSegundoApellido() {
+        return segundoApellido;
+    }
+
+    /**
+     * @return La edad del alumno.
+     */
+    public int getEdad() {
+        return edad;
+    }
+
+    /**
+     * @return El semestre que cursa el alumno.
+     */
+    public int getSemestre() {
+        return semestre;
+    }
+
+    /**
+     * @return La dirección de residencia del alumno.
+     */
+    public String getDireccion() {
+        return direccion;
+    }
+
+    /**
+     * @return El género del alumno.
+     */
+    public String getGenero() {
+        return genero;
+    }
+
+    // --- Setters ---
+
+    /**
+     * @param primerNombre Nuevo primer nombre.
+     */
+    public void setPrimerNombre(String primerNombre) {
+        this.primerNombre = primerNombre;
+    }
+
+    /**
+     * @param segundoNombre Nuevo segundo nombre.
+     */
+    public void setSegundoNombre(String segundoNombre) {
+        this.segundoNombre = segundoNombre;
+    }
+
+    /**
+     * @param primerApellido Nuevo primer apellido.
+     */
+    public void setPrimerApellido(String primerApellido) {
+        this.primerApellido = primerApellido;
+    }
+
+    /**
+     * @param segundoApellido Nuevo segundo apellido.
+     */
+    public void setSegundoApellido(String segundoApellido) {
+        this.segundoApellido = segundoApellido;
+    }
+
+    /**
+     * @param edad Nueva edad.
+     */
+    public void setEdad(int edad) {
+        this.edad = edad;
+    }
+
+    /**
+     * @param semestre Nuevo semestre.
+     */
+    public void setSemestre(int semestre) {
+        this.semestre = semestre;
+    }
+
+    /**
+     * @param direccion Nueva dirección.
+     */
+    public void setDireccion(String direccion) {
+        this.direccion = direccion;
+    }
+
+    /**
+     * @param genero Nuevo género.
+     */
+    public void setGenero(String genero) {
+        this.genero = genero;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.modelo;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DiccionarioTexto: Codificación por diccionario de valores de texto muy repetidos
+ * (direcciones, carreras, géneros). Cada valor distinto se guarda una sola vez y se
+ * identifica con un código entero consecutivo, de modo que los objetos que lo usan
+ * solo almacenan el código.
+ * <p>
+ * Es seguro para varios hilos: la búsqueda de un valor ya registrado no se sincroniza y
+ * el registro de un valor nuevo sí. Los valores nunca se eliminan del diccionario, por lo
+ * que cada instancia pertenece a un módulo o a un almacén y se libera junto con él.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class DiccionarioTexto {
+
+    /** Código que representa un valor {@code null}. */
+    public static final int NULO = -1;
+
+    /** Código asignado a cada valor registrado. */
+    private final ConcurrentHashMap<String, Integer> codigos = new ConcurrentHashMap<>();
+    /** Valores registrados; la posición es el código. Se reemplaza (no se modifica) al crecer. */
+    private volatile String[] valores = new String[16];
+    /** Cantidad de valores registrados. */
+    private volatile int cantidad;
+
+    /**
+     * Obtiene el código de un valor, registrándolo si es la primera vez que aparece.
+     * @param valor El texto a codificar (puede ser {@code null}).
+     * @return El código del valor, o {@link #NULO} si el valor es {@code null}.
+     */
+    public int codificar(String valor) {
+        if (valor == null) {
+            return NULO;
+        }
+        Integer codigo = codigos.get(valor);
+        if (codigo != null) {
+            return codigo;
+        }
+        return registrar(valor);
+    }
+
+    /**
+     * Obtiene la instancia registrada de un valor, registrándolo si es la primera vez que aparece.
+     * Sirve para que las cadenas iguales que llegan por separado compartan una sola instancia.
+     * @param valor El texto a buscar (puede ser {@code null}).
+     * @return La instancia registrada igual a {@code valor}, o {@code null} si el valor es {@code null}.
+     */
+    public String canonico(String valor) {
+        return decodificar(codificar(valor));
+    }
+
+    /**
+     * Obtiene el valor correspondiente a un código.
+     * @param codigo El código obtenido con {@link #codificar(String)}.
+     * @return El valor registrado, o {@code null} si el código es {@link #NULO}.
+     */
+    public String decodificar(int codigo) {
+        if (codigo == NULO) {
+            return null;
+        }
+        String[] actuales = valores;
+        if (codigo < 0 || codigo >= actuales.length || actuales[codigo] == null) {
+            throw new IllegalArgumentException("Codigo no registrado en el diccionario: " + codigo);
+        }
+        return actuales[codigo];
+    }
+
+    /**
+     * @return La cantidad de valores distintos registrados.
+     */
+    public int tamanio() {
+        return cantidad;
+    }
+
+    private synchronized int registrar(String valor) {
+        Integer existente = codigos.get(valor);
+        if (existente != null) {
+            return existente;
+        }
+        int codigo = cantidad;
+        String[] actuales = valores;
+        if (codigo == actuales.length) {
+            actuales = Arrays.copyOf(actuales, codigo * 2);
+        }
+        actuales[codigo] = valor;
+        // Publicar el arreglo antes que el código: quien lea el código verá el valor
+        valores = actuales;
+        cantidad = codigo + 1;
+        codigos.put(valor, codigo);
+        return codigo;
+    }
+}
@@ -1,174 +1,326 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-package hu03.modelo;
-
-import hu03.utilidades.CalculadoraIndicador; // Importación no usada, pero mantenida
-import java.util.*;
-
-/**
- * RegistroAcademico: Gestiona el historial académico de un alumno.
- * Almacena las asignaturas cursadas y sus calificaciones.
- * Mantiene estadísticas como el total de créditos y permite calcular el promedio.
- * @author EnrollEngine
- * @version 3.7.16
- */
-public class RegistroAcademico {
-    /**
-     * Referencia al alumno dueño de este registro.
-     */
-    private Alumno alumno;
-    
-    /**
-     * Mapa que almacena las asignaturas (clave) y la calificación obtenida (valor).
-     */
-    private Map<Asignatura, Double> asignaturasCursadas;
-    
-    /**
-     * Suma total de los créditos de todas las asignaturas cursadas.
-     */
-    private int totalCreditos;
-
-    /**
-     * Constructor por defecto (usado para inicializaciones nulas o testing).
-     */
-    public RegistroAcademico() {
-    }
-
-    
-    /**
-     * Constructor principal que inicializa el registro para un alumno específico.
-     * @param alumno El objeto Alumno al que pertenece este registro.
-     */
-    public RegistroAcademico(Alumno alumno) {
-        this.alumno = alumno;
-        this.asignaturasCursadas = new HashMap<>();
-        this.totalCreditos = 0;
-    }
-
-    // Getters
-    /**
-     * Obtiene el alumno asociado a este registro.
-     * @return El objeto Alumno.
-     */
-    public Alumno getAlumno() {
-        return alumno;
-    }
-
-    /**
-     * Obtiene el mapa de asignaturas cursadas con sus calificaciones.
-     * @return Mapa donde la clave es la Asignatura y el valor es la calificación (Double).
-     */
-    public Map<Asignatura, Double> getAsignaturasCursadas() {
-        return asignaturasCursadas;
-    }
-
-    /**
-     * Obtiene la suma total de créditos acumulados por el alumno.
-     * @return El total de créditos.
-     */
-    public int getTotalCreditos() {
-        return totalCreditos;
-    }
-    
-    
-    /**
-     * Añade una asignatura y su calificación al registro.
-     * También actualiza el total de créditos acumulados.
-     * @param asignatura El objeto Asignatura cursada.
-     * @param calificacion La calificación obtenida.
-     */
-    public void agregarAsignatura(Asignatura asignatura, double calificacion){
-        asignaturasCursadas.put(asignatura, calificacion);
-        totalCreditos += asignatura.getCreditos();
-    }
-    
-    /**
-     * Calcula el promedio de todas las calificaciones registradas.
-     * @return El promedio de calificaciones (0.0 si no hay asignaturas).
-     */
-    public double calcularPromedio(){
-        if(asignaturasCursadas.isEmpty()){
-            return 0.0;
-        }
-        double suma = 0.0;
-        for (double calificacion : asignaturasCursadas.values()) {
-            suma += calificacion;
-        }
-        return suma/asignaturasCursadas.size();
-    }
-    
-    
-    /**
-     * Devuelve el número total de asignaturas cursadas (inscritas) registradas.
-     * @return Cantidad de asignaturas en el registro.
-     */
-    public int getAsignaturasInscritas() {
-        return asignaturasCursadas.size(); 
-    }
-
-    /**
-     * Devuelve el número de asignaturas con calificación aprobatoria (>= 6.0).
-     * @return Cantidad de asignaturas aprobadas.
-     */
-    public int getAsignaturasAprobadas() {
-        int aprobadas = 0;
-        final double CALIFICACION_MINIMA_APROBATORIA = 6.0; 
-
-        for (double calificacion : asignaturasCursadas.values()) {
-            if (calificacion >= CALIFICACION_MINIMA_APROBATORIA) { 
-                aprobadas++;
-            }
-        }
-        return aprobadas;
-    }
-    
-    
-    /**
-     * Imprime un reporte detallado del registro académico del alumno, 
-     * incluyendo datos personales, indicadores de mérito y el detalle de asignaturas.
-     */
-    public void mostrarRegistro() {
-        // --- 1. Datos Generales y de Identificación ---
-        System.out.println("\n=============================================");
-        System.out.println("         FICHA DE REGISTRO ACADÉMICO        ");
-        System.out.println("=============================================");
-        System.out.println("Alumno: " + alumno.getNombreCompleto());
-        System.out.println("Numero de Cuenta: " + alumno.getNumCuenta());
-        System.out.println("Edad: " + alumno.getEdad());
-        System.out.println("Carrera: " + alumno.getCarrera());
-        System.out.println("Semestre: " + alumno.getSemestre());
-        System.out.println("Direccion: " + alumno.getDireccion());
-        
-        // --- 2. Indicadores de Mérito ---
-        System.out.println("---------------------------------------------");
-        
-        // Imprimir el puesto (Num. Inscripción Final)
-        if (alumno.getNumInscripcionFinal() > 0) {
-             System.out.printf("Num. Inscripcion Asignado: %d%n", alumno.getNumInscripcionFinal());
-        } else {
-             System.out.println("Num. Inscripcion Asignado: PENDIENTE DE CALCULO GLOBAL");
-        }
-        
-        // Imprimir el Indicador Bruto
-        System.out.printf("Indicador Escolar: %-12d%n", alumno.getIndicadorBruto());
-        System.out.println("---------------------------------------------");
-        
-        // --- 3. Asignaturas Cursadas ---
-        System.out.println("      Asignaturas Cursadas      ");
-        
-        for (Map.Entry<Asignatura, Double> entry : asignaturasCursadas.entrySet()) {
-            Asignatura asignatura = entry.getKey();
-            double calificacion = entry.getValue();
-            System.out.printf("- %s | Calificacion: %.1f%n", 
-                asignatura.toString(), calificacion);
-        }
-        
-        // --- 4. Resumen Final ---
-        System.out.println("---------------------------------------------");
-        System.out.printf("Total de creditos: %d%n", totalCreditos);
-        System.out.printf("Promedio: %.2f%n", calcularPromedio());
-        System.out.println("=============================================\n");
-    }
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.modelo;
+
+import hu03.utilidades.CalculadoraIndicador; // Importación no usada, pero mantenida
+import java.util.*;
+
+/**
+ * RegistroAcademico: Gestiona el historial académico de un alumno.
+ * Almacena las asignaturas cursadas y sus calificaciones.
+ * Mantiene estadísticas como el total de créditos y permite calcular el promedio.
+ * Las calificaciones se guardan en arreglos primitivos compactos (sin objetos Double ni
+ * entradas de mapa): un mapa de bits con los IDs de las asignaturas cursadas y arreglos
+ * paralelos de asignaturas y calificaciones, ordenados por ID.
+ * La suma de calificaciones y la cantidad de aprobadas se mantienen al día en cada escritura,
+ * por lo que el promedio y las asignaturas aprobadas se consultan en O(1).
+ * @author EnrollEngine
+ * @version 3.9.0
+ */
+public class RegistroAcademico {
+    /**
+     * Calificación mínima para considerar aprobada una asignatura.
+     */
+    public static final double CALIFICACION_MINIMA_APROBATORIA = 6.0;
+
+    private static final long[] SIN_BITS = new long[0];
+    private static final Asignatura[] SIN_ASIGNATURAS = new Asignatura[0];
+    private static final double[] SIN_CALIFICACIONES = new double[0];
+
+    /**
+     * Referencia al alumno dueño de este registro.
+     */
+    private Alumno alumno;
+    
+    /**
+     * Mapa de bits de los IDs de las asignaturas cursadas (el bit {@code id} indica si
+     * la asignatura está en el registro). Con el catálogo actual (IDs 1 a 50) ocupa un solo long.
+     */
+    private long[] idsCursados = SIN_BITS;
+
+    /**
+     * Asignaturas cursadas, ordenadas por ID (solo las primeras {@link #cantidad} posiciones son válidas).
+     */
+    private Asignatura[] asignaturas = SIN_ASIGNATURAS;
+
+    /**
+     * Calificación de cada asignatura, en la misma posición que en {@link #asignaturas}.
+     */
+    private double[] calificaciones = SIN_CALIFICACIONES;
+
+    /**
+     * Cantidad de asignaturas cursadas.
+     */
+    private int cantidad;
+    
+    /**
+     * Suma total de los créditos de todas las asignaturas cursadas.
+     */
+    private int totalCreditos;
+
+    /**
+     * Suma de las calificaciones registradas (se actualiza en cada escritura).
+     */
+    private double sumaCalificaciones;
+
+    /**
+     * Cantidad de asignaturas con calificación aprobatoria (se actualiza en cada escritura).
+     */
+    private int aprobadas;
+
+    /**
+     * Constructor por defecto (usado para inicializaciones nulas o testing).
+     */
+    public RegistroAcademico() {
+    }
+
+    
+    /**
+     * Constructor principal que inicializa el registro para un alumno específico.
+     * @param alumno El objeto Alumno al que pertenece este registro.
+     */
+    public RegistroAcademico(Alumno alumno) {
+        this.alumno = alumno;
+        this.totalCreditos = 0;
+    }
+
+    // Getters
+    /**
+     * Obtiene el alumno asociado a este registro.
+     * @return El objeto Alumno.
+     */
+    public Alumno getAlumno() {
+        return alumno;
+    }
+
+    /**
+     * Obtiene las asignaturas cursadas con sus calificaciones.
+     * El mapa es una copia, ordenada por ID de asignatura; modificarlo no altera el registro.
+     * Para recorrer las calificaciones sin crear objetos use {@link #getAsignatura(int)}
+     * y {@link #getCalificacion(int)}.
+     * @return Mapa donde la clave es la Asignatura y el valor es la calificación (Double).
+     */
+    public Map<Asignatura, Double> getAsignaturasCursadas() {
+        Map<Asignatura, Double> copia = new LinkedHashMap<>();
+        for (int i = 0; i < cantidad; i++) {
+            copia.put(asignaturas[i], calificaciones[i]);
+        }
+        return copia;
+    }
+
+    /**
+     * Obtiene la asignatura en una posición del registro (las asignaturas se ordenan por ID).
+     * @param indice Posición entre 0 y {@link #getAsignaturasInscritas()} - 1.
+     * @return La asignatura en esa posición.
+     */
+    public Asignatura getAsignatura(int indice) {
+        validarIndice(indice);
+        return asignaturas[indice];
+    }
+
+    /**
+     * Obtiene la calificación de la asignatura en una posición del registro.
+     * @param indice Posición entre 0 y {@link #getAsignaturasInscritas()} - 1.
+     * @return La calificación obtenida.
+     */
+    public double getCalificacion(int indice) {
+        validarIndice(indice);
+        return calificaciones[indice];
+    }
+
+    /**
+     * Indica si la asignatura con el ID dado forma parte del registro.
+     * @param idAsignatura El ID de la asignatura.
+     * @return true si la asignatura fue cursada, false en caso contrario.
+     */
+    public boolean contieneAsignatura(int idAsignatura) {
+        int palabra = idAsignatura >>> 6;
+        return idAsignatura >= 0 && palabra < idsCursados.length
+               && (idsCursados[palabra] & (1L << idAsignatura)) != 0;
+    }
+
+    /**
+     * Obtiene la suma total de créditos acumulados por el alumno.
+     * @return El total de créditos.
+     */
+    public int getTotalCreditos() {
+        return totalCreditos;
+    }
+    
+    
+    /**
+     * Añade una asignatura y su calificación al registro.
+     * También actualiza el total de créditos acumulados.
+     * Si la asignatura ya estaba registrada, se reemplaza su calificación.
+     * @param asignatura El objeto Asignatura cursada.
+     * @param calificacion La calificación obtenida.
+     */
+    public void agregarAsignatura(Asignatura asignatura, double calificacion){
+        int id = asignatura.getId();
+        if (id < 0) {
+            throw new IllegalArgumentException("ID de asignatura no valido: " + id);
+        }
+        int posicion = posicionDe(id);
+        if (contieneAsignatura(id)) {
+            retirarDeAgregados(asignaturas[posicion], calificaciones[posicion]);
+            asignaturas[posicion] = asignatura;
+            calificaciones[posicion] = calificacion;
+        } else {
+            asegurarCapacidad(cantidad + 1);
+            System.arraycopy(asignaturas, posicion, asignaturas, posicion + 1, cantidad - posicion);
+            System.arraycopy(calificaciones, posicion, calificaciones, posicion + 1, cantidad - posicion);
+            asignaturas[posicion] = asignatura;
+            calificaciones[posicion] = calificacion;
+            cantidad++;
+
+            int palabra = id >>> 6;
+            if (palabra >= idsCursados.length) {
+                idsCursados = Arrays.copyOf(idsCursados, palabra + 1);
+            }
+            idsCursados[palabra] |= 1L << id;
+        }
+        sumarAAgregados(asignatura, calificacion);
+    }
+
+    /**
+     * Reserva espacio para la cantidad indicada de asignaturas, evitando que los arreglos
+     * crezcan varias veces cuando se conoce de antemano cuántas se agregarán.
+     * @param capacidad Cantidad total de asignaturas que se espera registrar.
+     */
+    public void asegurarCapacidad(int capacidad) {
+        if (capacidad > asignaturas.length) {
+            int nuevaCapacidad = Math.max(capacidad, Math.min(asignaturas.length * 2, capacidad + 8));
+            asignaturas = Arrays.copyOf(asignaturas, nuevaCapacidad);
+            calificaciones = Arrays.copyOf(calificaciones, nuevaCapacidad);
+        }
+    }
+    
+    /**
+     * Calcula el promedio de todas las calificaciones registradas. O(1).
+     * @return El promedio de calificaciones (0.0 si no hay asignaturas).
+     */
+    public double calcularPromedio(){
+        if(cantidad == 0){
+            return 0.0;
+        }
+        return sumaCalificaciones/cantidad;
+    }
+    
+    
+    /**
+     * Devuelve el número total de asignaturas cursadas (inscritas) registradas.
+     * @return Cantidad de asignaturas en el registro.
+     */
+    public int getAsignaturasInscritas() {
+        return cantidad; 
+    }
+
+    /**
+     * Devuelve el número de asignaturas con calificación aprobatoria (>= 6.0). O(1).
+     * @return Cantidad de asignaturas aprobadas.
+     */
+    public int getAsignaturasAprobadas() {
+        return aprobadas;
+    }
+
+    // ===============================================
+    //    AGREGADOS (mantener en toda escritura)
+    // ===============================================
+
+    /**
+     * Incorpora una asignatura y su calificación a la suma, al conteo de aprobadas y al
+     * total de créditos. Toda operación que agregue o cambie una calificación debe invocarlo.
+     */
+    private void sumarAAgregados(Asignatura asignatura, double calificacion) {
+        totalCreditos += asignatura.getCreditos();
+        sumaCalificaciones += calificacion;
+        if (calificacion >= CALIFICACION_MINIMA_APROBATORIA) {
+            aprobadas++;
+        }
+    }
+
+    /**
+     * Descuenta una asignatura y su calificación de la suma, del conteo de aprobadas y del
+     * total de créditos. Toda operación que retire o reemplace una calificación debe invocarlo.
+     */
+    private void retirarDeAgregados(Asignatura asignatura, double calificacion) {
+        totalCreditos -= asignatura.getCreditos();
+        sumaCalificaciones -= calificacion;
+        if (calificacion >= CALIFICACION_MINIMA_APROBATORIA) {
+            aprobadas--;
+        }
+    }
+
+    private void validarIndice(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndexOutOfBoundsException("Indice " + indice + " fuera de rango (" + cantidad + " asignaturas)");
+        }
+    }
+
+    /**
+     * Calcula la posición (ordenada por ID) que ocupa o debe ocupar una asignatura:
+     * la cantidad de IDs registrados menores que {@code id}, contados en el mapa de bits.
+     */
+    private int posicionDe(int id) {
+        int palabra = id >>> 6;
+        int posicion = 0;
+        int limite = Math.min(palabra, idsCursados.length);
+        for (int i = 0; i < limite; i++) {
+            posicion += Long.bitCount(idsCursados[i]);
+        }
+        if (palabra < idsCursados.length) {
+            posicion += Long.bitCount(idsCursados[palabra] & ((1L << id) - 1));
+        }
+        return posicion;
+    }
+    
+    
+    /**
+     * Imprime un reporte detallado del registro académico del alumno, 
+     * incluyendo datos personales, indicadores de mérito y el detalle de asignaturas.
+     */
+    public void mostrarRegistro() {
+        // --- 1. Datos Generales y de Identificación ---
+        System.out.println("\n=============================================");
+        System.out.println("         FICHA DE REGISTRO ACADÉMICO        ");
+        System.out.println("=============================================");
+        System.out.println("Alumno: " + alumno.getNombreCompleto());
+        System.out.println("Numero de Cuenta: " + alumno.getNumCuenta());
+        System.out.println("Edad: " + alumno.getEdad());
+        System.out.println("Carrera: " + alumno.getCarrera());
+        System.out.println("Semestre: " + alumno.getSemestre());
+        System.out.println("Direccion: " + alumno.getDireccion());
+        
+        // --- 2. Indicadores de Mérito ---
+        System.out.println("---------------------------------------------");
+        
+        // Imprimir el puesto (Num. Inscripción Final)
+        if (alumno.getNumInscripcionFinal() > 0) {
+             System.out.printf("Num. Inscripcion Asignado: %d%n", alumno.getNumInscripcionFinal());
+        } else {
+             System.out.println("Num. Inscripcion Asignado: PENDIENTE DE CALCULO GLOBAL");
+        }
+        
+        // Imprimir el Indicador Bruto
+        System.out.printf("Indicador Escolar: %-12d%n", alumno.getIndicadorBruto());
+        System.out.println("---------------------------------------------");
+        
+        // --- 3. Asignaturas Cursadas ---
+        System.out.println("      Asignaturas Cursadas      ");
+        
+        for (int i = 0; i < cantidad; i++) {
+            Asignatura asignatura = asignaturas[i];
+            double calificacion = calificaciones[i];
+            System.out.printf("- %s | Calificacion: %.1f%n", 
+                asignatura.toString(), calificacion);
+        }
+        
+        // --- 4. Resumen Final ---
+        System.out.println("---------------------------------------------");
+        System.out.printf("Total de creditos: %d%n", totalCreditos);
+        System.out.printf("Promedio: %.2f%n", calcularPromedio());
+        System.out.println("=============================================\n");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,566 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import hu03.modelo.DiccionarioTexto;
+import hu03.modelo.RegistroAcademico;
+import hu03.utilidades.CalculadoraIndicador;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AlmacenColumnarAlumnos: Almacenamiento alternativo de los alumnos en columnas
+ * (estructura de arreglos) en lugar de una lista de objetos {@link Alumno}.
+ * <p>
+ * Cada alumno ocupa una fila: los datos numéricos (número de cuenta, edad, semestre,
+ * Indicador Bruto, Num. Inscripción, créditos y los agregados del registro académico) viven
+ * en arreglos primitivos paralelos; los textos se guardan como códigos de
+ * {@link DiccionarioTexto} propios del almacén (uno para el primer apellido, que ordena el
+ * ranking, y otro para los demás); y las calificaciones de todos los alumnos se
+ * empacan en un mismo arreglo (arena), donde cada fila conoce su inicio y su cantidad.
+ * Así, el ranking, el Top K y los recorridos agregados leen arreglos contiguos sin tocar
+ * objetos individuales.
+ * <p>
+ * Los objetos {@link Alumno} se construyen bajo demanda con {@link #obtenerAlumno(int)}: son
+ * copias independientes, por lo que sus cambios solo se guardan con {@link #actualizar(Alumno)}.
+ * Las filas no son estables: una baja mueve la última fila al lugar de la eliminada.
+ * No es seguro para varios hilos.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class AlmacenColumnarAlumnos {
+
+    /** Cantidad que representa un alumno sin registro académico. */
+    private static final int SIN_REGISTRO = -1;
+    /** Tamaño mínimo de la arena de calificaciones antes de considerar compactarla. */
+    private static final int ARENA_MINIMA_PARA_COMPACTAR = 1 << 12;
+
+    // --- Columnas de datos ---
+    private long[] numCuenta;
+    private long[] indicadorBruto;
+    private int[] numInscripcionFinal;
+    private int[] edad;
+    private int[] semestre;
+    private int[] primerNombre;
+    private int[] segundoNombre;
+    private int[] primerApellido;
+    private int[] segundoApellido;
+    private int[] carrera;
+    private int[] direccion;
+    private int[] genero;
+
+    // --- Agregados del registro académico ---
+    private int[] totalCreditos;
+    private int[] asignaturasInscritas;
+    private int[] asignaturasAprobadas;
+    private double[] promedio;
+
+    // --- Arena de calificaciones ---
+    /** Posición de la primera calificación de cada fila en la arena. */
+    private int[] inicioCalificaciones;
+    /** Cantidad de calificaciones de cada fila ({@link #SIN_REGISTRO} = sin registro académico). */
+    private int[] cantidadCalificaciones;
+    private int[] idsAsignatura = new int[16];
+    private double[] calificaciones = new double[16];
+    /** Posiciones ocupadas de la arena (incluye las que ya no pertenecen a ninguna fila). */
+    private int usoArena;
+    /** Posiciones de la arena que ya no pertenecen a ninguna fila. */
+    private int basuraArena;
+
+    private int filas;
+    private final IndiceNumCuenta indicePorCuenta;
+    private final DiccionarioTexto textos = new DiccionarioTexto();
+    /** Primeros apellidos, aparte de los demás textos para ordenar el ranking sin recorrer todos. */
+    private final DiccionarioTexto apellidos = new DiccionarioTexto();
+    private final OrdenamientoFilas.RangosAlfabeticos rangosApellido = new OrdenamientoFilas.RangosAlfabeticos(apellidos);
+
+    /** Plan de estudios (índice 0 = Semestre 1) y asignaturas indexadas por ID. */
+    private final List<List<Asignatura>> catalogo;
+    private Asignatura[] asignaturaPorId = new Asignatura[0];
+
+    /**
+     * Crea un almacén vacío con el plan de estudios indicado.
+     * @param catalogo Las asignaturas agrupadas por semestre; las calificaciones de los alumnos
+     *                 deben hacer referencia a asignaturas de este catálogo.
+     * @param capacidadEsperada Cantidad de alumnos que se espera almacenar.
+     */
+    public AlmacenColumnarAlumnos(List<List<Asignatura>> catalogo, int capacidadEsperada) {
+        this.catalogo = new ArrayList<>();
+        for (List<Asignatura> listaSemestre : catalogo) {
+            this.catalogo.add(new ArrayList<>(listaSemestre));
+            for (Asignatura asignatura : listaSemestre) {
+                if (asignatura.getId() >= asignaturaPorId.length) {
+                    asignaturaPorId = Arrays.copyOf(asignaturaPorId, asignatura.getId() + 1);
+                }
+                asignaturaPorId[asignatura.getId()] = asignatura;
+            }
+        }
+        this.indicePorCuenta = new IndiceNumCuenta(capacidadEsperada);
+        redimensionarFilas(Math.max(16, capacidadEsperada));
+    }
+
+    /**
+     * Construye un almacén columnar con el catálogo y todos los alumnos de un módulo.
+     * @param modulo El módulo de origen (no se modifica).
+     * @return El almacén con una fila por alumno, en el mismo orden que {@link ModuloRegistros#getAlumnos()}.
+     */
+    public static AlmacenColumnarAlumnos desde(ModuloRegistros modulo) {
+        List<Alumno> alumnos = modulo.getAlumnos();
+        AlmacenColumnarAlumnos almacen = new AlmacenColumnarAlumnos(modulo.getAsignaturas(), alumnos.size());
+        for (Alumno alumno : alumnos) {
+            almacen.agregar(alumno);
+        }
+        return almacen;
+    }
+
+    // ===============================================
+    //              ALTAS, BAJAS Y CAMBIOS
+    // ===============================================
+
+    /**
+     * @return La cantidad de alumnos (filas) del almacén.
+     */
+    public int tamanio() {
+        return filas;
+    }
+
+    /**
+     * Agrega un alumno como una fila nueva, copiando sus datos y su registro académico.
+     * @param alumno El alumno a agregar.
+     * @return true si se agregó, false si ya existía una fila con el mismo número de cuenta.
+     */
+    public boolean agregar(Alumno alumno) {
+        if (indicePorCuenta.contiene(alumno.getNumCuenta())) {
+            return false;
+        }
+        if (filas == numCuenta.length) {
+            redimensionarFilas(filas * 2);
+        }
+        int fila = filas++;
+        indicePorCuenta.poner(alumno.getNumCuenta(), fila);
+        escribirFila(fila, alumno);
+        return true;
+    }
+
+    /**
+     * Reemplaza los datos de la fila del alumno con los del objeto indicado (por ejemplo,
+     * una vista obtenida con {@link #obtenerAlumno(int)} y modificada después).
+     * @param alumno El alumno con sus datos nuevos.
+     * @return true si se actualizó, false si no existe una fila con su número de cuenta.
+     */
+    public boolean actualizar(Alumno alumno) {
+        int fila = indicePorCuenta.obtener(alumno.getNumCuenta());
+        if (fila == IndiceNumCuenta.NO_ENCONTRADO) {
+            return false;
+        }
+        liberarCalificaciones(fila);
+        escribirFila(fila, alumno);
+        return true;
+    }
+
+    /**
+     * Elimina la fila de un alumno; la última fila ocupa su lugar.
+     * @param numCuentaAlumno El número de cuenta del alumno a eliminar.
+     * @return true si se eliminó, false si no existía.
+     */
+    public boolean eliminar(long numCuentaAlumno) {
+        int fila = indicePorCuenta.eliminar(numCuentaAlumno);
+        if (fila == IndiceNumCuenta.NO_ENCONTRADO) {
+            return false;
+        }
+        liberarCalificaciones(fila);
+        int ultima = --filas;
+        if (fila != ultima) {
+            moverFila(ultima, fila);
+            indicePorCuenta.poner(numCuenta[fila], fila);
+        }
+        return true;
+    }
+
+    // ===============================================
+    //                   CONSULTAS
+    // ===============================================
+
+    /**
+     * Obtiene el plan de estudios del almacén.
+     * @return Las asignaturas agrupadas por semestre (índice 0 = Semestre 1).
+     */
+    public List<List<Asignatura>> getAsignaturas() {
+        return catalogo;
+    }
+
+    /**
+     * Busca la fila de un alumno.
+     * @param numCuentaAlumno El número de cuenta.
+     * @return La fila, o {@link IndiceNumCuenta#NO_ENCONTRADO} si no existe.
+     */
+    public int buscarFila(long numCuentaAlumno) {
+        return indicePorCuenta.obtener(numCuentaAlumno);
+    }
+
+    /**
+     * Construye un objeto {@link Alumno} (con su registro académico) a partir de una fila.
+     * @param fila La fila del alumno.
+     * @return Una copia independiente de los datos de la fila.
+     */
+    public Alumno obtenerAlumno(int fila) {
+        validarFila(fila);
+        Alumno alumno = new Alumno(numCuenta[fila],
+                textos.decodificar(primerNombre[fila]), textos.decodificar(segundoNombre[fila]),
+                apellidos.decodificar(primerApellido[fila]), textos.decodificar(segundoApellido[fila]),
+                edad[fila], textos.decodificar(carrera[fila]), semestre[fila],
+                textos.decodificar(direccion[fila]), textos.decodificar(genero[fila]));
+        alumno.setIndicadorBruto(indicadorBruto[fila]);
+        alumno.setNumInscripcionFinal(numInscripcionFinal[fila]);
+        int cantidad = cantidadCalificaciones[fila];
+        if (cantidad != SIN_REGISTRO) {
+            RegistroAcademico registro = new RegistroAcademico(alumno);
+            registro.asegurarCapacidad(cantidad);
+            int inicio = inicioCalificaciones[fila];
+            for (int i = inicio; i < inicio + cantidad; i++) {
+                registro.agregarAsignatura(asignaturaPorId[idsAsignatura[i]], calificaciones[i]);
+            }
+            alumno.setRegistroAcademico(registro);
+        }
+        return alumno;
+    }
+
+    /**
+     * Busca un alumno por número de cuenta y lo construye bajo demanda.
+     * @param numCuentaAlumno El número de cuenta.
+     * @return Una copia del alumno, o null si no existe.
+     */
+    public Alumno buscarAlumnoPorNumCuenta(long numCuentaAlumno) {
+        int fila = indicePorCuenta.obtener(numCuentaAlumno);
+        return fila == IndiceNumCuenta.NO_ENCONTRADO ? null : obtenerAlumno(fila);
+    }
+
+    /** @param fila La fila. @return El número de cuenta del alumno. */
+    public long getNumCuenta(int fila) { validarFila(fila); return numCuenta[fila]; }
+    /** @param fila La fila. @return El Indicador Bruto del alumno. */
+    public long getIndicadorBruto(int fila) { validarFila(fila); return indicadorBruto[fila]; }
+    /** @param fila La fila. @return El Num. Inscripción calculado por el último {@link #calcularRanking()}. */
+    public int getNumInscripcionFinal(int fila) { validarFila(fila); return numInscripcionFinal[fila]; }
+    /** @param fila La fila. @return La edad del alumno. */
+    public int getEdad(int fila) { validarFila(fila); return edad[fila]; }
+    /** @param fila La fila. @return El semestre del alumno. */
+    public int getSemestre(int fila) { validarFila(fila); return semestre[fila]; }
+    /** @param fila La fila. @return Los créditos acumulados del alumno. */
+    public int getTotalCreditos(int fila) { validarFila(fila); return totalCreditos[fila]; }
+    /** @param fila La fila. @return El primer apellido del alumno. */
+    public String getPrimerApellido(int fila) { validarFila(fila); return apellidos.decodificar(primerApellido[fila]); }
+
+    // ===============================================
+    //          RANKING Y RECORRIDOS AGREGADOS
+    // ===============================================
+
+    /**
+     * Ordena todas las filas según el ranking ({@link RankingAlumnos#ORDEN_RANKING}: Indicador
+     * Bruto descendente, primer apellido y número de cuenta ascendentes) y guarda el puesto de
+     * cada alumno en la columna de Num. Inscripción.
+     * @return Las filas en orden de ranking (la posición i corresponde al puesto i + 1).
+     */
+    public int[] calcularRanking() {
+        int[] orden = ordenamientoPorRanking().ordenar(filas);
+        for (int puesto = 0; puesto < filas; puesto++) {
+            numInscripcionFinal[orden[puesto]] = puesto + 1;
+        }
+        return orden;
+    }
+
+    /**
+     * Obtiene las filas de los K mejores alumnos del ranking en un solo recorrido,
+     * con un montículo de tamaño K (O(n log k)), sin ordenar a toda la población.
+     * @param k Cantidad de alumnos a obtener.
+     * @return Las filas de a lo más k alumnos, en orden de ranking.
+     */
+    public int[] topK(int k) {
+        return ordenamientoPorRanking().mejores(k, filas);
+    }
+
+    /**
+     * Recalcula el Indicador Bruto de las filas con registro académico a partir de los agregados
+     * de su registro, por lotes sobre las columnas ({@link CalculadoraIndicador#calcularIndicadoresBrutos})
+     * en cada tramo de filas consecutivas que lo tienen. Las filas sin registro conservan su
+     * indicador, como en {@link ModuloRegistros#recalcularIndicadores()}.
+     */
+    public void recalcularIndicadores() {
+        int fila = 0;
+        while (fila < filas) {
+            if (cantidadCalificaciones[fila] == SIN_REGISTRO) {
+                fila++;
+                continue;
+            }
+            int inicio = fila;
+            while (fila < filas && cantidadCalificaciones[fila] != SIN_REGISTRO) {
+                fila++;
+            }
+            CalculadoraIndicador.calcularIndicadoresBrutos(promedio, asignaturasAprobadas, asignaturasInscritas,
+                                                          totalCreditos, semestre, indicadorBruto, inicio, fila);
+        }
+    }
+
+    /**
+     * @return El promedio del Indicador Bruto de todos los alumnos (0 si no hay alumnos).
+     */
+    public double promedioIndicadorBruto() {
+        if (filas == 0) {
+            return 0.0;
+        }
+        long suma = 0;
+        for (int i = 0; i < filas; i++) {
+            suma += indicadorBruto[i];
+        }
+        return (double) suma / filas;
+    }
+
+    /**
+     * Cuenta los alumnos de cada semestre.
+     * @param totalSemestres Cantidad de semestres del plan de estudios.
+     * @return Arreglo donde la posición s - 1 tiene la cantidad de alumnos del semestre s
+     *         (los semestres fuera de rango no se cuentan).
+     */
+    public int[] contarAlumnosPorSemestre(int totalSemestres) {
+        int[] conteo = new int[totalSemestres];
+        for (int i = 0; i < filas; i++) {
+            int s = semestre[i];
+            if (s >= 1 && s <= totalSemestres) {
+                conteo[s - 1]++;
+            }
+        }
+        return conteo;
+    }
+
+    // ===============================================
+    //           CARGA DIRECTA (SNAPSHOT)
+    // ===============================================
+
+    /**
+     * Agrega una fila con datos ya en forma columnar (usado al cargar un snapshot sin crear
+     * objetos {@link Alumno}). Los agregados del registro se calculan de las calificaciones.
+     * @throws IllegalArgumentException Si el número de cuenta ya existe o una asignatura no está en el catálogo.
+     */
+    void agregarFila(long cuenta, String[] textosFila, int edadAlumno, int semestreAlumno, long indicador,
+                     int cantidad, int[] ids, double[] notas, int desde) {
+        if (indicePorCuenta.contiene(cuenta)) {
+            throw new IllegalArgumentException("Numero de cuenta repetido: " + cuenta);
+        }
+        if (filas == numCuenta.length) {
+            redimensionarFilas(filas * 2);
+        }
+        int fila = filas++;
+        indicePorCuenta.poner(cuenta, fila);
+        numCuenta[fila] = cuenta;
+        primerNombre[fila] = textos.codificar(textosFila[0]);
+        segundoNombre[fila] = textos.codificar(textosFila[1]);
+        primerApellido[fila] = apellidos.codificar(textosFila[2]);
+        segundoApellido[fila] = textos.codificar(textosFila[3]);
+        carrera[fila] = textos.codificar(textosFila[4]);
+        direccion[fila] = textos.codificar(textosFila[5]);
+        genero[fila] = textos.codificar(textosFila[6]);
+        edad[fila] = edadAlumno;
+        semestre[fila] = semestreAlumno;
+        indicadorBruto[fila] = indicador;
+        numInscripcionFinal[fila] = 0;
+
+        cantidadCalificaciones[fila] = cantidad;
+        inicioCalificaciones[fila] = usoArena;
+        int creditos = 0;
+        int aprobadas = 0;
+        double suma = 0.0;
+        if (cantidad != SIN_REGISTRO) {
+            asegurarArena(usoArena + cantidad);
+            for (int j = 0; j < cantidad; j++) {
+                int id = ids[desde + j];
+                if (id < 0 || id >= asignaturaPorId.length || asignaturaPorId[id] == null) {
+                    throw new IllegalArgumentException("Asignatura inexistente en el catalogo: " + id);
+                }
+                double nota = notas[desde + j];
+                idsAsignatura[usoArena] = id;
+                calificaciones[usoArena] = nota;
+                usoArena++;
+                creditos += asignaturaPorId[id].getCreditos();
+                suma += nota;
+                if (nota >= RegistroAcademico.CALIFICACION_MINIMA_APROBATORIA) {
+                    aprobadas++;
+                }
+            }
+        }
+        int inscritas = Math.max(0, cantidad);
+        totalCreditos[fila] = creditos;
+        asignaturasInscritas[fila] = inscritas;
+        asignaturasAprobadas[fila] = aprobadas;
+        promedio[fila] = inscritas == 0 ? 0.0 : suma / inscritas;
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    private void escribirFila(int fila, Alumno alumno) {
+        numCuenta[fila] = alumno.getNumCuenta();
+        primerNombre[fila] = textos.codificar(alumno.getPrimerNombre());
+        segundoNombre[fila] = textos.codificar(alumno.getSegundoNombre());
+        primerApellido[fila] = apellidos.codificar(alumno.getPrimerApellido());
+        segundoApellido[fila] = textos.codificar(alumno.getSegundoApellido());
+        carrera[fila] = textos.codificar(alumno.getCarrera());
+        direccion[fila] = textos.codificar(alumno.getDireccion());
+        genero[fila] = textos.codificar(alumno.getGenero());
+        edad[fila] = alumno.getEdad();
+        semestre[fila] = alumno.getSemestre();
+        indicadorBruto[fila] = alumno.getIndicadorBruto();
+        numInscripcionFinal[fila] = alumno.getNumInscripcionFinal();
+
+        RegistroAcademico registro = alumno.getRegistroAcademico();
+        inicioCalificaciones[fila] = usoArena;
+        if (registro == null) {
+            cantidadCalificaciones[fila] = SIN_REGISTRO;
+            totalCreditos[fila] = 0;
+            asignaturasInscritas[fila] = 0;
+            asignaturasAprobadas[fila] = 0;
+            promedio[fila] = 0.0;
+            return;
+        }
+        int cantidad = registro.getAsignaturasInscritas();
+        asegurarArena(usoArena + cantidad);
+        for (int j = 0; j < cantidad; j++) {
+            Asignatura asignatura = registro.getAsignatura(j);
+            int id = asignatura.getId();
+            if (id >= asignaturaPorId.length || asignaturaPorId[id] == null) {
+                // Asignatura fuera del catálogo original: se incorpora para poder reconstruir la vista
+                if (id >= asignaturaPorId.length) {
+                    asignaturaPorId = Arrays.copyOf(asignaturaPorId, id + 1);
+                }
+                asignaturaPorId[id] = asignatura;
+            }
+            idsAsignatura[usoArena] = id;
+            calificaciones[usoArena] = registro.getCalificacion(j);
+            usoArena++;
+        }
+        cantidadCalificaciones[fila] = cantidad;
+        totalCreditos[fila] = registro.getTotalCreditos();
+        asignaturasInscritas[fila] = cantidad;
+        asignaturasAprobadas[fila] = registro.getAsignaturasAprobadas();
+        promedio[fila] = registro.calcularPromedio();
+    }
+
+    private void moverFila(int origen, int destino) {
+        numCuenta[destino] = numCuenta[origen];
+        indicadorBruto[destino] = indicadorBruto[origen];
+        numInscripcionFinal[destino] = numInscripcionFinal[origen];
+        edad[destino] = edad[origen];
+        semestre[destino] = semestre[origen];
+        primerNombre[destino] = primerNombre[origen];
+        segundoNombre[destino] = segundoNombre[origen];
+        primerApellido[destino] = primerApellido[origen];
+        segundoApellido[destino] = segundoApellido[origen];
+        carrera[destino] = carrera[origen];
+        direccion[destino] = direccion[origen];
+        genero[destino] = genero[origen];
+        totalCreditos[destino] = totalCreditos[origen];
+        asignaturasInscritas[destino] = asignaturasInscritas[origen];
+        asignaturasAprobadas[destino] = asignaturasAprobadas[origen];
+        promedio[destino] = promedio[origen];
+        inicioCalificaciones[destino] = inicioCalificaciones[origen];
+        cantidadCalificaciones[destino] = cantidadCalificaciones[origen];
+    }
+
+    private void redimensionarFilas(int capacidad) {
+        numCuenta = copiar(numCuenta, capacidad);
+        indicadorBruto = copiar(indicadorBruto, capacidad);
+        numInscripcionFinal = copiar(numInscripcionFinal, capacidad);
+        edad = copiar(edad, capacidad);
+        semestre = copiar(semestre, capacidad);
+        primerNombre = copiar(primerNombre, capacidad);
+        segundoNombre = copiar(segundoNombre, capacidad);
+        primerApellido = copiar(primerApellido, capacidad);
+        segundoApellido = copiar(segundoApellido, capacidad);
+        carrera = copiar(carrera, capacidad);
+        direccion = copiar(direccion, capacidad);
+        genero = copiar(genero, capacidad);
+        totalCreditos = copiar(totalCreditos, capacidad);
+        asignaturasInscritas = copiar(asignaturasInscritas, capacidad);
+        asignaturasAprobadas = copiar(asignaturasAprobadas, capacidad);
+        promedio = promedio == null ? new double[capacidad] : Arrays.copyOf(promedio, capacidad);
+        inicioCalificaciones = copiar(inicioCalificaciones, capacidad);
+        cantidadCalificaciones = copiar(cantidadCalificaciones, capacidad);
+    }
+
+    private static int[] copiar(int[] columna, int capacidad) {
+        return columna == null ? new int[capacidad] : Arrays.copyOf(columna, capacidad);
+    }
+
+    private static long[] copiar(long[] columna, int capacidad) {
+        return columna == null ? new long[capacidad] : Arrays.copyOf(columna, capacidad);
+    }
+
+    private void asegurarArena(int capacidad) {
+        if (capacidad > idsAsignatura.length) {
+            int nueva = Math.max(capacidad, idsAsignatura.length * 2);
+            idsAsignatura = Arrays.copyOf(idsAsignatura, nueva);
+            calificaciones = Arrays.copyOf(calificaciones, nueva);
+        }
+    }
+
+    /**
+     * Marca como libres las calificaciones de una fila y compacta la arena cuando
+     * la mitad de ella ya no pertenece a ninguna fila.
+     */
+    private void liberarCalificaciones(int fila) {
+        basuraArena += Math.max(0, cantidadCalificaciones[fila]);
+        cantidadCalificaciones[fila] = 0;
+        if (usoArena >= ARENA_MINIMA_PARA_COMPACTAR && basuraArena * 2 > usoArena) {
+            compactarArena();
+        }
+    }
+
+    private void compactarArena() {
+        int[] nuevosIds = new int[Math.max(16, usoArena - basuraArena)];
+        double[] nuevasCalificaciones = new double[nuevosIds.length];
+        int uso = 0;
+        for (int fila = 0; fila < filas; fila++) {
+            int cantidad = Math.max(0, cantidadCalificaciones[fila]);
+            System.arraycopy(idsAsignatura, inicioCalificaciones[fila], nuevosIds, uso, cantidad);
+            System.arraycopy(calificaciones, inicioCalificaciones[fila], nuevasCalificaciones, uso, cantidad);
+            inicioCalificaciones[fila] = uso;
+            uso += cantidad;
+        }
+        idsAsignatura = nuevosIds;
+        calificaciones = nuevasCalificaciones;
+        usoArena = uso;
+        basuraArena = 0;
+    }
+
+    /**
+     * Orden del ranking ({@link RankingAlumnos#ORDEN_RANKING}) sobre las columnas: Indicador
+     * Bruto descendente, primer apellido (por rango alfabético) y número de cuenta ascendentes.
+     */
+    private OrdenamientoFilas ordenamientoPorRanking() {
+        final int[] rangoApellido = rangosApellido.obtener();
+        return new OrdenamientoFilas() {
+            @Override
+            int comparar(int a, int b) {
+                int comparacion = Long.compare(indicadorBruto[b], indicadorBruto[a]);
+                if (comparacion != 0) {
+                    return comparacion;
+                }
+                comparacion = compararTextos(primerApellido[a], primerApellido[b], rangoApellido);
+                if (comparacion != 0) {
+                    return comparacion;
+                }
+                return Long.compare(numCuenta[a], numCuenta[b]);
+            }
+        };
+    }
+
+    private void validarFila(int fila) {
+        if (fila < 0 || fila >= filas) {
+            throw new IndexOutOfBoundsException("Fila: " + fila + ", Filas: " + filas);
+        }
+    }
+}
@@ -0,0 +1,721 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import hu03.modelo.DiccionarioTexto;
+import hu03.modelo.RegistroAcademico;
+import hu03.utilidades.CalculadoraIndicador;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AlmacenDirectoAlumnos: Almacenamiento de los alumnos fuera del montón de Java, en memoria
+ * directa ({@link ByteBuffer#allocateDirect(int)}), para poblaciones de millones de alumnos
+ * cuyo recorrido por el recolector de basura alargaría las pausas.
+ * <p>
+ * Cada alumno ocupa una fila de ancho fijo ({@value #TAMANIO_FILA} bytes) con sus datos
+ * numéricos, los agregados de su registro académico y los códigos de sus textos; las
+ * calificaciones se empacan como registros de {@value #TAMANIO_CALIFICACION} bytes
+ * (ID de asignatura y calificación) en una arena aparte. Filas y calificaciones se reservan en
+ * segmentos de tamaño fijo, por lo que crecer no copia la memoria ya ocupada. El índice por
+ * número de cuenta es una tabla hash de direccionamiento abierto también en memoria directa.
+ * En el montón solo quedan los diccionarios de textos (valores distintos) y el catálogo.
+ * <p>
+ * Los objetos {@link Alumno} se construyen bajo demanda con {@link #obtenerAlumno(int)}: son
+ * copias independientes, por lo que sus cambios solo se guardan con {@link #actualizar(Alumno)}.
+ * Las filas no son estables: una baja mueve la última fila al lugar de la eliminada.
+ * La memoria directa se libera cuando el almacén deja de usarse y el recolector reclama sus
+ * búferes; su máximo se controla con {@code -XX:MaxDirectMemorySize}.
+ * No es seguro para varios hilos.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class AlmacenDirectoAlumnos {
+
+    /** Cantidad que representa un alumno sin registro académico. */
+    private static final int SIN_REGISTRO = -1;
+    /** Tamaño mínimo de la arena de calificaciones antes de considerar compactarla. */
+    private static final int ARENA_MINIMA_PARA_COMPACTAR = 1 << 12;
+
+    // --- Disposición de una fila (desplazamientos en bytes) ---
+    private static final int TAMANIO_FILA = 88;
+    private static final int NUM_CUENTA = 0;
+    private static final int INDICADOR_BRUTO = 8;
+    private static final int PROMEDIO = 16;
+    private static final int INICIO_CALIFICACIONES = 24;
+    private static final int CANTIDAD_CALIFICACIONES = 28;
+    private static final int NUM_INSCRIPCION_FINAL = 32;
+    private static final int TOTAL_CREDITOS = 36;
+    private static final int EDAD = 40;
+    private static final int SEMESTRE = 44;
+    private static final int ASIGNATURAS_INSCRITAS = 48;
+    private static final int ASIGNATURAS_APROBADAS = 52;
+    /** Códigos de texto, en el orden: nombres, apellidos, carrera, dirección y género. */
+    private static final int[] TEXTOS = {56, 60, 64, 68, 72, 76, 80};
+    private static final int PRIMER_APELLIDO = TEXTOS[2];
+
+    // --- Disposición de una calificación ---
+    private static final int TAMANIO_CALIFICACION = 12;
+    private static final int ID_ASIGNATURA = 0;
+    private static final int CALIFICACION = 4;
+
+    // --- Segmentos ---
+    private static final int BITS_FILAS_POR_SEGMENTO = 16;
+    private static final int MASCARA_FILAS = (1 << BITS_FILAS_POR_SEGMENTO) - 1;
+    private static final int BITS_CALIFICACIONES_POR_SEGMENTO = 20;
+    private static final int MASCARA_CALIFICACIONES = (1 << BITS_CALIFICACIONES_POR_SEGMENTO) - 1;
+
+    // --- Índice por número de cuenta: casillas de {long numCuenta, int fila + 1} ---
+    private static final int TAMANIO_CASILLA = 12;
+    private static final int CAPACIDAD_INICIAL_INDICE = 16;
+
+    private ByteBuffer[] segmentosFilas = new ByteBuffer[0];
+    private ByteBuffer[] segmentosCalificaciones = new ByteBuffer[0];
+    private ByteBuffer tablaCuentas;
+    private int mascaraTabla;
+
+    private int filas;
+    /** Registros ocupados de la arena (incluye los que ya no pertenecen a ninguna fila). */
+    private int usoArena;
+    /** Registros de la arena que ya no pertenecen a ninguna fila. */
+    private int basuraArena;
+
+    private final DiccionarioTexto textos = new DiccionarioTexto();
+    /** Primeros apellidos, aparte de los demás textos para ordenar el ranking sin recorrer todos. */
+    private final DiccionarioTexto apellidos = new DiccionarioTexto();
+    private final OrdenamientoFilas.RangosAlfabeticos rangosApellido = new OrdenamientoFilas.RangosAlfabeticos(apellidos);
+
+    /** Plan de estudios (índice 0 = Semestre 1) y asignaturas indexadas por ID. */
+    private final List<List<Asignatura>> catalogo;
+    private Asignatura[] asignaturaPorId = new Asignatura[0];
+
+    /**
+     * Crea un almacén vacío con el plan de estudios indicado.
+     * @param catalogo Las asignaturas agrupadas por semestre; las calificaciones de los alumnos
+     *                 deben hacer referencia a asignaturas de este catálogo.
+     * @param capacidadEsperada Cantidad de alumnos que se espera almacenar.
+     */
+    public AlmacenDirectoAlumnos(List<List<Asignatura>> catalogo, int capacidadEsperada) {
+        this.catalogo = new ArrayList<>();
+        for (List<Asignatura> listaSemestre : catalogo) {
+            this.catalogo.add(new ArrayList<>(listaSemestre));
+            for (Asignatura asignatura : listaSemestre) {
+                if (asignatura.getId() >= asignaturaPorId.length) {
+                    asignaturaPorId = Arrays.copyOf(asignaturaPorId, asignatura.getId() + 1);
+                }
+                asignaturaPorId[asignatura.getId()] = asignatura;
+            }
+        }
+        int capacidad = CAPACIDAD_INICIAL_INDICE;
+        while (capacidad * 3L / 4 < capacidadEsperada) {
+            capacidad <<= 1;
+        }
+        inicializarTabla(capacidad);
+    }
+
+    /**
+     * Construye un almacén directo con el catálogo y todos los alumnos de un módulo.
+     * @param modulo El módulo de origen (no se modifica).
+     * @return El almacén con una fila por alumno, en el mismo orden que {@link ModuloRegistros#getAlumnos()}.
+     */
+    public static AlmacenDirectoAlumnos desde(ModuloRegistros modulo) {
+        List<Alumno> alumnos = modulo.getAlumnos();
+        AlmacenDirectoAlumnos almacen = new AlmacenDirectoAlumnos(modulo.getAsignaturas(), alumnos.size());
+        for (Alumno alumno : alumnos) {
+            almacen.agregar(alumno);
+        }
+        return almacen;
+    }
+
+    // ===============================================
+    //              ALTAS, BAJAS Y CAMBIOS
+    // ===============================================
+
+    /**
+     * @return La cantidad de alumnos (filas) del almacén.
+     */
+    public int tamanio() {
+        return filas;
+    }
+
+    /**
+     * @return Los bytes de memoria directa reservados para filas, calificaciones e índice.
+     */
+    public long bytesReservados() {
+        return (long) segmentosFilas.length * ((MASCARA_FILAS + 1) * TAMANIO_FILA)
+             + (long) segmentosCalificaciones.length * ((MASCARA_CALIFICACIONES + 1) * TAMANIO_CALIFICACION)
+             + tablaCuentas.capacity();
+    }
+
+    /**
+     * Agrega un alumno como una fila nueva, copiando sus datos y su registro académico.
+     * @param alumno El alumno a agregar.
+     * @return true si se agregó, false si ya existía una fila con el mismo número de cuenta.
+     */
+    public boolean agregar(Alumno alumno) {
+        if (buscarFila(alumno.getNumCuenta()) != IndiceNumCuenta.NO_ENCONTRADO) {
+            return false;
+        }
+        int fila = nuevaFila(alumno.getNumCuenta());
+        escribirFila(fila, alumno);
+        return true;
+    }
+
+    /**
+     * Reemplaza los datos de la fila del alumno con los del objeto indicado (por ejemplo,
+     * una vista obtenida con {@link #obtenerAlumno(int)} y modificada después).
+     * @param alumno El alumno con sus datos nuevos.
+     * @return true si se actualizó, false si no existe una fila con su número de cuenta.
+     */
+    public boolean actualizar(Alumno alumno) {
+        int fila = buscarFila(alumno.getNumCuenta());
+        if (fila == IndiceNumCuenta.NO_ENCONTRADO) {
+            return false;
+        }
+        liberarCalificaciones(fila);
+        escribirFila(fila, alumno);
+        return true;
+    }
+
+    /**
+     * Elimina la fila de un alumno; la última fila ocupa su lugar.
+     * @param numCuentaAlumno El número de cuenta del alumno a eliminar.
+     * @return true si se eliminó, false si no existía.
+     */
+    public boolean eliminar(long numCuentaAlumno) {
+        int fila = eliminarDelIndice(numCuentaAlumno);
+        if (fila == IndiceNumCuenta.NO_ENCONTRADO) {
+            return false;
+        }
+        liberarCalificaciones(fila);
+        int ultima = --filas;
+        if (fila != ultima) {
+            copiarFila(ultima, fila);
+            ponerEnIndice(leerLong(fila, NUM_CUENTA), fila);
+        }
+        return true;
+    }
+
+    // ===============================================
+    //                   CONSULTAS
+    // ===============================================
+
+    /**
+     * Obtiene el plan de estudios del almacén.
+     * @return Las asignaturas agrupadas por semestre (índice 0 = Semestre 1).
+     */
+    public List<List<Asignatura>> getAsignaturas() {
+        return catalogo;
+    }
+
+    /**
+     * Busca la fila de un alumno en el índice por número de cuenta.
+     * @param numCuentaAlumno El número de cuenta.
+     * @return La fila, o {@link IndiceNumCuenta#NO_ENCONTRADO} si no existe.
+     */
+    public int buscarFila(long numCuentaAlumno) {
+        int casilla = casillaInicial(numCuentaAlumno);
+        for (int sondeos = 0; sondeos <= mascaraTabla; sondeos++) {
+            int valor = tablaCuentas.getInt(casilla * TAMANIO_CASILLA + 8);
+            if (valor == 0) {
+                return IndiceNumCuenta.NO_ENCONTRADO;
+            }
+            if (tablaCuentas.getLong(casilla * TAMANIO_CASILLA) == numCuentaAlumno) {
+                return valor - 1;
+            }
+            casilla = (casilla + 1) & mascaraTabla;
+        }
+        return IndiceNumCuenta.NO_ENCONTRADO;
+    }
+
+    /**
+     * Construye un objeto {@link Alumno} (con su registro académico) a partir de una fila.
+     * @param fila La fila del alumno.
+     * @return Una copia independiente de los datos de la fila.
+     */
+    public Alumno obtenerAlumno(int fila) {
+        validarFila(fila);
+        Alumno alumno = new Alumno(leerLong(fila, NUM_CUENTA),
+                texto(fila, 0), texto(fila, 1), texto(fila, 2), texto(fila, 3),
+                leerInt(fila, EDAD), texto(fila, 4), leerInt(fila, SEMESTRE),
+                texto(fila, 5), texto(fila, 6));
+        alumno.setIndicadorBruto(leerLong(fila, INDICADOR_BRUTO));
+        alumno.setNumInscripcionFinal(leerInt(fila, NUM_INSCRIPCION_FINAL));
+        int cantidad = leerInt(fila, CANTIDAD_CALIFICACIONES);
+        if (cantidad != SIN_REGISTRO) {
+            RegistroAcademico registro = new RegistroAcademico(alumno);
+            registro.asegurarCapacidad(cantidad);
+            int inicio = leerInt(fila, INICIO_CALIFICACIONES);
+            for (int r = inicio; r < inicio + cantidad; r++) {
+                registro.agregarAsignatura(asignaturaPorId[idAsignatura(r)], calificacion(r));
+            }
+            alumno.setRegistroAcademico(registro);
+        }
+        return alumno;
+    }
+
+    /**
+     * Busca un alumno por número de cuenta y lo construye bajo demanda.
+     * @param numCuentaAlumno El número de cuenta.
+     * @return Una copia del alumno, o null si no existe.
+     */
+    public Alumno buscarAlumnoPorNumCuenta(long numCuentaAlumno) {
+        int fila = buscarFila(numCuentaAlumno);
+        return fila == IndiceNumCuenta.NO_ENCONTRADO ? null : obtenerAlumno(fila);
+    }
+
+    /** @param fila La fila. @return El número de cuenta del alumno. */
+    public long getNumCuenta(int fila) { validarFila(fila); return leerLong(fila, NUM_CUENTA); }
+    /** @param fila La fila. @return El Indicador Bruto del alumno. */
+    public long getIndicadorBruto(int fila) { validarFila(fila); return leerLong(fila, INDICADOR_BRUTO); }
+    /** @param fila La fila. @return El Num. Inscripción calculado por el último {@link #calcularRanking()}. */
+    public int getNumInscripcionFinal(int fila) { validarFila(fila); return leerInt(fila, NUM_INSCRIPCION_FINAL); }
+    /** @param fila La fila. @return La edad del alumno. */
+    public int getEdad(int fila) { validarFila(fila); return leerInt(fila, EDAD); }
+    /** @param fila La fila. @return El semestre del alumno. */
+    public int getSemestre(int fila) { validarFila(fila); return leerInt(fila, SEMESTRE); }
+    /** @param fila La fila. @return Los créditos acumulados del alumno. */
+    public int getTotalCreditos(int fila) { validarFila(fila); return leerInt(fila, TOTAL_CREDITOS); }
+    /** @param fila La fila. @return El primer apellido del alumno. */
+    public String getPrimerApellido(int fila) { validarFila(fila); return texto(fila, 2); }
+
+    // ===============================================
+    //          RANKING Y RECORRIDOS AGREGADOS
+    // ===============================================
+
+    /**
+     * Ordena todas las filas según el ranking ({@link RankingAlumnos#ORDEN_RANKING}: Indicador
+     * Bruto descendente, primer apellido y número de cuenta ascendentes), comparando los valores
+     * directamente en la memoria de las filas, y guarda el puesto de cada alumno en su fila.
+     * @return Las filas en orden de ranking (la posición i corresponde al puesto i + 1).
+     */
+    public int[] calcularRanking() {
+        int[] orden = ordenamientoPorRanking().ordenar(filas);
+        for (int puesto = 0; puesto < filas; puesto++) {
+            escribirInt(orden[puesto], NUM_INSCRIPCION_FINAL, puesto + 1);
+        }
+        return orden;
+    }
+
+    /**
+     * Obtiene las filas de los K mejores alumnos del ranking en un solo recorrido,
+     * con un montículo de tamaño K (O(n log k)), sin ordenar a toda la población.
+     * @param k Cantidad de alumnos a obtener.
+     * @return Las filas de a lo más k alumnos, en orden de ranking.
+     */
+    public int[] topK(int k) {
+        return ordenamientoPorRanking().mejores(k, filas);
+    }
+
+    /**
+     * Recalcula el Indicador Bruto de las filas con registro académico a partir de los agregados
+     * guardados en la propia fila. Las filas sin registro conservan su indicador, como en
+     * {@link ModuloRegistros#recalcularIndicadores()}.
+     */
+    public void recalcularIndicadores() {
+        for (int s = 0; s < segmentosFilas.length; s++) {
+            ByteBuffer segmento = segmentosFilas[s];
+            int fin = filasEnSegmento(s) * TAMANIO_FILA;
+            for (int base = 0; base < fin; base += TAMANIO_FILA) {
+                if (segmento.getInt(base + CANTIDAD_CALIFICACIONES) == SIN_REGISTRO) {
+                    continue;
+                }
+                segmento.putLong(base + INDICADOR_BRUTO, CalculadoraIndicador.calcularIndicadorBruto(
+                    segmento.getDouble(base + PROMEDIO), segmento.getInt(base + ASIGNATURAS_APROBADAS),
+                    segmento.getInt(base + ASIGNATURAS_INSCRITAS), segmento.getInt(base + TOTAL_CREDITOS),
+                    segmento.getInt(base + SEMESTRE)));
+            }
+        }
+    }
+
+    /**
+     * @return El promedio del Indicador Bruto de todos los alumnos (0 si no hay alumnos).
+     */
+    public double promedioIndicadorBruto() {
+        if (filas == 0) {
+            return 0.0;
+        }
+        long suma = 0;
+        for (int s = 0; s < segmentosFilas.length; s++) {
+            ByteBuffer segmento = segmentosFilas[s];
+            int fin = filasEnSegmento(s) * TAMANIO_FILA;
+            for (int base = 0; base < fin; base += TAMANIO_FILA) {
+                suma += segmento.getLong(base + INDICADOR_BRUTO);
+            }
+        }
+        return (double) suma / filas;
+    }
+
+    /**
+     * Cuenta los alumnos de cada semestre.
+     * @param totalSemestres Cantidad de semestres del plan de estudios.
+     * @return Arreglo donde la posición s - 1 tiene la cantidad de alumnos del semestre s
+     *         (los semestres fuera de rango no se cuentan).
+     */
+    public int[] contarAlumnosPorSemestre(int totalSemestres) {
+        int[] conteo = new int[totalSemestres];
+        for (int s = 0; s < segmentosFilas.length; s++) {
+            ByteBuffer segmento = segmentosFilas[s];
+            int fin = filasEnSegmento(s) * TAMANIO_FILA;
+            for (int base = 0; base < fin; base += TAMANIO_FILA) {
+                int semestreAlumno = segmento.getInt(base + SEMESTRE);
+                if (semestreAlumno >= 1 && semestreAlumno <= totalSemestres) {
+                    conteo[semestreAlumno - 1]++;
+                }
+            }
+        }
+        return conteo;
+    }
+
+    // ===============================================
+    //           CARGA DIRECTA (SNAPSHOT)
+    // ===============================================
+
+    /**
+     * Agrega una fila con datos ya en forma columnar (usado al cargar un snapshot sin crear
+     * objetos {@link Alumno}). Los agregados del registro se calculan de las calificaciones.
+     * @throws IllegalArgumentException Si el número de cuenta ya existe o una asignatura no está en el catálogo.
+     */
+    void agregarFila(long cuenta, String[] textosFila, int edadAlumno, int semestreAlumno, long indicador,
+                     int cantidad, int[] ids, double[] notas, int desde) {
+        if (buscarFila(cuenta) != IndiceNumCuenta.NO_ENCONTRADO) {
+            throw new IllegalArgumentException("Numero de cuenta repetido: " + cuenta);
+        }
+        for (int j = 0; j < cantidad; j++) {
+            int id = ids[desde + j];
+            if (id < 0 || id >= asignaturaPorId.length || asignaturaPorId[id] == null) {
+                throw new IllegalArgumentException("Asignatura inexistente en el catalogo: " + id);
+            }
+        }
+        int fila = nuevaFila(cuenta);
+        for (int t = 0; t < TEXTOS.length; t++) {
+            escribirInt(fila, TEXTOS[t], diccionario(t).codificar(textosFila[t]));
+        }
+        escribirInt(fila, EDAD, edadAlumno);
+        escribirInt(fila, SEMESTRE, semestreAlumno);
+        escribirLong(fila, INDICADOR_BRUTO, indicador);
+        escribirInt(fila, NUM_INSCRIPCION_FINAL, 0);
+
+        escribirInt(fila, CANTIDAD_CALIFICACIONES, cantidad);
+        escribirInt(fila, INICIO_CALIFICACIONES, usoArena);
+        int creditos = 0;
+        int aprobadas = 0;
+        double suma = 0.0;
+        if (cantidad != SIN_REGISTRO) {
+            asegurarArena((long) usoArena + cantidad);
+            for (int j = 0; j < cantidad; j++) {
+                int id = ids[desde + j];
+                double nota = notas[desde + j];
+                escribirCalificacion(usoArena++, id, nota);
+                creditos += asignaturaPorId[id].getCreditos();
+                suma += nota;
+                if (nota >= RegistroAcademico.CALIFICACION_MINIMA_APROBATORIA) {
+                    aprobadas++;
+                }
+            }
+        }
+        int inscritas = Math.max(0, cantidad);
+        escribirInt(fila, TOTAL_CREDITOS, creditos);
+        escribirInt(fila, ASIGNATURAS_INSCRITAS, inscritas);
+        escribirInt(fila, ASIGNATURAS_APROBADAS, aprobadas);
+        escribirDouble(fila, PROMEDIO, inscritas == 0 ? 0.0 : suma / inscritas);
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /** Reserva la siguiente fila para un número de cuenta y la registra en el índice. */
+    private int nuevaFila(long cuenta) {
+        int fila = filas;
+        if ((fila >>> BITS_FILAS_POR_SEGMENTO) == segmentosFilas.length) {
+            segmentosFilas = Arrays.copyOf(segmentosFilas, segmentosFilas.length + 1);
+            segmentosFilas[segmentosFilas.length - 1] = reservar((MASCARA_FILAS + 1) * TAMANIO_FILA);
+        }
+        filas++;
+        escribirLong(fila, NUM_CUENTA, cuenta);
+        ponerEnIndice(cuenta, fila);
+        return fila;
+    }
+
+    private void escribirFila(int fila, Alumno alumno) {
+        escribirLong(fila, NUM_CUENTA, alumno.getNumCuenta());
+        escribirInt(fila, TEXTOS[0], textos.codificar(alumno.getPrimerNombre()));
+        escribirInt(fila, TEXTOS[1], textos.codificar(alumno.getSegundoNombre()));
+        escribirInt(fila, TEXTOS[2], apellidos.codificar(alumno.getPrimerApellido()));
+        escribirInt(fila, TEXTOS[3], textos.codificar(alumno.getSegundoApellido()));
+        escribirInt(fila, TEXTOS[4], textos.codificar(alumno.getCarrera()));
+        escribirInt(fila, TEXTOS[5], textos.codificar(alumno.getDireccion()));
+        escribirInt(fila, TEXTOS[6], textos.codificar(alumno.getGenero()));
+        escribirInt(fila, EDAD, alumno.getEdad());
+        escribirInt(fila, SEMESTRE, alumno.getSemestre());
+        escribirLong(fila, INDICADOR_BRUTO, alumno.getIndicadorBruto());
+        escribirInt(fila, NUM_INSCRIPCION_FINAL, alumno.getNumInscripcionFinal());
+
+        RegistroAcademico registro = alumno.getRegistroAcademico();
+        escribirInt(fila, INICIO_CALIFICACIONES, usoArena);
+        if (registro == null) {
+            escribirInt(fila, CANTIDAD_CALIFICACIONES, SIN_REGISTRO);
+            escribirInt(fila, TOTAL_CREDITOS, 0);
+            escribirInt(fila, ASIGNATURAS_INSCRITAS, 0);
+            escribirInt(fila, ASIGNATURAS_APROBADAS, 0);
+            escribirDouble(fila, PROMEDIO, 0.0);
+            return;
+        }
+        int cantidad = registro.getAsignaturasInscritas();
+        asegurarArena((long) usoArena + cantidad);
+        for (int j = 0; j < cantidad; j++) {
+            Asignatura asignatura = registro.getAsignatura(j);
+            int id = asignatura.getId();
+            if (id >= asignaturaPorId.length || asignaturaPorId[id] == null) {
+                // Asignatura fuera del catálogo original: se incorpora para poder reconstruir la vista
+                if (id >= asignaturaPorId.length) {
+                    asignaturaPorId = Arrays.copyOf(asignaturaPorId, id + 1);
+                }
+                asignaturaPorId[id] = asignatura;
+            }
+            escribirCalificacion(usoArena++, id, registro.getCalificacion(j));
+        }
+        escribirInt(fila, CANTIDAD_CALIFICACIONES, cantidad);
+        escribirInt(fila, TOTAL_CREDITOS, registro.getTotalCreditos());
+        escribirInt(fila, ASIGNATURAS_INSCRITAS, cantidad);
+        escribirInt(fila, ASIGNATURAS_APROBADAS, registro.getAsignaturasAprobadas());
+        escribirDouble(fila, PROMEDIO, registro.calcularPromedio());
+    }
+
+    /** Copia los bytes de una fila completa sobre otra. */
+    private void copiarFila(int origen, int destino) {
+        ByteBuffer lector = segmentosFilas[origen >>> BITS_FILAS_POR_SEGMENTO].duplicate();
+        int base = (origen & MASCARA_FILAS) * TAMANIO_FILA;
+        lector.limit(base + TAMANIO_FILA).position(base);
+        ByteBuffer escritor = segmentosFilas[destino >>> BITS_FILAS_POR_SEGMENTO].duplicate();
+        escritor.position((destino & MASCARA_FILAS) * TAMANIO_FILA);
+        escritor.put(lector);
+    }
+
+    /** Cantidad de filas ocupadas dentro del segmento indicado. */
+    private int filasEnSegmento(int segmento) {
+        return Math.max(0, Math.min(MASCARA_FILAS + 1, filas - (segmento << BITS_FILAS_POR_SEGMENTO)));
+    }
+
+    private String texto(int fila, int columna) {
+        return diccionario(columna).decodificar(leerInt(fila, TEXTOS[columna]));
+    }
+
+    /** Diccionario de la columna de texto indicada (posición en {@link #TEXTOS}). */
+    private DiccionarioTexto diccionario(int columna) {
+        return TEXTOS[columna] == PRIMER_APELLIDO ? apellidos : textos;
+    }
+
+    private long leerLong(int fila, int campo) {
+        return segmentosFilas[fila >>> BITS_FILAS_POR_SEGMENTO].getLong((fila & MASCARA_FILAS) * TAMANIO_FILA + campo);
+    }
+
+    private int leerInt(int fila, int campo) {
+        return segmentosFilas[fila >>> BITS_FILAS_POR_SEGMENTO].getInt((fila & MASCARA_FILAS) * TAMANIO_FILA + campo);
+    }
+
+    private void escribirLong(int fila, int campo, long valor) {
+        segmentosFilas[fila >>> BITS_FILAS_POR_SEGMENTO].putLong((fila & MASCARA_FILAS) * TAMANIO_FILA + campo, valor);
+    }
+
+    private void escribirInt(int fila, int campo, int valor) {
+        segmentosFilas[fila >>> BITS_FILAS_POR_SEGMENTO].putInt((fila & MASCARA_FILAS) * TAMANIO_FILA + campo, valor);
+    }
+
+    private void escribirDouble(int fila, int campo, double valor) {
+        segmentosFilas[fila >>> BITS_FILAS_POR_SEGMENTO].putDouble((fila & MASCARA_FILAS) * TAMANIO_FILA + campo, valor);
+    }
+
+    private int idAsignatura(int registro) {
+        return idAsignatura(segmentosCalificaciones, registro);
+    }
+
+    private double calificacion(int registro) {
+        return calificacion(segmentosCalificaciones, registro);
+    }
+
+    private void escribirCalificacion(int registro, int id, double nota) {
+        escribirCalificacion(segmentosCalificaciones, registro, id, nota);
+    }
+
+    private static int idAsignatura(ByteBuffer[] segmentos, int registro) {
+        return segmentos[registro >>> BITS_CALIFICACIONES_POR_SEGMENTO]
+            .getInt((registro & MASCARA_CALIFICACIONES) * TAMANIO_CALIFICACION + ID_ASIGNATURA);
+    }
+
+    private static double calificacion(ByteBuffer[] segmentos, int registro) {
+        return segmentos[registro >>> BITS_CALIFICACIONES_POR_SEGMENTO]
+            .getDouble((registro & MASCARA_CALIFICACIONES) * TAMANIO_CALIFICACION + CALIFICACION);
+    }
+
+    private static void escribirCalificacion(ByteBuffer[] segmentos, int registro, int id, double nota) {
+        ByteBuffer segmento = segmentos[registro >>> BITS_CALIFICACIONES_POR_SEGMENTO];
+        int base = (registro & MASCARA_CALIFICACIONES) * TAMANIO_CALIFICACION;
+        segmento.putInt(base + ID_ASIGNATURA, id);
+        segmento.putDouble(base + CALIFICACION, nota);
+    }
+
+    private void asegurarArena(long capacidad) {
+        if (capacidad > Integer.MAX_VALUE) {
+            throw new IllegalStateException("La arena de calificaciones excede " + Integer.MAX_VALUE + " registros");
+        }
+        while ((long) segmentosCalificaciones.length << BITS_CALIFICACIONES_POR_SEGMENTO < capacidad) {
+            segmentosCalificaciones = Arrays.copyOf(segmentosCalificaciones, segmentosCalificaciones.length + 1);
+            segmentosCalificaciones[segmentosCalificaciones.length - 1] =
+                reservar((MASCARA_CALIFICACIONES + 1) * TAMANIO_CALIFICACION);
+        }
+    }
+
+    /**
+     * Marca como libres las calificaciones de una fila y compacta la arena cuando
+     * la mitad de ella ya no pertenece a ninguna fila.
+     */
+    private void liberarCalificaciones(int fila) {
+        basuraArena += Math.max(0, leerInt(fila, CANTIDAD_CALIFICACIONES));
+        escribirInt(fila, CANTIDAD_CALIFICACIONES, 0);
+        if (usoArena >= ARENA_MINIMA_PARA_COMPACTAR && basuraArena * 2 > usoArena) {
+            compactarArena();
+        }
+    }
+
+    /** Copia las calificaciones vigentes a segmentos nuevos, sin huecos, en el orden de las filas. */
+    private void compactarArena() {
+        ByteBuffer[] anteriores = segmentosCalificaciones;
+        segmentosCalificaciones = new ByteBuffer[0];
+        asegurarArena(usoArena - basuraArena);
+        int uso = 0;
+        for (int fila = 0; fila < filas; fila++) {
+            int cantidad = Math.max(0, leerInt(fila, CANTIDAD_CALIFICACIONES));
+            int inicio = leerInt(fila, INICIO_CALIFICACIONES);
+            for (int j = 0; j < cantidad; j++) {
+                escribirCalificacion(uso + j, idAsignatura(anteriores, inicio + j), calificacion(anteriores, inicio + j));
+            }
+            escribirInt(fila, INICIO_CALIFICACIONES, uso);
+            uso += cantidad;
+        }
+        usoArena = uso;
+        basuraArena = 0;
+    }
+
+    /**
+     * Orden del ranking ({@link RankingAlumnos#ORDEN_RANKING}) leído de las filas: Indicador
+     * Bruto descendente, primer apellido (por rango alfabético) y número de cuenta ascendentes.
+     */
+    private OrdenamientoFilas ordenamientoPorRanking() {
+        final int[] rangoApellido = rangosApellido.obtener();
+        return new OrdenamientoFilas() {
+            @Override
+            int comparar(int a, int b) {
+                int comparacion = Long.compare(leerLong(b, INDICADOR_BRUTO), leerLong(a, INDICADOR_BRUTO));
+                if (comparacion != 0) {
+                    return comparacion;
+                }
+                comparacion = compararTextos(leerInt(a, PRIMER_APELLIDO), leerInt(b, PRIMER_APELLIDO), rangoApellido);
+                if (comparacion != 0) {
+                    return comparacion;
+                }
+                return Long.compare(leerLong(a, NUM_CUENTA), leerLong(b, NUM_CUENTA));
+            }
+        };
+    }
+
+    // --- Índice por número de cuenta (sondeo lineal, como IndiceNumCuenta) ---
+
+    /** Asocia un número de cuenta con una fila, reemplazando la anterior si ya existía. */
+    private void ponerEnIndice(long cuenta, int fila) {
+        int casilla = casillaInicial(cuenta);
+        int valor;
+        while ((valor = tablaCuentas.getInt(casilla * TAMANIO_CASILLA + 8)) != 0) {
+            if (tablaCuentas.getLong(casilla * TAMANIO_CASILLA) == cuenta) {
+                tablaCuentas.putInt(casilla * TAMANIO_CASILLA + 8, fila + 1);
+                return;
+            }
+            casilla = (casilla + 1) & mascaraTabla;
+        }
+        tablaCuentas.putLong(casilla * TAMANIO_CASILLA, cuenta);
+        tablaCuentas.putInt(casilla * TAMANIO_CASILLA + 8, fila + 1);
+        // Las filas ocupadas son exactamente las entradas del índice
+        if (filas * 4L > (mascaraTabla + 1) * 3L) {
+            redimensionarTabla((mascaraTabla + 1) << 1);
+        }
+    }
+
+    /** Elimina un número de cuenta del índice con desplazamiento hacia atrás. */
+    private int eliminarDelIndice(long cuenta) {
+        int hueco = casillaInicial(cuenta);
+        int valor;
+        while ((valor = tablaCuentas.getInt(hueco * TAMANIO_CASILLA + 8)) != 0) {
+            if (tablaCuentas.getLong(hueco * TAMANIO_CASILLA) == cuenta) {
+                int i = hueco;
+                while (true) {
+                    i = (i + 1) & mascaraTabla;
+                    int valorSiguiente = tablaCuentas.getInt(i * TAMANIO_CASILLA + 8);
+                    if (valorSiguiente == 0) {
+                        break;
+                    }
+                    long clave = tablaCuentas.getLong(i * TAMANIO_CASILLA);
+                    int ideal = casillaInicial(clave);
+                    if (((i - ideal) & mascaraTabla) >= ((i - hueco) & mascaraTabla)) {
+                        tablaCuentas.putLong(hueco * TAMANIO_CASILLA, clave);
+                        tablaCuentas.putInt(hueco * TAMANIO_CASILLA + 8, valorSiguiente);
+                        hueco = i;
+                    }
+                }
+                tablaCuentas.putInt(hueco * TAMANIO_CASILLA + 8, 0);
+                return valor - 1;
+            }
+            hueco = (hueco + 1) & mascaraTabla;
+        }
+        return IndiceNumCuenta.NO_ENCONTRADO;
+    }
+
+    private void redimensionarTabla(int capacidad) {
+        ByteBuffer anterior = tablaCuentas;
+        int casillasAnteriores = mascaraTabla + 1;
+        inicializarTabla(capacidad);
+        for (int j = 0; j < casillasAnteriores; j++) {
+            int valor = anterior.getInt(j * TAMANIO_CASILLA + 8);
+            if (valor != 0) {
+                long clave = anterior.getLong(j * TAMANIO_CASILLA);
+                int casilla = casillaInicial(clave);
+                while (tablaCuentas.getInt(casilla * TAMANIO_CASILLA + 8) != 0) {
+                    casilla = (casilla + 1) & mascaraTabla;
+                }
+                tablaCuentas.putLong(casilla * TAMANIO_CASILLA, clave);
+                tablaCuentas.putInt(casilla * TAMANIO_CASILLA + 8, valor);
+            }
+        }
+    }
+
+    private void inicializarTabla(int capacidad) {
+        if ((long) capacidad * TAMANIO_CASILLA > Integer.MAX_VALUE) {
+            throw new IllegalStateException("El indice por numero de cuenta excede 2 GB");
+        }
+        // allocateDirect entrega la memoria en ceros: todas las casillas quedan libres
+        tablaCuentas = reservar(capacidad * TAMANIO_CASILLA);
+        mascaraTabla = capacidad - 1;
+    }
+
+    private int casillaInicial(long cuenta) {
+        long h = cuenta * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascaraTabla;
+    }
+
+    private static ByteBuffer reservar(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private void validarFila(int fila) {
+        if (fila < 0 || fila >= filas) {
+            throw new IndexOutOfBoundsException("Fila: " + fila + ", Filas: " + filas);
+        }
+    }
+}
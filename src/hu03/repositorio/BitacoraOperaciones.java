@@ -0,0 +1,675 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import hu03.modelo.RegistroAcademico;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * BitacoraOperaciones: Bitácora de solo anexado (write-ahead log) de las altas, modificaciones
+ * y bajas de alumnos, para no perder los cambios hechos después del último snapshot.
+ * <p>
+ * Cada operación se agrega a un búfer en memoria y un hilo escritor la vuelca al archivo
+ * (una escritura secuencial seguida de un {@code force}) junto con todas las operaciones que
+ * se acumularon mientras se sincronizaba el lote anterior (group commit): la durabilidad
+ * cuesta una sincronización por lote, no por registro. En modo síncrono, quien registra una
+ * operación espera a que su lote sea durable.
+ * <p>
+ * Formato: cabecera con la magia "HU03BITA" y la versión (int), seguida de registros
+ * {longitud (int), CRC32 (int), contenido}. El contenido empieza con el tipo de operación;
+ * las altas y modificaciones guardan el estado completo del alumno (datos, Indicador Bruto
+ * y calificaciones) y las bajas solo el número de cuenta, por lo que reproducir un registro
+ * dos veces no cambia el resultado. Un registro incompleto o con CRC inválido al final del
+ * archivo (escritura interrumpida) se descarta al abrir la bitácora.
+ * <p>
+ * Las operaciones solo tienen sentido sobre el snapshot a partir del cual se registraron:
+ * {@link #compactar(ModuloRegistros, String)} guarda un snapshot nuevo y vacía la bitácora.
+ * <p>
+ * La bitácora no imprime nada: el resultado de abrirla se consulta con
+ * {@link #getOperacionesReproducidas()} y {@link #getBytesDescartados()}, y un error del hilo
+ * escritor se lanza a quien registre, sincronice o cierre la bitácora después.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class BitacoraOperaciones implements Closeable {
+
+    /** Versión actual del formato. */
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIA = "HU03BITA".getBytes(StandardCharsets.US_ASCII);
+    private static final int TAMANIO_CABECERA = MAGIA.length + 4;
+    /** Longitud máxima aceptada para un registro; una mayor indica un registro dañado. */
+    private static final int LONGITUD_MAXIMA_REGISTRO = 1 << 20;
+
+    private static final byte TIPO_ALTA = 1;
+    private static final byte TIPO_MODIFICACION = 2;
+    private static final byte TIPO_BAJA = 3;
+
+    /** Valor que representa un alumno sin registro académico. */
+    private static final int SIN_REGISTRO = -1;
+
+    private final FileChannel canal;
+    private final boolean sincrona;
+    private final Thread escritor;
+
+    // --- Estado compartido con el hilo escritor (protegido por el monitor de la bitácora) ---
+    /** Registros pendientes de escribir. */
+    private ByteArrayOutputStream pendiente = new ByteArrayOutputStream();
+    /** Número de registros agregados hasta ahora. */
+    private long secuenciaAsignada;
+    /** Número de registros que ya son durables en el archivo. */
+    private long secuenciaDuradera;
+    /** Error de escritura que deshabilita la bitácora. */
+    private IOException errorEscritura;
+    private boolean cerrada;
+    /** Posición del archivo donde se escribe el siguiente lote. */
+    private long finArchivo;
+    /** true mientras el hilo escritor escribe un lote fuera del monitor. */
+    private boolean escribiendo;
+    /** true mientras se compacta: el hilo escritor no toma lotes nuevos. */
+    private boolean compactando;
+
+    /** Operaciones reproducidas al abrir la bitácora. */
+    private final int operacionesReproducidas;
+    /** Bytes de un registro final incompleto descartados al abrir la bitácora. */
+    private final long bytesDescartados;
+
+    private BitacoraOperaciones(FileChannel canal, long finArchivo, boolean sincrona,
+                                int operacionesReproducidas, long bytesDescartados) {
+        this.canal = canal;
+        this.finArchivo = finArchivo;
+        this.sincrona = sincrona;
+        this.operacionesReproducidas = operacionesReproducidas;
+        this.bytesDescartados = bytesDescartados;
+        this.escritor = new Thread(this::escribirLotes, "hu03-bitacora");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    // ===============================================
+    //            APERTURA Y REPRODUCCIÓN
+    // ===============================================
+
+    /**
+     * Crea una bitácora vacía en la ruta indicada, descartando cualquier contenido previo.
+     * @param ruta La ruta del archivo de bitácora.
+     * @param sincrona true para que cada operación espere a que su lote sea durable.
+     * @return La bitácora abierta.
+     * @throws IOException Si no se puede crear el archivo.
+     */
+    public static BitacoraOperaciones crear(String ruta, boolean sincrona) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(ruta), StandardOpenOption.CREATE,
+                                             StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            escribirCabecera(canal);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        return new BitacoraOperaciones(canal, TAMANIO_CABECERA, sincrona, 0, 0L);
+    }
+
+    /**
+     * Abre la bitácora indicada, reproduce sus operaciones sobre el módulo (normalmente recién
+     * cargado del snapshot correspondiente) y la deja lista para seguir agregando operaciones.
+     * Si el archivo no existe se crea vacío; un registro final incompleto se descarta
+     * (ver {@link #getBytesDescartados()}).
+     * @param ruta La ruta del archivo de bitácora.
+     * @param modulo El módulo sobre el que se reproducen las operaciones.
+     * @param sincrona true para que cada operación espere a que su lote sea durable.
+     * @return La bitácora abierta.
+     * @throws IOException Si el archivo no es una bitácora válida o no se puede leer.
+     */
+    public static BitacoraOperaciones abrir(String ruta, ModuloRegistros modulo, boolean sincrona) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(ruta), StandardOpenOption.CREATE,
+                                             StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (canal.size() == 0) {
+                escribirCabecera(canal);
+                return new BitacoraOperaciones(canal, TAMANIO_CABECERA, sincrona, 0, 0L);
+            }
+            long[] resultado = reproducir(canal, modulo, ruta);
+            long finValido = resultado[0];
+            long descartados = canal.size() - finValido;
+            if (descartados > 0) {
+                canal.truncate(finValido);
+                canal.force(true);
+            }
+            return new BitacoraOperaciones(canal, finValido, sincrona, (int) resultado[1], descartados);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lee y aplica todos los registros válidos de la bitácora.
+     * @return La posición del archivo donde termina el último registro válido y la cantidad
+     *         de operaciones reproducidas.
+     */
+    private static long[] reproducir(FileChannel canal, ModuloRegistros modulo, String ruta) throws IOException {
+        canal.position(0);
+        DataInputStream entrada = new DataInputStream(new BufferedInputStream(Channels.newInputStream(canal), 1 << 16));
+        byte[] magia = new byte[MAGIA.length];
+        int version;
+        try {
+            entrada.readFully(magia);
+            version = entrada.readInt();
+        } catch (EOFException e) {
+            throw new IOException("El archivo no es una bitacora valida (demasiado corto): " + ruta);
+        }
+        if (!Arrays.equals(magia, MAGIA)) {
+            throw new IOException("El archivo no es una bitacora valida: " + ruta);
+        }
+        if (version != VERSION) {
+            throw new IOException("Version de bitacora no soportada: " + version + " (se esperaba " + VERSION + ")");
+        }
+
+        Map<Integer, Asignatura> asignaturasPorId = new HashMap<>();
+        for (List<Asignatura> semestre : modulo.getAsignaturas()) {
+            for (Asignatura asignatura : semestre) {
+                asignaturasPorId.put(asignatura.getId(), asignatura);
+            }
+        }
+
+        long finValido = TAMANIO_CABECERA;
+        int reproducidas = 0;
+        CRC32 crc = new CRC32();
+        while (true) {
+            int longitud;
+            int crcEsperado;
+            byte[] contenido;
+            try {
+                longitud = entrada.readInt();
+                crcEsperado = entrada.readInt();
+                if (longitud <= 0 || longitud > LONGITUD_MAXIMA_REGISTRO) {
+                    break;
+                }
+                contenido = new byte[longitud];
+                entrada.readFully(contenido);
+            } catch (EOFException e) {
+                break;
+            }
+            crc.reset();
+            crc.update(contenido, 0, contenido.length);
+            if ((int) crc.getValue() != crcEsperado) {
+                break;
+            }
+            aplicar(contenido, modulo, asignaturasPorId, ruta);
+            finValido += 8 + longitud;
+            reproducidas++;
+        }
+        return new long[] {finValido, reproducidas};
+    }
+
+    /**
+     * Aplica un registro al módulo. Las altas y modificaciones se aplican como "insertar o
+     * reemplazar" y las bajas de alumnos inexistentes se ignoran, para que reproducir de nuevo
+     * operaciones ya incluidas en el snapshot no tenga efecto.
+     */
+    private static void aplicar(byte[] contenido, ModuloRegistros modulo, Map<Integer, Asignatura> asignaturasPorId,
+                                String ruta) throws IOException {
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(contenido));
+        byte tipo = entrada.readByte();
+        if (tipo == TIPO_BAJA) {
+            modulo.eliminarAlumno(entrada.readLong());
+            return;
+        }
+        if (tipo != TIPO_ALTA && tipo != TIPO_MODIFICACION) {
+            throw new IOException("Tipo de operacion desconocido (" + tipo + ") en la bitacora: " + ruta);
+        }
+
+        long numCuenta = entrada.readLong();
+        String primerNombre = leerCadena(entrada);
+        String segundoNombre = leerCadena(entrada);
+        String primerApellido = leerCadena(entrada);
+        String segundoApellido = leerCadena(entrada);
+        String carrera = leerCadena(entrada);
+        String direccion = leerCadena(entrada);
+        String genero = leerCadena(entrada);
+        int edad = entrada.readInt();
+        int semestre = entrada.readInt();
+        long indicador = entrada.readLong();
+        int cantidad = entrada.readInt();
+        int[] ids = new int[Math.max(0, cantidad)];
+        double[] calificaciones = new double[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = entrada.readInt();
+            calificaciones[i] = entrada.readDouble();
+        }
+
+        Asignatura[] asignaturas = new Asignatura[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            asignaturas[i] = asignaturasPorId.get(ids[i]);
+            if (asignaturas[i] == null) {
+                throw new IOException("La bitacora hace referencia a la asignatura " + ids[i]
+                                      + ", que no existe en el catalogo: " + ruta);
+            }
+        }
+
+        if (modulo.buscarAlumnoPorNumCuenta(numCuenta) == null) {
+            Alumno alumno = new Alumno(numCuenta, primerNombre, segundoNombre, primerApellido, segundoApellido,
+                                       edad, carrera, semestre, direccion, genero);
+            alumno.setIndicadorBruto(indicador);
+            alumno.setRegistroAcademico(construirRegistro(alumno, cantidad, asignaturas, calificaciones));
+            modulo.agregarAlumno(alumno);
+        } else {
+            modulo.modificarAlumno(numCuenta, existente -> {
+                existente.setPrimerNombre(primerNombre);
+                existente.setSegundoNombre(segundoNombre);
+                existente.setPrimerApellido(primerApellido);
+                existente.setSegundoApellido(segundoApellido);
+                existente.setEdad(edad);
+                existente.setSemestre(semestre);
+                existente.setDireccion(direccion);
+                existente.setGenero(genero);
+                existente.setIndicadorBruto(indicador);
+                existente.setRegistroAcademico(construirRegistro(existente, cantidad, asignaturas, calificaciones));
+            });
+        }
+    }
+
+    private static RegistroAcademico construirRegistro(Alumno alumno, int cantidad, Asignatura[] asignaturas,
+                                                       double[] calificaciones) {
+        if (cantidad == SIN_REGISTRO) {
+            return null;
+        }
+        RegistroAcademico registro = new RegistroAcademico(alumno);
+        registro.asegurarCapacidad(cantidad);
+        for (int i = 0; i < asignaturas.length; i++) {
+            registro.agregarAsignatura(asignaturas[i], calificaciones[i]);
+        }
+        return registro;
+    }
+
+    /**
+     * @return La cantidad de operaciones reproducidas sobre el módulo al abrir la bitácora.
+     */
+    public int getOperacionesReproducidas() {
+        return operacionesReproducidas;
+    }
+
+    /**
+     * @return La cantidad de bytes de un registro final incompleto o dañado que se descartaron
+     *         al abrir la bitácora (0 si el archivo terminaba en un registro válido).
+     */
+    public long getBytesDescartados() {
+        return bytesDescartados;
+    }
+
+    /**
+     * @return El tamaño aproximado de la bitácora en bytes: lo ya escrito en el archivo más las
+     *         operaciones que esperan en el búfer; sirve para decidir cuándo compactarla.
+     */
+    public synchronized long getTamanio() {
+        return finArchivo + pendiente.size();
+    }
+
+    // ===============================================
+    //              REGISTRO DE OPERACIONES
+    // ===============================================
+
+    /**
+     * Registra el alta de un alumno (con su registro académico e Indicador Bruto).
+     * @param alumno El alumno agregado.
+     * @throws IOException Si la bitácora no está disponible por un error de escritura anterior
+     *                     o, en modo síncrono, si falla la escritura del lote.
+     */
+    public void registrarAlta(Alumno alumno) throws IOException {
+        registrar(Collections.singletonList(codificarEstado(TIPO_ALTA, alumno)));
+    }
+
+    /**
+     * Registra el estado de un alumno después de modificarlo.
+     * @param alumno El alumno modificado.
+     * @throws IOException Si la bitácora no está disponible por un error de escritura anterior
+     *                     o, en modo síncrono, si falla la escritura del lote.
+     */
+    public void registrarModificacion(Alumno alumno) throws IOException {
+        registrar(Collections.singletonList(codificarEstado(TIPO_MODIFICACION, alumno)));
+    }
+
+    /**
+     * Registra la baja de un alumno.
+     * @param numCuenta El número de cuenta del alumno eliminado.
+     * @throws IOException Si la bitácora no está disponible por un error de escritura anterior
+     *                     o, en modo síncrono, si falla la escritura del lote.
+     */
+    public void registrarBaja(long numCuenta) throws IOException {
+        registrar(Collections.singletonList(codificarBaja(numCuenta)));
+    }
+
+    /**
+     * Registra las altas de un lote de alumnos. En modo síncrono se espera una sola vez,
+     * a que el lote completo sea durable.
+     * @param alumnos Los alumnos agregados.
+     * @throws IOException Si la bitácora no está disponible o, en modo síncrono, si falla la escritura.
+     */
+    public void registrarAltas(Collection<Alumno> alumnos) throws IOException {
+        List<byte[]> contenidos = new ArrayList<>(alumnos.size());
+        for (Alumno alumno : alumnos) {
+            contenidos.add(codificarEstado(TIPO_ALTA, alumno));
+        }
+        registrar(contenidos);
+    }
+
+    /**
+     * Registra el estado de un lote de alumnos después de modificarlos, con una sola espera
+     * en modo síncrono.
+     * @param alumnos Los alumnos modificados.
+     * @throws IOException Si la bitácora no está disponible o, en modo síncrono, si falla la escritura.
+     */
+    public void registrarModificaciones(Collection<Alumno> alumnos) throws IOException {
+        List<byte[]> contenidos = new ArrayList<>(alumnos.size());
+        for (Alumno alumno : alumnos) {
+            contenidos.add(codificarEstado(TIPO_MODIFICACION, alumno));
+        }
+        registrar(contenidos);
+    }
+
+    /**
+     * Registra las bajas de un lote de alumnos, con una sola espera en modo síncrono.
+     * @param numCuentas Los números de cuenta de los alumnos eliminados.
+     * @throws IOException Si la bitácora no está disponible o, en modo síncrono, si falla la escritura.
+     */
+    public void registrarBajas(Collection<Long> numCuentas) throws IOException {
+        List<byte[]> contenidos = new ArrayList<>(numCuentas.size());
+        for (long numCuenta : numCuentas) {
+            contenidos.add(codificarBaja(numCuenta));
+        }
+        registrar(contenidos);
+    }
+
+    /**
+     * Espera a que todas las operaciones registradas hasta ahora sean durables.
+     * @throws IOException Si falla la escritura de algún lote.
+     */
+    public void sincronizar() throws IOException {
+        long objetivo;
+        synchronized (this) {
+            objetivo = secuenciaAsignada;
+        }
+        esperarDurabilidad(objetivo);
+    }
+
+    /**
+     * Guarda el estado actual del módulo en un snapshot nuevo y vacía la bitácora, cuyas
+     * operaciones ya quedan incluidas en él. El snapshot se reemplaza antes de vaciar la
+     * bitácora: si el proceso se interrumpe entre ambos pasos, al reproducirla de nuevo
+     * sobre el snapshot nuevo el resultado es el mismo.
+     * <p>
+     * Mientras se compacta, el hilo escritor no toma lotes nuevos: las operaciones registradas
+     * entretanto esperan en el búfer y se escriben al terminar, ya en la bitácora vacía (al
+     * reproducirlas sobre el snapshot nuevo no cambian nada si este ya las incluía). Solo se
+     * espera a que termine el lote que se estuviera escribiendo.
+     * El módulo no debe modificarse mientras se guarda el snapshot.
+     * @param modulo El módulo cuyo estado se guarda.
+     * @param rutaSnapshot La ruta del archivo de snapshot.
+     * @throws IOException Si la bitácora no está disponible o falla la escritura del snapshot
+     *                     o de la bitácora.
+     */
+    public void compactar(ModuloRegistros modulo, String rutaSnapshot) throws IOException {
+        synchronized (this) {
+            while (compactando || escribiendo) {
+                esperar("Interrumpido mientras se esperaba para compactar la bitacora.");
+            }
+            comprobarDisponible();
+            compactando = true;
+        }
+        try {
+            SnapshotRegistros.guardar(modulo, rutaSnapshot);
+            try {
+                canal.truncate(TAMANIO_CABECERA);
+                canal.force(true);
+            } catch (IOException e) {
+                // El archivo pudo quedar a medio truncar: no se puede seguir escribiendo en él
+                synchronized (this) {
+                    errorEscritura = e;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                finArchivo = TAMANIO_CABECERA;
+            }
+        } finally {
+            synchronized (this) {
+                compactando = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Vuelca las operaciones pendientes, detiene el hilo escritor y cierra el archivo.
+     * @throws IOException Si falla la escritura del último lote.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (cerrada) {
+                return;
+            }
+            cerrada = true;
+            notifyAll();
+        }
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        canal.close();
+        synchronized (this) {
+            if (errorEscritura != null) {
+                throw errorEscritura;
+            }
+        }
+    }
+
+    /**
+     * Agrega registros al lote pendiente y, en modo síncrono, espera a que sean durables.
+     */
+    private void registrar(List<byte[]> contenidos) throws IOException {
+        if (contenidos.isEmpty()) {
+            return;
+        }
+        int[] crcs = new int[contenidos.size()];
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < crcs.length; i++) {
+            byte[] contenido = contenidos.get(i);
+            crc.reset();
+            crc.update(contenido, 0, contenido.length);
+            crcs[i] = (int) crc.getValue();
+        }
+        long secuencia;
+        synchronized (this) {
+            comprobarDisponible();
+            DataOutputStream salida = new DataOutputStream(pendiente);
+            for (int i = 0; i < crcs.length; i++) {
+                byte[] contenido = contenidos.get(i);
+                salida.writeInt(contenido.length);
+                salida.writeInt(crcs[i]);
+                salida.write(contenido);
+            }
+            secuenciaAsignada += crcs.length;
+            secuencia = secuenciaAsignada;
+            notifyAll();
+        }
+        if (sincrona) {
+            esperarDurabilidad(secuencia);
+        }
+    }
+
+    private synchronized void esperarDurabilidad(long secuencia) throws IOException {
+        while (secuenciaDuradera < secuencia && errorEscritura == null) {
+            esperar("Interrumpido mientras se esperaba la escritura de la bitacora.");
+        }
+        if (secuenciaDuradera < secuencia) {
+            throw new IOException("No se pudo escribir la bitacora: " + errorEscritura.getMessage(), errorEscritura);
+        }
+    }
+
+    /**
+     * Ciclo del hilo escritor: toma todo lo acumulado como un lote, lo escribe con una sola
+     * escritura secuencial y lo sincroniza con un solo {@code force}.
+     */
+    private void escribirLotes() {
+        ByteArrayOutputStream enEscritura = new ByteArrayOutputStream();
+        while (true) {
+            long hasta;
+            long posicion;
+            synchronized (this) {
+                while ((pendiente.size() == 0 && !cerrada) || compactando) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // El hilo solo termina al cerrar la bitácora
+                    }
+                }
+                if (pendiente.size() == 0 || errorEscritura != null) {
+                    return;
+                }
+                // Intercambiar búferes: los registros nuevos se acumulan mientras se escribe este lote
+                ByteArrayOutputStream lote = pendiente;
+                pendiente = enEscritura;
+                enEscritura = lote;
+                hasta = secuenciaAsignada;
+                posicion = finArchivo;
+                escribiendo = true;
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(enEscritura.toByteArray());
+                while (buffer.hasRemaining()) {
+                    posicion += canal.write(buffer, posicion);
+                }
+                canal.force(false);
+            } catch (IOException e) {
+                synchronized (this) {
+                    errorEscritura = e;
+                    escribiendo = false;
+                    notifyAll();
+                }
+                return;
+            }
+            enEscritura.reset();
+            synchronized (this) {
+                finArchivo = posicion;
+                secuenciaDuradera = hasta;
+                escribiendo = false;
+                notifyAll();
+            }
+        }
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /**
+     * Verifica que se puedan agregar operaciones. Debe invocarse con el monitor tomado.
+     * @throws IOException Si la bitácora está cerrada o deshabilitada por un error de escritura.
+     */
+    private void comprobarDisponible() throws IOException {
+        if (errorEscritura != null) {
+            throw new IOException("La bitacora no esta disponible: " + errorEscritura.getMessage(), errorEscritura);
+        }
+        if (cerrada) {
+            throw new IOException("La bitacora esta cerrada.");
+        }
+    }
+
+    /**
+     * Espera un aviso del monitor. Debe invocarse con el monitor tomado.
+     * @param mensaje Mensaje de la excepción si el hilo se interrumpe.
+     */
+    private void esperar(String mensaje) throws InterruptedIOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(mensaje);
+        }
+    }
+
+    private static void escribirCabecera(FileChannel canal) throws IOException {
+        ByteBuffer cabecera = ByteBuffer.allocate(TAMANIO_CABECERA);
+        cabecera.put(MAGIA).putInt(VERSION).flip();
+        canal.truncate(0);
+        while (cabecera.hasRemaining()) {
+            canal.write(cabecera, cabecera.position());
+        }
+        canal.force(true);
+    }
+
+    private static byte[] codificarBaja(long numCuenta) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(9);
+        DataOutputStream salida = new DataOutputStream(bytes);
+        salida.writeByte(TIPO_BAJA);
+        salida.writeLong(numCuenta);
+        return bytes.toByteArray();
+    }
+
+    private static byte[] codificarEstado(byte tipo, Alumno alumno) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream salida = new DataOutputStream(bytes);
+        salida.writeByte(tipo);
+        salida.writeLong(alumno.getNumCuenta());
+        escribirCadena(salida, alumno.getPrimerNombre());
+        escribirCadena(salida, alumno.getSegundoNombre());
+        escribirCadena(salida, alumno.getPrimerApellido());
+        escribirCadena(salida, alumno.getSegundoApellido());
+        escribirCadena(salida, alumno.getCarrera());
+        escribirCadena(salida, alumno.getDireccion());
+        escribirCadena(salida, alumno.getGenero());
+        salida.writeInt(alumno.getEdad());
+        salida.writeInt(alumno.getSemestre());
+        salida.writeLong(alumno.getIndicadorBruto());
+        RegistroAcademico registro = alumno.getRegistroAcademico();
+        if (registro == null) {
+            salida.writeInt(SIN_REGISTRO);
+        } else {
+            salida.writeInt(registro.getAsignaturasInscritas());
+            for (int i = 0; i < registro.getAsignaturasInscritas(); i++) {
+                salida.writeInt(registro.getAsignatura(i).getId());
+                salida.writeDouble(registro.getCalificacion(i));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void escribirCadena(DataOutputStream salida, String cadena) throws IOException {
+        salida.writeBoolean(cadena != null);
+        if (cadena != null) {
+            salida.writeUTF(cadena);
+        }
+    }
+
+    private static String leerCadena(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean() ? entrada.readUTF() : null;
+    }
+}
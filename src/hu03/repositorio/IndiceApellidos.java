@@ -0,0 +1,92 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.utilidades.NormalizadorTexto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * IndiceApellidos: Índice invertido que asocia cada apellido normalizado (sin acentos y en
+ * minúsculas) con el conjunto de alumnos que lo tienen como primer o segundo apellido.
+ * Permite resolver búsquedas exactas por apellido sin recorrer a todos los alumnos.
+ * La clave se calcula con los apellidos vigentes del alumno, por lo que debe retirarse
+ * del índice antes de modificar sus apellidos y volver a agregarse después.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class IndiceApellidos {
+
+    /**
+     * Mapa de apellido normalizado a la lista de publicaciones (alumnos con ese apellido),
+     * en orden de registro.
+     */
+    private final Map<String, Set<Alumno>> publicaciones;
+
+    /**
+     * Constructor que crea un índice vacío.
+     */
+    public IndiceApellidos() {
+        this.publicaciones = new HashMap<>();
+    }
+
+    /**
+     * Registra los dos apellidos de un alumno en el índice.
+     * @param alumno El alumno a registrar.
+     */
+    public void agregar(Alumno alumno) {
+        agregarClave(NormalizadorTexto.normalizar(alumno.getPrimerApellido()), alumno);
+        agregarClave(NormalizadorTexto.normalizar(alumno.getSegundoApellido()), alumno);
+    }
+
+    /**
+     * Retira los dos apellidos (vigentes) de un alumno del índice.
+     * @param alumno El alumno a retirar.
+     */
+    public void eliminar(Alumno alumno) {
+        eliminarClave(NormalizadorTexto.normalizar(alumno.getPrimerApellido()), alumno);
+        eliminarClave(NormalizadorTexto.normalizar(alumno.getSegundoApellido()), alumno);
+    }
+
+    /**
+     * Busca los alumnos cuyo primer o segundo apellido coincide exactamente con el término,
+     * ignorando mayúsculas, minúsculas y acentos.
+     * @param apellido El apellido a buscar.
+     * @return Una nueva lista con los alumnos encontrados (vacía si no hay coincidencias).
+     */
+    public List<Alumno> buscar(String apellido) {
+        Set<Alumno> encontrados = publicaciones.get(NormalizadorTexto.normalizar(apellido));
+        return encontrados == null ? new ArrayList<>() : new ArrayList<>(encontrados);
+    }
+
+    /**
+     * Elimina todas las entradas del índice.
+     */
+    public void limpiar() {
+        publicaciones.clear();
+    }
+
+    private void agregarClave(String clave, Alumno alumno) {
+        if (clave.isEmpty()) {
+            return;
+        }
+        publicaciones.computeIfAbsent(clave, k -> new LinkedHashSet<>()).add(alumno);
+    }
+
+    private void eliminarClave(String clave, Alumno alumno) {
+        Set<Alumno> alumnos = publicaciones.get(clave);
+        if (alumnos != null) {
+            alumnos.remove(alumno);
+            if (alumnos.isEmpty()) {
+                publicaciones.remove(clave);
+            }
+        }
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.utilidades.NormalizadorTexto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * IndiceNombres: Trie de nombres normalizados que permite búsquedas por prefijo y búsquedas
+ * tolerantes a errores de escritura (distancia de edición acotada) sobre los nombres de los alumnos.
+ * Cada alumno se registra bajo su primer nombre, segundo nombre, primer apellido y segundo apellido,
+ * normalizados con {@link NormalizadorTexto}. Las búsquedas por prefijo de varias palabras
+ * (por ejemplo "juan car") parten de la primera palabra del nombre completo: su nodo agrupa
+ * a los alumnos cuyo nombre completo empieza con ella según la segunda palabra, de modo que
+ * no se guarda cada nombre completo en el trie ni se normalizan nombres durante la consulta.
+ * Los hijos de cada nodo se guardan en arreglos ordenados (sin mapas por nodo), y como el
+ * vocabulario de nombres es pequeño frente a la cantidad de alumnos, el costo de una consulta
+ * depende del tamaño del vocabulario y de la página pedida, no del total de alumnos.
+ * Al igual que los demás índices, el alumno debe retirarse antes de modificar sus nombres.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class IndiceNombres {
+
+    /**
+     * Nodo del trie. Los arreglos de hijos se mantienen ordenados por carácter.
+     */
+    private static final class Nodo {
+        private static final char[] SIN_ETIQUETAS = new char[0];
+        private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+        char[] etiquetas = SIN_ETIQUETAS;
+        Nodo[] hijos = SIN_HIJOS;
+        /** Alumnos registrados bajo la palabra que termina en este nodo (null si no hay). */
+        Set<Alumno> publicaciones;
+        /**
+         * Alumnos cuyo nombre completo empieza con la palabra de este nodo, agrupados por la
+         * segunda palabra en orden alfabético (null si no hay).
+         */
+        TreeMap<String, Set<Alumno>> porSegundaPalabra;
+
+        Nodo hijo(char c) {
+            int i = Arrays.binarySearch(etiquetas, c);
+            return i >= 0 ? hijos[i] : null;
+        }
+
+        Nodo obtenerOCrearHijo(char c) {
+            int i = Arrays.binarySearch(etiquetas, c);
+            if (i >= 0) {
+                return hijos[i];
+            }
+            int posicion = -(i + 1);
+            char[] nuevasEtiquetas = new char[etiquetas.length + 1];
+            Nodo[] nuevosHijos = new Nodo[hijos.length + 1];
+            System.arraycopy(etiquetas, 0, nuevasEtiquetas, 0, posicion);
+            System.arraycopy(hijos, 0, nuevosHijos, 0, posicion);
+            System.arraycopy(etiquetas, posicion, nuevasEtiquetas, posicion + 1, etiquetas.length - posicion);
+            System.arraycopy(hijos, posicion, nuevosHijos, posicion + 1, hijos.length - posicion);
+            Nodo nuevo = new Nodo();
+            nuevasEtiquetas[posicion] = c;
+            nuevosHijos[posicion] = nuevo;
+            etiquetas = nuevasEtiquetas;
+            hijos = nuevosHijos;
+            return nuevo;
+        }
+    }
+
+    /**
+     * Coincidencia aproximada: nodo terminal encontrado y su distancia al término buscado.
+     */
+    private static final class Coincidencia {
+        final Nodo nodo;
+        final int distancia;
+
+        Coincidencia(Nodo nodo, int distancia) {
+            this.nodo = nodo;
+            this.distancia = distancia;
+        }
+    }
+
+    /** Raíz del trie (corresponde a la palabra vacía). */
+    private final Nodo raiz = new Nodo();
+
+    /**
+     * Registra todos los nombres de un alumno en el trie.
+     * @param alumno El alumno a registrar.
+     */
+    public void agregar(Alumno alumno) {
+        for (String palabra : palabrasDe(alumno)) {
+            Nodo n = raiz;
+            for (int i = 0; i < palabra.length(); i++) {
+                n = n.obtenerOCrearHijo(palabra.charAt(i));
+            }
+            if (n.publicaciones == null) {
+                n.publicaciones = new LinkedHashSet<>();
+            }
+            n.publicaciones.add(alumno);
+        }
+        String[] inicio = dosPrimerasPalabras(alumno);
+        if (inicio != null) {
+            Nodo primera = buscarNodo(inicio[0]);
+            if (primera.porSegundaPalabra == null) {
+                primera.porSegundaPalabra = new TreeMap<>();
+            }
+            primera.porSegundaPalabra.computeIfAbsent(inicio[1], k -> new LinkedHashSet<>()).add(alumno);
+        }
+    }
+
+    /**
+     * Retira todos los nombres (vigentes) de un alumno del trie.
+     * Los nodos que quedan sin publicaciones se conservan para reutilizarse en altas futuras.
+     * @param alumno El alumno a retirar.
+     */
+    public void eliminar(Alumno alumno) {
+        for (String palabra : palabrasDe(alumno)) {
+            Nodo n = buscarNodo(palabra);
+            if (n != null && n.publicaciones != null) {
+                n.publicaciones.remove(alumno);
+                if (n.publicaciones.isEmpty()) {
+                    n.publicaciones = null;
+                }
+            }
+        }
+        String[] inicio = dosPrimerasPalabras(alumno);
+        Nodo primera = inicio == null ? null : buscarNodo(inicio[0]);
+        if (primera != null && primera.porSegundaPalabra != null) {
+            Set<Alumno> grupo = primera.porSegundaPalabra.get(inicio[1]);
+            if (grupo != null && grupo.remove(alumno) && grupo.isEmpty()) {
+                primera.porSegundaPalabra.remove(inicio[1]);
+                if (primera.porSegundaPalabra.isEmpty()) {
+                    primera.porSegundaPalabra = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Busca los alumnos que tienen algún nombre o apellido que comienza con el prefijo.
+     * Si el prefijo contiene varias palabras, se buscan los alumnos cuyo nombre completo comienza
+     * con él: cada palabra excepto la última debe coincidir completa con el nombre o apellido de
+     * su posición, y la última es un prefijo (ver {@link #recolectarPorNombreCompleto}).
+     * Con una sola palabra, los resultados se devuelven sin duplicados, ordenados alfabéticamente
+     * por la palabra coincidente.
+     * El recorrido se detiene en cuanto se completa la página solicitada.
+     * @param prefijo El prefijo a buscar (se normaliza antes de la búsqueda).
+     * @param pagina Número de página, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de resultados solicitada (vacía si no hay más resultados).
+     */
+    public List<Alumno> buscarPorPrefijo(String prefijo, int pagina, int tamanioPagina) {
+        if (pagina < 0 || tamanioPagina <= 0) {
+            return new ArrayList<>();
+        }
+        String normalizado = NormalizadorTexto.normalizar(prefijo);
+        long limite = (long) (pagina + 1) * tamanioPagina;
+        Set<Alumno> acumulados = new LinkedHashSet<>();
+
+        int espacio = normalizado.indexOf(' ');
+        if (espacio < 0) {
+            Nodo inicio = buscarNodo(normalizado);
+            if (inicio != null) {
+                recolectar(inicio, acumulados, limite);
+            }
+        } else {
+            recolectarPorNombreCompleto(dividirPalabras(normalizado), acumulados, limite);
+        }
+        return extraerPagina(acumulados, pagina, tamanioPagina);
+    }
+
+    /**
+     * Recolecta los alumnos cuyo nombre completo comienza con las palabras dadas: todas completas,
+     * excepto la última, que es un prefijo. Con dos palabras, el resultado son los grupos de la
+     * primera palabra cuya segunda palabra comienza con el prefijo, en orden alfabético, sin
+     * revisar alumno por alumno. Con más palabras, el recorrido parte de la lista más corta (el
+     * grupo de las dos primeras palabras, las publicaciones de otra palabra completa o, si suman
+     * menos, las del subárbol de la última palabra); cada candidato se descarta en O(1) si falta
+     * en otra lista, y solo a los que quedan se les comprueba el orden de las palabras,
+     * comparando sus nombres sin crear cadenas.
+     * @param palabras Las palabras normalizadas del prefijo (al menos dos).
+     * @param acumulados Los alumnos encontrados.
+     * @param limite Cantidad de alumnos tras la cual se detiene el recorrido.
+     */
+    private void recolectarPorNombreCompleto(String[] palabras, Set<Alumno> acumulados, long limite) {
+        Nodo primera = buscarNodo(palabras[0]);
+        if (primera == null || primera.porSegundaPalabra == null) {
+            return;
+        }
+        if (palabras.length == 2) {
+            for (Map.Entry<String, Set<Alumno>> grupo : primera.porSegundaPalabra.tailMap(palabras[1]).entrySet()) {
+                if (!grupo.getKey().startsWith(palabras[1])) {
+                    return;
+                }
+                for (Alumno alumno : grupo.getValue()) {
+                    if (acumulados.size() >= limite) {
+                        return;
+                    }
+                    acumulados.add(alumno);
+                }
+            }
+            return;
+        }
+
+        Set<Alumno> guia = primera.porSegundaPalabra.get(palabras[1]);
+        if (guia == null) {
+            return;
+        }
+        int completas = palabras.length - 1;
+        List<Set<Alumno>> listas = new ArrayList<>(completas - 2);
+        for (int i = 2; i < completas; i++) {
+            Nodo n = buscarNodo(palabras[i]);
+            if (n == null || n.publicaciones == null) {
+                return;
+            }
+            listas.add(n.publicaciones);
+            if (n.publicaciones.size() < guia.size()) {
+                guia = n.publicaciones;
+            }
+        }
+        Nodo ultima = buscarNodo(palabras[completas]);
+        if (ultima == null) {
+            return;
+        }
+
+        List<Set<Alumno>> subarbol = new ArrayList<>();
+        List<Set<Alumno>> candidatos = publicacionesDelSubarbol(ultima, subarbol, 0, guia.size()) < guia.size()
+                                       ? subarbol : Collections.singletonList(guia);
+        for (Set<Alumno> lista : candidatos) {
+            for (Alumno alumno : lista) {
+                if (acumulados.size() >= limite) {
+                    return;
+                }
+                if (estaEnTodas(listas, alumno) && coincideNombreCompleto(alumno, palabras)) {
+                    acumulados.add(alumno);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reúne en orden alfabético las listas de publicaciones del subárbol, deteniéndose en cuanto
+     * su tamaño total alcanza el tope.
+     * @return El tamaño total reunido (a lo más el primero que alcanza el tope).
+     */
+    private int publicacionesDelSubarbol(Nodo nodo, List<Set<Alumno>> listas, int total, int tope) {
+        if (nodo.publicaciones != null) {
+            listas.add(nodo.publicaciones);
+            total += nodo.publicaciones.size();
+        }
+        for (int i = 0; i < nodo.hijos.length && total < tope; i++) {
+            total = publicacionesDelSubarbol(nodo.hijos[i], listas, total, tope);
+        }
+        return total;
+    }
+
+    private static boolean estaEnTodas(List<Set<Alumno>> listas, Alumno alumno) {
+        for (Set<Alumno> lista : listas) {
+            if (!lista.contains(alumno)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Comprueba que los nombres y apellidos del alumno, en el orden del nombre completo,
+     * coincidan con las palabras: todas completas, excepto la última, que es un prefijo.
+     */
+    private static boolean coincideNombreCompleto(Alumno alumno, String[] palabras) {
+        int palabra = 0;
+        for (int campo = 0; campo < 4 && palabra < palabras.length; campo++) {
+            String texto = campoDelNombre(alumno, campo);
+            if (estaVacio(texto)) {
+                continue;
+            }
+            if (!coincide(texto, palabras[palabra], palabra < palabras.length - 1)) {
+                return false;
+            }
+            palabra++;
+        }
+        return palabra == palabras.length;
+    }
+
+    private static String campoDelNombre(Alumno alumno, int campo) {
+        switch (campo) {
+            case 0: return alumno.getPrimerNombre();
+            case 1: return alumno.getSegundoNombre();
+            case 2: return alumno.getPrimerApellido();
+            default: return alumno.getSegundoApellido();
+        }
+    }
+
+    private static boolean estaVacio(String texto) {
+        if (texto == null) {
+            return true;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compara la forma normalizada de un texto con una palabra ya normalizada. Los textos ASCII
+     * se comparan carácter por carácter (ignorando mayúsculas y espacios en los extremos) sin
+     * crear cadenas; los demás se normalizan con {@link NormalizadorTexto}.
+     * @param completa true si el texto debe ser igual a la palabra; false si basta con que comience con ella.
+     */
+    private static boolean coincide(String texto, String palabra, boolean completa) {
+        int inicio = 0;
+        int fin = texto.length();
+        while (inicio < fin && texto.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && texto.charAt(fin - 1) <= ' ') {
+            fin--;
+        }
+        for (int i = inicio; i < fin; i++) {
+            if (texto.charAt(i) >= 0x80) {
+                String normalizado = NormalizadorTexto.normalizar(texto);
+                return completa ? normalizado.equals(palabra) : normalizado.startsWith(palabra);
+            }
+        }
+        int longitud = fin - inicio;
+        if (completa ? longitud != palabra.length() : longitud < palabra.length()) {
+            return false;
+        }
+        for (int i = 0; i < palabra.length(); i++) {
+            char c = texto.charAt(inicio + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != palabra.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Divide un texto normalizado en sus palabras, ignorando espacios repetidos.
+     */
+    private static String[] dividirPalabras(String normalizado) {
+        List<String> palabras = new ArrayList<>();
+        int inicio = 0;
+        while (inicio < normalizado.length()) {
+            int fin = normalizado.indexOf(' ', inicio);
+            if (fin < 0) {
+                fin = normalizado.length();
+            }
+            if (fin > inicio) {
+                palabras.add(normalizado.substring(inicio, fin));
+            }
+            inicio = fin + 1;
+        }
+        return palabras.toArray(new String[0]);
+    }
+
+    /**
+     * Busca los alumnos que tienen algún nombre o apellido a una distancia de
+     * edición (Levenshtein) menor o igual a {@code maxDistancia} del término. Por ejemplo,
+     * "Hernadez" encuentra a los alumnos con apellido "Hernandez" con distancia 1.
+     * Los resultados se ordenan por distancia (los más parecidos primero) y luego alfabéticamente.
+     * @param termino El término a buscar (se normaliza antes de la búsqueda).
+     * @param maxDistancia Distancia de edición máxima permitida.
+     * @param pagina Número de página, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de resultados solicitada (vacía si no hay más resultados).
+     */
+    public List<Alumno> buscarAproximado(String termino, int maxDistancia, int pagina, int tamanioPagina) {
+        if (pagina < 0 || tamanioPagina <= 0 || maxDistancia < 0) {
+            return new ArrayList<>();
+        }
+        String objetivo = NormalizadorTexto.normalizar(termino);
+        int[] filaInicial = new int[objetivo.length() + 1];
+        for (int j = 0; j < filaInicial.length; j++) {
+            filaInicial[j] = j;
+        }
+
+        // La raíz corresponde a la palabra vacía, que nunca se registra
+        List<Coincidencia> coincidencias = new ArrayList<>();
+        for (int i = 0; i < raiz.hijos.length; i++) {
+            buscarAproximado(raiz.hijos[i], raiz.etiquetas[i], objetivo, filaInicial, maxDistancia, coincidencias);
+        }
+        // Orden estable: primero por distancia; el recorrido ya produjo las palabras en orden alfabético
+        coincidencias.sort((c1, c2) -> Integer.compare(c1.distancia, c2.distancia));
+
+        long limite = (long) (pagina + 1) * tamanioPagina;
+        Set<Alumno> acumulados = new LinkedHashSet<>();
+        for (Coincidencia c : coincidencias) {
+            for (Alumno alumno : c.nodo.publicaciones) {
+                if (acumulados.size() >= limite) {
+                    return extraerPagina(acumulados, pagina, tamanioPagina);
+                }
+                acumulados.add(alumno);
+            }
+        }
+        return extraerPagina(acumulados, pagina, tamanioPagina);
+    }
+
+    /**
+     * Recorre el trie calculando una fila de la matriz de Levenshtein por nodo.
+     * Las ramas cuyo mínimo de fila supera la distancia máxima se descartan.
+     */
+    private void buscarAproximado(Nodo nodo, char letra, String objetivo, int[] filaAnterior,
+                                  int maxDistancia, List<Coincidencia> coincidencias) {
+        int columnas = objetivo.length() + 1;
+        int[] fila = new int[columnas];
+        fila[0] = filaAnterior[0] + 1;
+        int minimo = fila[0];
+        for (int j = 1; j < columnas; j++) {
+            int costo = objetivo.charAt(j - 1) == letra ? 0 : 1;
+            fila[j] = Math.min(Math.min(fila[j - 1] + 1, filaAnterior[j] + 1), filaAnterior[j - 1] + costo);
+            minimo = Math.min(minimo, fila[j]);
+        }
+        if (nodo.publicaciones != null && fila[columnas - 1] <= maxDistancia) {
+            coincidencias.add(new Coincidencia(nodo, fila[columnas - 1]));
+        }
+        if (minimo <= maxDistancia) {
+            for (int i = 0; i < nodo.hijos.length; i++) {
+                buscarAproximado(nodo.hijos[i], nodo.etiquetas[i], objetivo, fila, maxDistancia, coincidencias);
+            }
+        }
+    }
+
+    /**
+     * Recolecta en orden alfabético las publicaciones del subárbol hasta alcanzar el límite.
+     * @return true si se alcanzó el límite y el recorrido debe detenerse.
+     */
+    private boolean recolectar(Nodo nodo, Set<Alumno> acumulados, long limite) {
+        if (nodo.publicaciones != null) {
+            for (Alumno alumno : nodo.publicaciones) {
+                if (acumulados.size() >= limite) {
+                    return true;
+                }
+                acumulados.add(alumno);
+            }
+        }
+        for (Nodo hijo : nodo.hijos) {
+            if (recolectar(hijo, acumulados, limite)) {
+                return true;
+            }
+        }
+        return acumulados.size() >= limite;
+    }
+
+    private Nodo buscarNodo(String palabra) {
+        Nodo n = raiz;
+        for (int i = 0; i < palabra.length() && n != null; i++) {
+            n = n.hijo(palabra.charAt(i));
+        }
+        return n;
+    }
+
+    private static List<Alumno> extraerPagina(Set<Alumno> acumulados, int pagina, int tamanioPagina) {
+        List<Alumno> todos = new ArrayList<>(acumulados);
+        int desde = (int) Math.min((long) pagina * tamanioPagina, todos.size());
+        int hasta = (int) Math.min((long) desde + tamanioPagina, todos.size());
+        return new ArrayList<>(todos.subList(desde, hasta));
+    }
+
+    /**
+     * Obtiene las dos primeras palabras normalizadas del nombre completo de un alumno.
+     * @return Las dos palabras, o null si el nombre completo tiene menos de dos.
+     */
+    private static String[] dosPrimerasPalabras(Alumno alumno) {
+        String[] inicio = new String[2];
+        int encontradas = 0;
+        for (int campo = 0; campo < 4 && encontradas < 2; campo++) {
+            String palabra = NormalizadorTexto.normalizar(campoDelNombre(alumno, campo));
+            if (!palabra.isEmpty()) {
+                inicio[encontradas++] = palabra;
+            }
+        }
+        return encontradas == 2 ? inicio : null;
+    }
+
+    /**
+     * Obtiene las palabras normalizadas (sin vacías) bajo las que se registra un alumno.
+     */
+    private static Set<String> palabrasDe(Alumno alumno) {
+        Set<String> palabras = new LinkedHashSet<>();
+        agregarPalabra(palabras, alumno.getPrimerNombre());
+        agregarPalabra(palabras, alumno.getSegundoNombre());
+        agregarPalabra(palabras, alumno.getPrimerApellido());
+        agregarPalabra(palabras, alumno.getSegundoApellido());
+        return palabras;
+    }
+
+    private static void agregarPalabra(Set<String> palabras, String texto) {
+        String palabra = NormalizadorTexto.normalizar(texto);
+        if (!palabra.isEmpty()) {
+            palabras.add(palabra);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import java.util.Arrays;
+
+/**
+ * IndiceNumCuenta: Tabla hash de direccionamiento abierto que asocia un número de cuenta
+ * (clave primitiva {@code long}) con una posición entera (por ejemplo, el índice del alumno
+ * dentro de la lista del repositorio).
+ * Las claves se almacenan en un arreglo primitivo, por lo que no se crean objetos {@code Long}
+ * en cada búsqueda. Utiliza sondeo lineal y borrado por desplazamiento hacia atrás,
+ * lo que evita marcas de "eliminado" y mantiene las búsquedas en O(1) promedio.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class IndiceNumCuenta {
+
+    /** Valor devuelto cuando la clave no existe en el índice. */
+    public static final int NO_ENCONTRADO = -1;
+
+    /** Capacidad inicial de la tabla (siempre potencia de 2). */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /** Arreglo de claves (números de cuenta). */
+    private long[] claves;
+
+    /**
+     * Arreglo de valores desplazados en +1. Un 0 indica que la casilla está libre,
+     * de modo que cualquier número de cuenta puede usarse como clave.
+     */
+    private int[] valores;
+
+    /** Cantidad de entradas ocupadas. */
+    private int tamanio;
+
+    /** Máscara para convertir el hash en un índice de la tabla (capacidad - 1). */
+    private int mascara;
+
+    /**
+     * Constructor que crea un índice vacío con la capacidad inicial por defecto.
+     */
+    public IndiceNumCuenta() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Constructor que reserva espacio suficiente para la cantidad esperada de entradas,
+     * evitando redimensionamientos durante cargas masivas.
+     * @param capacidadEsperada Número aproximado de entradas a almacenar.
+     */
+    public IndiceNumCuenta(int capacidadEsperada) {
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * 3L / 4 < capacidadEsperada) {
+            capacidad <<= 1;
+        }
+        inicializarTabla(capacidad);
+    }
+
+    /**
+     * Obtiene el valor asociado a un número de cuenta.
+     * @param numCuenta El número de cuenta a buscar.
+     * @return El valor asociado, o {@link #NO_ENCONTRADO} si la clave no existe.
+     */
+    public int obtener(long numCuenta) {
+        int i = indiceInicial(numCuenta);
+        // El recorrido está acotado por la capacidad de la tabla
+        for (int sondeos = 0; sondeos <= mascara; sondeos++) {
+            int valor = valores[i];
+            if (valor == 0) {
+                return NO_ENCONTRADO;
+            }
+            if (claves[i] == numCuenta) {
+                return valor - 1;
+            }
+            i = (i + 1) & mascara;
+        }
+        return NO_ENCONTRADO;
+    }
+
+    /**
+     * Indica si el número de cuenta está registrado en el índice.
+     * @param numCuenta El número de cuenta a verificar.
+     * @return true si la clave existe, false en caso contrario.
+     */
+    public boolean contiene(long numCuenta) {
+        return obtener(numCuenta) != NO_ENCONTRADO;
+    }
+
+    /**
+     * Asocia un número de cuenta con un valor, reemplazando el anterior si existía.
+     * @param numCuenta El número de cuenta (clave).
+     * @param valor El valor a asociar (debe ser mayor o igual a 0).
+     * @return El valor anterior, o {@link #NO_ENCONTRADO} si la clave era nueva.
+     */
+    public int poner(long numCuenta, int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("El valor del indice no puede ser negativo: " + valor);
+        }
+        int i = indiceInicial(numCuenta);
+        while (valores[i] != 0) {
+            if (claves[i] == numCuenta) {
+                int anterior = valores[i] - 1;
+                valores[i] = valor + 1;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        claves[i] = numCuenta;
+        valores[i] = valor + 1;
+        tamanio++;
+        if (tamanio * 4L > (mascara + 1) * 3L) {
+            redimensionar((mascara + 1) << 1);
+        }
+        return NO_ENCONTRADO;
+    }
+
+    /**
+     * Elimina un número de cuenta del índice.
+     * Las entradas posteriores del mismo grupo se desplazan hacia atrás para
+     * mantener válidas las secuencias de sondeo.
+     * @param numCuenta El número de cuenta a eliminar.
+     * @return El valor que estaba asociado, o {@link #NO_ENCONTRADO} si no existía.
+     */
+    public int eliminar(long numCuenta) {
+        int i = indiceInicial(numCuenta);
+        while (valores[i] != 0) {
+            if (claves[i] == numCuenta) {
+                int anterior = valores[i] - 1;
+                desplazarHaciaAtras(i);
+                tamanio--;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        return NO_ENCONTRADO;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas almacenadas.
+     * @return El número de claves en el índice.
+     */
+    public int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Elimina todas las entradas del índice conservando la capacidad actual.
+     */
+    public void limpiar() {
+        Arrays.fill(valores, 0);
+        tamanio = 0;
+    }
+
+    /**
+     * Rellena el hueco dejado en la posición indicada moviendo hacia atrás las entradas
+     * cuyo sondeo pasaba por dicha posición.
+     * @param hueco Posición que acaba de quedar libre.
+     */
+    private void desplazarHaciaAtras(int hueco) {
+        int i = hueco;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (valores[i] == 0) {
+                break;
+            }
+            int ideal = indiceInicial(claves[i]);
+            // La entrada se mueve solo si su posición ideal no está entre el hueco y su posición actual
+            if (((i - ideal) & mascara) >= ((i - hueco) & mascara)) {
+                claves[hueco] = claves[i];
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        valores[hueco] = 0;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y reinserta todas las entradas.
+     * @param nuevaCapacidad La nueva capacidad (potencia de 2).
+     */
+    private void redimensionar(int nuevaCapacidad) {
+        long[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        inicializarTabla(nuevaCapacidad);
+        for (int j = 0; j < valoresAnteriores.length; j++) {
+            if (valoresAnteriores[j] != 0) {
+                int i = indiceInicial(clavesAnteriores[j]);
+                while (valores[i] != 0) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesAnteriores[j];
+                valores[i] = valoresAnteriores[j];
+            }
+        }
+    }
+
+    /**
+     * Reserva los arreglos de la tabla con la capacidad indicada.
+     * @param capacidad Capacidad de la tabla (potencia de 2).
+     */
+    private void inicializarTabla(int capacidad) {
+        this.claves = new long[capacidad];
+        this.valores = new int[capacidad];
+        this.mascara = capacidad - 1;
+    }
+
+    /**
+     * Calcula la posición inicial de sondeo mezclando los bits del número de cuenta,
+     * ya que los números de cuenta son consecutivos y se concentrarían en pocas casillas.
+     * @param numCuenta El número de cuenta.
+     * @return Índice dentro de la tabla.
+     */
+    private int indiceInicial(long numCuenta) {
+        long h = numCuenta * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
@@ -1,374 +1,954 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-package hu03.repositorio;
-
-import hu03.modelo.Alumno;
-import hu03.modelo.RegistroAcademico;
-import hu03.modelo.Asignatura;
-import hu03.utilidades.CalculadoraIndicador;
-import java.util.*;
-
-/**
- * ModuloRegistros: Clase central del repositorio que gestiona la información de la carrera.
- * Es responsable de mantener el plan de estudios (asignaturas por semestre) y la lista de alumnos.
- * Contiene la lógica para la búsqueda de alumnos y la generación aleatoria de los Registros Académicos
- * y los Indicadores Brutos.
- * @author EnrollEngine
- * @version 4.12.21
- */
-public class ModuloRegistros {
-    /**
-     * Lista principal que agrupa las listas de asignaturas por semestre (índice 0 = Semestre 1).
-     */
-    private List<List<Asignatura>> asignaturas;
-    
-    // Listas individuales para cada semestre
-    private List<Asignatura> semestre1;
-    private List<Asignatura> semestre2;
-    private List<Asignatura> semestre3;
-    private List<Asignatura> semestre4;
-    private List<Asignatura> semestre5;
-    private List<Asignatura> semestre6;
-    private List<Asignatura> semestre7;
-    private List<Asignatura> semestre8;
-    private List<Asignatura> semestre9;
-    private List<Asignatura> semestre10;
-    
-    /**
-     * Lista que almacena todos los objetos Alumno gestionados por el módulo.
-     */
-    private List<Alumno> alumnos;
-
-    /**
-     * Objeto Random estático para la generación de datos aleatorios (calificaciones, selección de materias).
-     */
-    private static final Random RANDOM = new Random();
-
-    /**
-     * Constructor que inicializa todas las listas de asignaturas, la lista de alumnos
-     * y carga el plan de estudios llamando a {@link #inicializarAsignaturas()}.
-     */
-    public ModuloRegistros() {
-        // Inicialización de las listas de semestres individuales
-        this.semestre1 = new ArrayList<>();
-        this.semestre2 = new ArrayList<>();
-        this.semestre3 = new ArrayList<>();
-        this.semestre4 = new ArrayList<>();
-        this.semestre5 = new ArrayList<>();
-        this.semestre6 = new ArrayList<>();
-        this.semestre7 = new ArrayList<>();
-        this.semestre8 = new ArrayList<>();
-        this.semestre9 = new ArrayList<>();
-        this.semestre10 = new ArrayList<>();
-        this.alumnos = new ArrayList<>();
-
-        // Agrupación de las listas en la lista principal 'asignaturas'
-        this.asignaturas = new ArrayList<>(
-            Arrays.asList(semestre1, semestre2, semestre3, semestre4, semestre5,
-                          semestre6, semestre7, semestre8, semestre9, semestre10)
-        );
-
-        inicializarAsignaturas();
-    }
-
-    /**
-     * Obtiene la lista anidada de asignaturas, agrupadas por semestre.
-     * @return Una lista de listas de Asignatura.
-     */
-    public List<List<Asignatura>> getAsignaturas() {
-        return asignaturas;
-    }
-
-    /**
-     * Obtiene la lista de todos los alumnos registrados.
-     * @return La lista de objetos Alumno.
-     */
-    public List<Alumno> getAlumnos() {
-        return alumnos;
-    }
-
-    /**
-     * Busca y devuelve todos los alumnos que tienen un apellido coincidente (primer o segundo apellido)
-     * con el término de búsqueda, ignorando mayúsculas y minúsculas.
-     * @param apellidoBusqueda El apellido a buscar.
-     * @return Una lista de objetos Alumno que coinciden con el apellido.
-     */
-    public List<Alumno> buscarAlumnosPorApellido(String apellidoBusqueda) {
-        List<Alumno> resultados = new ArrayList<>();
-        String terminoNormalizado = apellidoBusqueda.toLowerCase();
-
-        for (Alumno alumno : this.alumnos) {
-            if (alumno.getPrimerApellido().toLowerCase().equals(terminoNormalizado) ||
-                alumno.getSegundoApellido().toLowerCase().equals(terminoNormalizado)) {
-
-                resultados.add(alumno);
-            }
-        }
-        return resultados;
-    }
-
-
-    /**
-     * Inicializa el plan de estudios de 10 semestres, creando y agregando las 50 asignaturas
-     * con sus respectivos nombres, créditos e IDs.
-     */
-    private void inicializarAsignaturas(){
-        // Semestre 1
-        agregarAsignatura("Calculo Diferencial", 5, 1);
-        agregarAsignatura("Algebra Lineal", 5, 2);
-        agregarAsignatura("Fundamentos de Programacion", 6, 3);
-        agregarAsignatura("Introduccion a la Ingenieria en Computacion", 4, 4);
-        agregarAsignatura("Fundamentos de Electronica", 6, 5);
-
-        // Semestre 2
-        agregarAsignatura("Calculo Integral", 5, 6);
-        agregarAsignatura("Programacion Orientada a Objetos", 6, 7);
-        agregarAsignatura("Circuitos Electricos", 6, 8);
-        agregarAsignatura("Matematicas Discretas", 4, 9);
-        agregarAsignatura("Arquitectura de Computadoras I", 5, 10);
-
-        // Semestre 3
-        agregarAsignatura("Calculo Multivariable", 5, 11);
-        agregarAsignatura("Estructuras de Datos", 6, 12);
-        agregarAsignatura("Probabilidad y Estadistica", 4, 13);
-        agregarAsignatura("Arquitectura de Computadoras II", 5, 14);
-        agregarAsignatura("Electronica Digital", 6, 15);
-
-        // Semestre 4
-        agregarAsignatura("Sistemas Operativos", 6, 16);
-        agregarAsignatura("Metodos Numericos", 5, 17);
-        agregarAsignatura("Teoria de la Computacion", 4, 18);
-        agregarAsignatura("Seniales y Sistemas", 5, 19);
-        agregarAsignatura("Programacion de Sistemas", 6, 20);
-
-        // Semestre 5
-        agregarAsignatura("Bases de Datos I", 6, 21);
-        agregarAsignatura("Redes de Computadoras I", 5, 22);
-        agregarAsignatura("Microcontroladores", 6, 23);
-        agregarAsignatura("Programacion Web", 5, 24);
-        agregarAsignatura("Ingenieria de Software I", 4, 25);
-
-        // Semestre 6
-        agregarAsignatura("Bases de Datos II", 5, 26);
-        agregarAsignatura("Redes de Computadoras II", 5, 27);
-        agregarAsignatura("Compiladores", 6, 28);
-        agregarAsignatura("Sistemas Embebidos", 6, 29);
-        agregarAsignatura("Ingenieria de Software II", 4, 30);
-
-        // Semestre 7
-        agregarAsignatura("Sistemas Distribuidos", 6, 31);
-        agregarAsignatura("Seguridad Informatica", 5, 32);
-        agregarAsignatura("Modelado y Simulacion", 5, 33);
-        agregarAsignatura("Interfaces Hombre-Maquina", 5, 34);
-        agregarAsignatura("Inteligencia Artificial", 5, 35);
-
-        // Semestre 8
-        agregarAsignatura("Internet de las Cosas", 6, 36);
-        agregarAsignatura("Vision por Computadora", 6, 37);
-        agregarAsignatura("Computacion en la Nube", 5, 38);
-        agregarAsignatura("Redes Inalambricas Avanzadas", 5, 39);
-        agregarAsignatura("Gerencia de Proyectos Tecnologicos", 4, 40);
-
-        // Semestre 9
-        agregarAsignatura("Aprendizaje Automatico", 6, 41);
-        agregarAsignatura("Ciberseguridad Avanzada", 5, 42);
-        agregarAsignatura("Robotica", 6, 43);
-        agregarAsignatura("Alta Disponibilidad y Tolerancia a Fallos", 5, 44);
-        agregarAsignatura("Gestion de Infraestructura TI", 4, 45);
-
-        // Semestre 10
-        agregarAsignatura("Realidad Virtual y Aumentada", 6, 46);
-        agregarAsignatura("Introduccion a la Computación Cuántica", 4, 47);
-        agregarAsignatura("Proyecto Terminal I", 10, 48);
-        agregarAsignatura("Ética Profesional y Responsabilidad Tecnologica", 3, 49);
-        agregarAsignatura("Emprendimiento Tecnologico", 3, 50);
-    }
-
-    /**
-     * Agrega una nueva asignatura al semestre correspondiente según su ID.
-     * @param nombre Nombre de la asignatura.
-     * @param creditos Créditos de la asignatura.
-     * @param id ID único de la asignatura (utilizado para determinar el semestre).
-     */
-    private void agregarAsignatura(String nombre, int creditos, int id){
-        // La lógica asume bloques de 5 asignaturas por semestre
-        int indiceSemestre = (id - 1) / 5;
-        
-        if (indiceSemestre >= 0 && indiceSemestre < asignaturas.size()) {
-            asignaturas.get(indiceSemestre).add(new Asignatura(id, nombre, creditos));
-        }
-    }
-
-    /**
-     * Genera un {@link RegistroAcademico} completo para el alumno, incluyendo la selección
-     * aleatoria de asignaturas cursadas, sus calificaciones y el cálculo de su
-     * Indicador Bruto.
-     * * La selección de materias se basa en un "Bloque Móvil":
-     * - Semestre 1: Solo materias del S1.
-     * - Semestre 2+: Materias del historial completo anterior (S1 hasta S_Actual-2)
-     * más las materias del bloque móvil (S_Actual-1, S_Actual, S_Actual+1).
-     * * @param alumno El objeto Alumno para el cual se generará el registro.
-     */
-    public void generarRegistroAcademico(Alumno alumno){
-        RegistroAcademico registro = new RegistroAcademico(alumno);
-
-        List<Asignatura> asignaturasDisponiblesEnBloque = new ArrayList<>();
-        int semestreActual = alumno.getSemestre(); 
-        
-        // =======================================================
-        // LÓGICA DE DEFINICIÓN DEL POOL DE ASIGNATURAS
-        // =======================================================
-        
-        if (semestreActual == 1) {
-            // S1: Solo las materias del semestre 1. El índice del S1 es 0.
-            if (asignaturas.size() > 0) {
-                 asignaturasDisponiblesEnBloque.addAll(asignaturas.get(0));
-            }
-        } else {
-            // Lógica del Bloque Móvil (Semestre 2 al 10)
-            
-            // Define el inicio del bloque móvil (S_A-1)
-            int semestreInicioBloque = Math.max(1, semestreActual - 1); 
-            // Define el fin del bloque móvil (S_A+1 o máximo S10)
-            int semestreFinBloque = Math.min(10, semestreInicioBloque + 2);
-
-            // 1. Obtener las asignaturas del Bloque Móvil (S_A-1, S_A, S_A+1)
-            for (int s = semestreInicioBloque; s <= semestreFinBloque; s++) {
-                // Convertir número de semestre a índice de lista (s-1)
-                if (s - 1 < asignaturas.size()) {
-                    asignaturasDisponiblesEnBloque.addAll(asignaturas.get(s - 1));
-                }
-            }
-
-            // 2. Lógica de Seguimiento (Historial Completo: S1 hasta S_Inicio-1)
-            List<Asignatura> asignaturasHistorialAnterior = new ArrayList<>();
-            
-            if (semestreInicioBloque > 1) {
-                // Recorrer desde el S1 (índice 0) hasta el semestre antes de que inicie el bloque (S_A-2)
-                for (int i = 0; i < semestreInicioBloque - 1; i++) {
-                     if (i < asignaturas.size()) {
-                         asignaturasHistorialAnterior.addAll(asignaturas.get(i));
-                     }
-                }
-            }
-            // 3. Agregar materias del historial al pool total
-            asignaturasDisponiblesEnBloque.addAll(asignaturasHistorialAnterior);
-        }
-        
-        // =======================================================
-        // LÓGICA DE SELECCIÓN FINAL Y ASIGNACIÓN DE CALIFICACIONES
-        // =======================================================
-
-        // Usar un Set para eliminar duplicados si las materias del historial coinciden con el bloque móvil
-        Set<Asignatura> asignaturasUnicas = new HashSet<>(asignaturasDisponiblesEnBloque); 
-        List<Asignatura> poolList = new ArrayList<>(asignaturasUnicas);
-        
-        int totalAsignaturasDisponibles = poolList.size();
-        
-        if (totalAsignaturasDisponibles == 0) {
-            alumno.setRegistroAcademico(registro); 
-            return; 
-        }
-        
-        // 1. Definir rango de materias a cursar
-        int minAsignaturas;
-        int maxAsignaturas;
-        
-        if (semestreActual == 1) {
-            // S1: Fijo en 5 materias.
-            minAsignaturas = 5; 
-            maxAsignaturas = 5;
-        } else {
-            // S2+: Rango normal 5-10.
-            minAsignaturas = 5;
-            maxAsignaturas = 10;
-        }
-
-        // 2. Calcular la cantidad final a cursar
-        maxAsignaturas = Math.min(maxAsignaturas, totalAsignaturasDisponibles); 
-        
-        int asignaturasACursar;
-        
-        if (semestreActual == 1) {
-            asignaturasACursar = Math.min(5, totalAsignaturasDisponibles); // Siempre 5 o el total disponible
-        } else {
-            // Para S2+, elige un valor aleatorio entre [min, max], ajustado al total disponible
-            int rango = maxAsignaturas - minAsignaturas + 1;
-            // Garantiza que se seleccione al menos el mínimo o el total disponible si es menor.
-            asignaturasACursar = Math.min(totalAsignaturasDisponibles, minAsignaturas + (rango > 0 ? RANDOM.nextInt(rango) : 0));
-        }
-
-        // 3. Seleccionar asignaturas aleatorias y asignar calificaciones
-        Set<Integer> indicesSeleccionados = new HashSet<>();
-
-        while(indicesSeleccionados.size() < asignaturasACursar) {
-            int indiceAleatorio = RANDOM.nextInt(totalAsignaturasDisponibles);
-            indicesSeleccionados.add(indiceAleatorio);
-        }
-
-        for (int indice : indicesSeleccionados) {
-            Asignatura asignatura = poolList.get(indice);
-            double calificacion = generarCalificacion(); // Calificación entre 5.0 y 9.0
-            registro.agregarAsignatura(asignatura, calificacion);
-        }
-
-        alumno.setRegistroAcademico(registro);
-        
-        // =======================================================
-        // CÁLCULO Y ASIGNACIÓN DEL INDICADOR BRUTO
-        // =======================================================
-        
-        double promedio = registro.calcularPromedio();
-        int asigInsc = registro.getAsignaturasInscritas(); 
-        int asigAprob = registro.getAsignaturasAprobadas();
-        int creditos = registro.getTotalCreditos();
-        
-        // 4. Calcular el Indicador Bruto
-        long indicadorBruto = CalculadoraIndicador.calcularIndicadorBruto(
-            promedio, 
-            asigAprob, 
-            asigInsc, 
-            creditos, 
-            semestreActual
-        );
-        
-        // 5. Asignar el Indicador Bruto
-        alumno.setIndicadorBruto(indicadorBruto);
-    }
-
-
-    /**
-     * Genera una calificación aleatoria en el rango de 5.0 a 9.0, simulando 
-     * un rendimiento académico variable.
-     * @return Una calificación double entre 5.0 (inclusive) y 9.0 (exclusive).
-     */
-    private double generarCalificacion(){
-        return 5.0 + (RANDOM.nextDouble()*4.0); // Calificaciones entre 5.0 y 9.0
-    }
-
-    /**
-     * Agrega un objeto Alumno a la lista de alumnos gestionados por el módulo.
-     * @param alumno El objeto Alumno a agregar.
-     */
-    public void agregarAlumno(Alumno alumno){
-        alumnos.add(alumno);
-    }
-
-    /**
-     * Imprime en la consola el listado completo de todas las asignaturas
-     * disponibles en el plan de estudios, junto con el total.
-     */
-    public void mostrarAsignaturas(){
-        System.out.println("Asignaturas Disponibles");
-        for(List<Asignatura> listaSemestre : asignaturas){
-            for(Asignatura asignatura : listaSemestre){
-                System.out.printf("%s (%d creditos)%n",asignatura.getNombre(), asignatura.getCreditos());
-            }
-        }
-        int totalAsignaturas = asignaturas.stream().mapToInt(List::size).sum();
-        System.out.println("Total: "+ totalAsignaturas + " asignaturas");
-    }
-
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.RegistroAcademico;
+import hu03.modelo.Asignatura;
+import hu03.modelo.DiccionarioTexto;
+import hu03.utilidades.CalculadoraIndicador;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * ModuloRegistros: Clase central del repositorio que gestiona la información de la carrera.
+ * Es responsable de mantener el plan de estudios (asignaturas por semestre) y la lista de alumnos.
+ * Contiene la lógica para la búsqueda de alumnos y la generación aleatoria de los Registros Académicos
+ * y los Indicadores Brutos.
+ * <p>
+ * No es seguro para usarse desde varios hilos a la vez; para ello, ver {@link ModuloRegistrosConcurrente}.
+ * @author EnrollEngine
+ * @version 4.12.21
+ */
+public class ModuloRegistros {
+    /**
+     * Lista principal que agrupa las listas de asignaturas por semestre (índice 0 = Semestre 1).
+     */
+    private List<List<Asignatura>> asignaturas;
+    
+    // Listas individuales para cada semestre
+    private List<Asignatura> semestre1;
+    private List<Asignatura> semestre2;
+    private List<Asignatura> semestre3;
+    private List<Asignatura> semestre4;
+    private List<Asignatura> semestre5;
+    private List<Asignatura> semestre6;
+    private List<Asignatura> semestre7;
+    private List<Asignatura> semestre8;
+    private List<Asignatura> semestre9;
+    private List<Asignatura> semestre10;
+    
+    /**
+     * Lista que almacena todos los objetos Alumno gestionados por el módulo.
+     */
+    private ArrayList<Alumno> alumnos;
+
+    /**
+     * Índice de clave primaria: asocia cada número de cuenta con la posición del alumno
+     * dentro de la lista {@link #alumnos}. Debe mantenerse consistente en cada alta y baja.
+     */
+    private IndiceNumCuenta indicePorCuenta;
+
+    /**
+     * Ranking incremental (Indicador Bruto descendente, Primer Apellido ascendente).
+     * Se actualiza en O(log n) con cada alta, baja o modificación, de modo que el puesto
+     * de cualquier alumno se obtiene bajo demanda sin reordenar la lista completa.
+     */
+    private RankingAlumnos ranking;
+
+    /**
+     * Índice invertido de apellidos normalizados (sin acentos, en minúsculas) a alumnos.
+     */
+    private IndiceApellidos indiceApellidos;
+
+    /**
+     * Trie de nombres y apellidos normalizados para búsquedas por prefijo y aproximadas.
+     */
+    private IndiceNombres indiceNombres;
+
+    /**
+     * Diccionario de los textos que se repiten entre alumnos (dirección, carrera y género), para
+     * guardar cada valor distinto una sola vez. Pertenece al módulo y se libera junto con él.
+     */
+    private final DiccionarioTexto textosCompartidos = new DiccionarioTexto();
+
+    /**
+     * Indica que los índices de texto (apellidos y nombres) aún no se construyen después de una
+     * carga masiva; se construyen en la primera búsqueda que los necesita. Mientras es true,
+     * las altas, bajas y modificaciones no actualizan esos índices.
+     */
+    private boolean indicesTextoPendientes;
+
+    /**
+     * Indica que se está aplicando un lote que se reubicará en el ranking en una sola pasada
+     * al final (ver {@link #aplicarLote}). Mientras es true, las altas, bajas y modificaciones
+     * no actualizan el ranking.
+     */
+    private boolean rankingDiferido;
+
+    /**
+     * Objeto Random estático para la generación de datos aleatorios (calificaciones, selección de materias).
+     * Solo se usa para sembrar un {@link SplittableRandom} por cada registro generado.
+     */
+    private static final Random RANDOM = new Random();
+
+    /** Cantidad de alumnos que procesa cada tarea de {@link #recalcularIndicadores()}. */
+    private static final int ALUMNOS_POR_BLOQUE_RECALCULO = 1 << 13;
+
+    /**
+     * Un lote se reubica en el ranking con una sola pasada cuando tiene al menos 1/{@value} de la
+     * población; con menos alumnos, reubicarlos uno por uno en O(log n) es más barato que
+     * recorrer y reconstruir el ranking completo.
+     */
+    private static final int FRACCION_LOTE_PASADA_UNICA = 16;
+
+    /**
+     * Constructor que inicializa todas las listas de asignaturas, la lista de alumnos
+     * y carga el plan de estudios llamando a {@link #inicializarAsignaturas()}.
+     */
+    public ModuloRegistros() {
+        // Inicialización de las listas de semestres individuales
+        this.semestre1 = new ArrayList<>();
+        this.semestre2 = new ArrayList<>();
+        this.semestre3 = new ArrayList<>();
+        this.semestre4 = new ArrayList<>();
+        this.semestre5 = new ArrayList<>();
+        this.semestre6 = new ArrayList<>();
+        this.semestre7 = new ArrayList<>();
+        this.semestre8 = new ArrayList<>();
+        this.semestre9 = new ArrayList<>();
+        this.semestre10 = new ArrayList<>();
+        this.alumnos = new ArrayList<>();
+        this.indicePorCuenta = new IndiceNumCuenta();
+        this.ranking = new RankingAlumnos();
+        this.indiceApellidos = new IndiceApellidos();
+        this.indiceNombres = new IndiceNombres();
+
+        // Agrupación de las listas en la lista principal 'asignaturas'
+        this.asignaturas = new ArrayList<>(
+            Arrays.asList(semestre1, semestre2, semestre3, semestre4, semestre5,
+                          semestre6, semestre7, semestre8, semestre9, semestre10)
+        );
+
+        inicializarAsignaturas();
+    }
+
+    /**
+     * Obtiene la lista anidada de asignaturas, agrupadas por semestre.
+     * @return Una lista de listas de Asignatura.
+     */
+    public List<List<Asignatura>> getAsignaturas() {
+        return asignaturas;
+    }
+
+    /**
+     * Reemplaza el plan de estudios por el indicado (por ejemplo, al cargar un snapshot).
+     * Debe invocarse antes de agregar alumnos, ya que sus registros académicos hacen
+     * referencia a las asignaturas del catálogo.
+     * @param catalogo Las asignaturas agrupadas por semestre (índice 0 = Semestre 1).
+     */
+    void reemplazarAsignaturas(List<List<Asignatura>> catalogo) {
+        for (List<Asignatura> listaSemestre : asignaturas) {
+            listaSemestre.clear();
+        }
+        for (int s = 0; s < catalogo.size(); s++) {
+            if (s >= asignaturas.size()) {
+                asignaturas.add(new ArrayList<>());
+            }
+            asignaturas.get(s).addAll(catalogo.get(s));
+        }
+    }
+
+    /**
+     * Obtiene la lista de todos los alumnos registrados.
+     * La lista es de solo lectura: las altas y bajas deben hacerse mediante
+     * {@link #agregarAlumno(Alumno)} y {@link #eliminarAlumno(long)} para mantener los índices.
+     * @return La lista (no modificable) de objetos Alumno.
+     */
+    public List<Alumno> getAlumnos() {
+        return Collections.unmodifiableList(alumnos);
+    }
+
+    /**
+     * Busca un alumno por su número de cuenta utilizando el índice de clave primaria.
+     * @param numCuenta El número de cuenta del alumno.
+     * @return El objeto Alumno si existe, o null si no está registrado.
+     */
+    public Alumno buscarAlumnoPorNumCuenta(long numCuenta) {
+        int posicion = indicePorCuenta.obtener(numCuenta);
+        return posicion == IndiceNumCuenta.NO_ENCONTRADO ? null : alumnos.get(posicion);
+    }
+
+    /**
+     * Obtiene los alumnos en orden de ranking (puesto 1 primero) sin necesidad de ordenar.
+     * @return Un Iterable de solo lectura que recorre el ranking en orden.
+     */
+    public Iterable<Alumno> getAlumnosPorRanking() {
+        return ranking::iterator;
+    }
+
+    /**
+     * Obtiene los K mejores alumnos del ranking (puesto 1 en adelante).
+     * Como el ranking se mantiene ordenado, la consulta cuesta O(log n + k)
+     * y no requiere ordenar ni recorrer la población completa.
+     * @param k Cantidad de alumnos a devolver.
+     * @return Lista con a lo más k alumnos en orden de ranking (vacía si k es menor o igual a 0).
+     */
+    public List<Alumno> topK(int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        return ranking.primeros(k);
+    }
+
+    /**
+     * Calcula bajo demanda el Número de Inscripción (puesto en el ranking) de un alumno. O(log n).
+     * @param alumno El alumno a consultar.
+     * @return El puesto del alumno (1, 2, 3...), o 0 si no está registrado en el módulo.
+     */
+    public int obtenerNumInscripcion(Alumno alumno) {
+        return ranking.posicion(alumno);
+    }
+
+    /**
+     * Busca y devuelve todos los alumnos que tienen un apellido coincidente (primer o segundo apellido)
+     * con el término de búsqueda, ignorando mayúsculas, minúsculas y acentos.
+     * La consulta se resuelve con el índice invertido de apellidos, sin recorrer la lista de alumnos.
+     * @param apellidoBusqueda El apellido a buscar.
+     * @return Una lista de objetos Alumno que coinciden con el apellido.
+     */
+    public List<Alumno> buscarAlumnosPorApellido(String apellidoBusqueda) {
+        asegurarIndicesTexto();
+        return indiceApellidos.buscar(apellidoBusqueda);
+    }
+
+    /**
+     * Busca los alumnos cuyo primer nombre, segundo nombre o apellidos comienzan con el prefijo
+     * indicado, ignorando mayúsculas, minúsculas y acentos. Un prefijo de varias palabras
+     * (por ejemplo "juan car") se compara contra el nombre completo.
+     * @param prefijo El prefijo a buscar.
+     * @param pagina Número de página de resultados, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de alumnos encontrados, ordenados alfabéticamente por la palabra coincidente.
+     */
+    public List<Alumno> buscarAlumnosPorPrefijo(String prefijo, int pagina, int tamanioPagina) {
+        asegurarIndicesTexto();
+        return indiceNombres.buscarPorPrefijo(prefijo, pagina, tamanioPagina);
+    }
+
+    /**
+     * Busca alumnos tolerando errores de escritura: devuelve aquellos con algún nombre o apellido
+     * a una distancia de edición menor o igual a la indicada
+     * (por ejemplo, "Hernadez" encuentra "Hernandez" con distancia 1).
+     * @param termino El término a buscar.
+     * @param maxDistancia Distancia de edición máxima permitida.
+     * @param pagina Número de página de resultados, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de alumnos encontrados, los más parecidos primero.
+     */
+    public List<Alumno> buscarAlumnosAproximado(String termino, int maxDistancia, int pagina, int tamanioPagina) {
+        asegurarIndicesTexto();
+        return indiceNombres.buscarAproximado(termino, maxDistancia, pagina, tamanioPagina);
+    }
+
+
+    /**
+     * Inicializa el plan de estudios de 10 semestres, creando y agregando las 50 asignaturas
+     * con sus respectivos nombres, créditos e IDs.
+     */
+    private void inicializarAsignaturas(){
+        // Semestre 1
+        agregarAsignatura("Calculo Diferencial", 5, 1);
+        agregarAsignatura("Algebra Lineal", 5, 2);
+        agregarAsignatura("Fundamentos de Programacion", 6, 3);
+        agregarAsignatura("Introduccion a la Ingenieria en Computacion", 4, 4);
+        agregarAsignatura("Fundamentos de Electronica", 6, 5);
+
+        // Semestre 2
+        agregarAsignatura("Calculo Integral", 5, 6);
+        agregarAsignatura("Programacion Orientada a Objetos", 6, 7);
+        agregarAsignatura("Circuitos Electricos", 6, 8);
+        agregarAsignatura("Matematicas Discretas", 4, 9);
+        agregarAsignatura("Arquitectura de Computadoras I", 5, 10);
+
+        // Semestre 3
+        agregarAsignatura("Calculo Multivariable", 5, 11);
+        agregarAsignatura("Estructuras de Datos", 6, 12);
+        agregarAsignatura("Probabilidad y Estadistica", 4, 13);
+        agregarAsignatura("Arquitectura de Computadoras II", 5, 14);
+        agregarAsignatura("Electronica Digital", 6, 15);
+
+        // Semestre 4
+        agregarAsignatura("Sistemas Operativos", 6, 16);
+        agregarAsignatura("Metodos Numericos", 5, 17);
+        agregarAsignatura("Teoria de la Computacion", 4, 18);
+        agregarAsignatura("Seniales y Sistemas", 5, 19);
+        agregarAsignatura("Programacion de Sistemas", 6, 20);
+
+        // Semestre 5
+        agregarAsignatura("Bases de Datos I", 6, 21);
+        agregarAsignatura("Redes de Computadoras I", 5, 22);
+        agregarAsignatura("Microcontroladores", 6, 23);
+        agregarAsignatura("Programacion Web", 5, 24);
+        agregarAsignatura("Ingenieria de Software I", 4, 25);
+
+        // Semestre 6
+        agregarAsignatura("Bases de Datos II", 5, 26);
+        agregarAsignatura("Redes de Computadoras II", 5, 27);
+        agregarAsignatura("Compiladores", 6, 28);
+        agregarAsignatura("Sistemas Embebidos", 6, 29);
+        agregarAsignatura("Ingenieria de Software II", 4, 30);
+
+        // Semestre 7
+        agregarAsignatura("Sistemas Distribuidos", 6, 31);
+        agregarAsignatura("Seguridad Informatica", 5, 32);
+        agregarAsignatura("Modelado y Simulacion", 5, 33);
+        agregarAsignatura("Interfaces Hombre-Maquina", 5, 34);
+        agregarAsignatura("Inteligencia Artificial", 5, 35);
+
+        // Semestre 8
+        agregarAsignatura("Internet de las Cosas", 6, 36);
+        agregarAsignatura("Vision por Computadora", 6, 37);
+        agregarAsignatura("Computacion en la Nube", 5, 38);
+        agregarAsignatura("Redes Inalambricas Avanzadas", 5, 39);
+        agregarAsignatura("Gerencia de Proyectos Tecnologicos", 4, 40);
+
+        // Semestre 9
+        agregarAsignatura("Aprendizaje Automatico", 6, 41);
+        agregarAsignatura("Ciberseguridad Avanzada", 5, 42);
+        agregarAsignatura("Robotica", 6, 43);
+        agregarAsignatura("Alta Disponibilidad y Tolerancia a Fallos", 5, 44);
+        agregarAsignatura("Gestion de Infraestructura TI", 4, 45);
+
+        // Semestre 10
+        agregarAsignatura("Realidad Virtual y Aumentada", 6, 46);
+        agregarAsignatura("Introduccion a la Computación Cuántica", 4, 47);
+        agregarAsignatura("Proyecto Terminal I", 10, 48);
+        agregarAsignatura("Ética Profesional y Responsabilidad Tecnologica", 3, 49);
+        agregarAsignatura("Emprendimiento Tecnologico", 3, 50);
+    }
+
+    /**
+     * Agrega una nueva asignatura al semestre correspondiente según su ID.
+     * @param nombre Nombre de la asignatura.
+     * @param creditos Créditos de la asignatura.
+     * @param id ID único de la asignatura (utilizado para determinar el semestre).
+     */
+    private void agregarAsignatura(String nombre, int creditos, int id){
+        // La lógica asume bloques de 5 asignaturas por semestre
+        int indiceSemestre = (id - 1) / 5;
+        
+        if (indiceSemestre >= 0 && indiceSemestre < asignaturas.size()) {
+            asignaturas.get(indiceSemestre).add(new Asignatura(id, nombre, creditos));
+        }
+    }
+
+    /**
+     * Genera un {@link RegistroAcademico} completo para el alumno, incluyendo la selección
+     * aleatoria de asignaturas cursadas, sus calificaciones y el cálculo de su
+     * Indicador Bruto.
+     * * La selección de materias se basa en un "Bloque Móvil":
+     * - Semestre 1: Solo materias del S1.
+     * - Semestre 2+: Materias del historial completo anterior (S1 hasta S_Actual-2)
+     * más las materias del bloque móvil (S_Actual-1, S_Actual, S_Actual+1).
+     * * @param alumno El objeto Alumno para el cual se generará el registro.
+     */
+    public void generarRegistroAcademico(Alumno alumno){
+        generarRegistroAcademico(alumno, new SplittableRandom(RANDOM.nextLong()));
+    }
+
+    /**
+     * Genera el {@link RegistroAcademico} del alumno utilizando la fuente de aleatoriedad indicada.
+     * Permite que varios hilos generen registros en paralelo, cada uno con su propio
+     * {@link SplittableRandom}, siempre que los alumnos aún no estén agregados al módulo.
+     * @param alumno El objeto Alumno para el cual se generará el registro.
+     * @param aleatorio Generador de números aleatorios exclusivo del hilo que llama.
+     */
+    public void generarRegistroAcademico(Alumno alumno, SplittableRandom aleatorio){
+        RegistroAcademico registro = new RegistroAcademico(alumno);
+
+        List<Asignatura> asignaturasDisponiblesEnBloque = new ArrayList<>();
+        int semestreActual = alumno.getSemestre(); 
+        
+        // =======================================================
+        // LÓGICA DE DEFINICIÓN DEL POOL DE ASIGNATURAS
+        // =======================================================
+        
+        if (semestreActual == 1) {
+            // S1: Solo las materias del semestre 1. El índice del S1 es 0.
+            if (asignaturas.size() > 0) {
+                 asignaturasDisponiblesEnBloque.addAll(asignaturas.get(0));
+            }
+        } else {
+            // Lógica del Bloque Móvil (Semestre 2 al 10)
+            
+            // Define el inicio del bloque móvil (S_A-1)
+            int semestreInicioBloque = Math.max(1, semestreActual - 1); 
+            // Define el fin del bloque móvil (S_A+1 o máximo S10)
+            int semestreFinBloque = Math.min(10, semestreInicioBloque + 2);
+
+            // 1. Obtener las asignaturas del Bloque Móvil (S_A-1, S_A, S_A+1)
+            for (int s = semestreInicioBloque; s <= semestreFinBloque; s++) {
+                // Convertir número de semestre a índice de lista (s-1)
+                if (s - 1 < asignaturas.size()) {
+                    asignaturasDisponiblesEnBloque.addAll(asignaturas.get(s - 1));
+                }
+            }
+
+            // 2. Lógica de Seguimiento (Historial Completo: S1 hasta S_Inicio-1)
+            List<Asignatura> asignaturasHistorialAnterior = new ArrayList<>();
+            
+            if (semestreInicioBloque > 1) {
+                // Recorrer desde el S1 (índice 0) hasta el semestre antes de que inicie el bloque (S_A-2)
+                for (int i = 0; i < semestreInicioBloque - 1; i++) {
+                     if (i < asignaturas.size()) {
+                         asignaturasHistorialAnterior.addAll(asignaturas.get(i));
+                     }
+                }
+            }
+            // 3. Agregar materias del historial al pool total
+            asignaturasDisponiblesEnBloque.addAll(asignaturasHistorialAnterior);
+        }
+        
+        // =======================================================
+        // LÓGICA DE SELECCIÓN FINAL Y ASIGNACIÓN DE CALIFICACIONES
+        // =======================================================
+
+        // Usar un Set para eliminar duplicados si las materias del historial coinciden con el bloque móvil
+        Set<Asignatura> asignaturasUnicas = new HashSet<>(asignaturasDisponiblesEnBloque); 
+        List<Asignatura> poolList = new ArrayList<>(asignaturasUnicas);
+        
+        int totalAsignaturasDisponibles = poolList.size();
+        
+        if (totalAsignaturasDisponibles == 0) {
+            alumno.setRegistroAcademico(registro); 
+            return; 
+        }
+        
+        // 1. Definir rango de materias a cursar
+        int minAsignaturas;
+        int maxAsignaturas;
+        
+        if (semestreActual == 1) {
+            // S1: Fijo en 5 materias.
+            minAsignaturas = 5; 
+            maxAsignaturas = 5;
+        } else {
+            // S2+: Rango normal 5-10.
+            minAsignaturas = 5;
+            maxAsignaturas = 10;
+        }
+
+        // 2. Calcular la cantidad final a cursar
+        maxAsignaturas = Math.min(maxAsignaturas, totalAsignaturasDisponibles); 
+        
+        int asignaturasACursar;
+        
+        if (semestreActual == 1) {
+            asignaturasACursar = Math.min(5, totalAsignaturasDisponibles); // Siempre 5 o el total disponible
+        } else {
+            // Para S2+, elige un valor aleatorio entre [min, max], ajustado al total disponible
+            int rango = maxAsignaturas - minAsignaturas + 1;
+            // Garantiza que se seleccione al menos el mínimo o el total disponible si es menor.
+            asignaturasACursar = Math.min(totalAsignaturasDisponibles, minAsignaturas + (rango > 0 ? aleatorio.nextInt(rango) : 0));
+        }
+
+        // 3. Seleccionar asignaturas aleatorias y asignar calificaciones
+        Set<Integer> indicesSeleccionados = new HashSet<>();
+
+        while(indicesSeleccionados.size() < asignaturasACursar) {
+            int indiceAleatorio = aleatorio.nextInt(totalAsignaturasDisponibles);
+            indicesSeleccionados.add(indiceAleatorio);
+        }
+
+        registro.asegurarCapacidad(asignaturasACursar);
+        for (int indice : indicesSeleccionados) {
+            Asignatura asignatura = poolList.get(indice);
+            double calificacion = generarCalificacion(aleatorio); // Calificación entre 5.0 y 9.0
+            registro.agregarAsignatura(asignatura, calificacion);
+        }
+
+        alumno.setRegistroAcademico(registro);
+        
+        // =======================================================
+        // CÁLCULO Y ASIGNACIÓN DEL INDICADOR BRUTO
+        // =======================================================
+        
+        double promedio = registro.calcularPromedio();
+        int asigInsc = registro.getAsignaturasInscritas(); 
+        int asigAprob = registro.getAsignaturasAprobadas();
+        int creditos = registro.getTotalCreditos();
+        
+        // 4. Calcular el Indicador Bruto
+        long indicadorBruto = CalculadoraIndicador.calcularIndicadorBruto(
+            promedio, 
+            asigAprob, 
+            asigInsc, 
+            creditos, 
+            semestreActual
+        );
+        
+        // 5. Asignar el Indicador Bruto
+        asignarIndicador(alumno, indicadorBruto);
+    }
+
+    /**
+     * Asigna el Indicador Bruto a un alumno. Si el alumno ya está registrado en el ranking,
+     * se retira antes del cambio y se vuelve a insertar en su nueva posición, que queda
+     * como su Num. Inscripción.
+     * @param alumno El alumno a actualizar.
+     * @param indicadorBruto El nuevo valor del indicador.
+     */
+    private void asignarIndicador(Alumno alumno, long indicadorBruto) {
+        // Los alumnos que aún no se agregan al módulo no se buscan en el ranking
+        boolean enRanking = !rankingDiferido
+                            && buscarAlumnoPorNumCuenta(alumno.getNumCuenta()) == alumno
+                            && ranking.eliminar(alumno);
+        alumno.setIndicadorBruto(indicadorBruto);
+        if (enRanking) {
+            insertarEnRanking(alumno);
+        }
+    }
+
+
+    /**
+     * Recalcula el Indicador Bruto de todos los alumnos a partir de su registro académico
+     * actual (por ejemplo, después de corregir calificaciones o de cambiar las reglas de
+     * créditos) y reconstruye el ranking una sola vez al final.
+     * <p>
+     * Los alumnos se dividen en bloques de {@value #ALUMNOS_POR_BLOQUE_RECALCULO} que se procesan
+     * en paralelo en el {@link java.util.concurrent.ForkJoinPool} común: cada bloque copia los
+     * agregados de sus registros a arreglos primitivos y los calcula con
+     * {@link CalculadoraIndicador#calcularIndicadoresBrutos}. Después, el ranking se reordena con
+     * {@link Arrays#parallelSort} y se reconstruye en O(n), en lugar de reubicar a cada alumno.
+     * Si ningún indicador cambia, el ranking no se toca. Los alumnos sin registro académico
+     * conservan su indicador y los índices de texto no cambian.
+     * @return La cantidad de alumnos cuyo Indicador Bruto cambió.
+     */
+    public int recalcularIndicadores() {
+        Alumno[] todos = alumnos.toArray(new Alumno[0]);
+        int cambios = -1;
+        try {
+            cambios = calcularIndicadoresEnParalelo(todos);
+        } finally {
+            // Si falló un bloque, otros ya pudieron cambiar indicadores (clave del ranking): se reconstruye igual
+            if (cambios != 0) {
+                Arrays.parallelSort(todos, RankingAlumnos.ORDEN_RANKING);
+                ranking.construirDesdeOrdenados(Arrays.asList(todos));
+            }
+        }
+        return cambios;
+    }
+
+    /**
+     * Calcula en paralelo el Indicador Bruto de alumnos que todavía no se agregan al módulo
+     * (por ejemplo, los leídos de un archivo con su registro académico ya armado), igual que
+     * {@link #recalcularIndicadores()} pero sin tocar el ranking: al agregarlos después con
+     * {@link #agregarAlumnos(Collection)} entran al ranking en una sola pasada.
+     * Los alumnos sin registro académico conservan su indicador.
+     * @param nuevos Los alumnos cuyo indicador se calcula; no deben estar en el módulo.
+     */
+    public void calcularIndicadores(Collection<Alumno> nuevos) {
+        calcularIndicadoresEnParalelo(nuevos.toArray(new Alumno[0]));
+    }
+
+    /**
+     * Calcula el Indicador Bruto de los alumnos del arreglo por bloques de
+     * {@value #ALUMNOS_POR_BLOQUE_RECALCULO}, en paralelo.
+     * @return La cantidad de alumnos cuyo indicador cambió.
+     */
+    private static int calcularIndicadoresEnParalelo(Alumno[] todos) {
+        int bloques = (todos.length + ALUMNOS_POR_BLOQUE_RECALCULO - 1) / ALUMNOS_POR_BLOQUE_RECALCULO;
+        return IntStream.range(0, bloques)
+            .parallel()
+            .map(b -> recalcularBloque(todos, b * ALUMNOS_POR_BLOQUE_RECALCULO,
+                                       Math.min(todos.length, (b + 1) * ALUMNOS_POR_BLOQUE_RECALCULO)))
+            .sum();
+    }
+
+    /**
+     * Recalcula el Indicador Bruto de los alumnos [desde, hasta) del arreglo.
+     * @return La cantidad de alumnos cuyo indicador cambió.
+     */
+    private static int recalcularBloque(Alumno[] todos, int desde, int hasta) {
+        int tamanio = hasta - desde;
+        double[] promedios = new double[tamanio];
+        int[] aprobadas = new int[tamanio];
+        int[] inscritas = new int[tamanio];
+        int[] creditos = new int[tamanio];
+        int[] semestres = new int[tamanio];
+        long[] indicadores = new long[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            Alumno alumno = todos[desde + i];
+            RegistroAcademico registro = alumno.getRegistroAcademico();
+            if (registro != null) {
+                promedios[i] = registro.calcularPromedio();
+                aprobadas[i] = registro.getAsignaturasAprobadas();
+                inscritas[i] = registro.getAsignaturasInscritas();
+                creditos[i] = registro.getTotalCreditos();
+            }
+            semestres[i] = alumno.getSemestre();
+        }
+        CalculadoraIndicador.calcularIndicadoresBrutos(promedios, aprobadas, inscritas, creditos, semestres, indicadores);
+        int cambios = 0;
+        for (int i = 0; i < tamanio; i++) {
+            Alumno alumno = todos[desde + i];
+            if (alumno.getRegistroAcademico() != null && alumno.getIndicadorBruto() != indicadores[i]) {
+                alumno.setIndicadorBruto(indicadores[i]);
+                cambios++;
+            }
+        }
+        return cambios;
+    }
+
+    /**
+     * Genera una calificación aleatoria en el rango de 5.0 a 9.0, simulando 
+     * un rendimiento académico variable.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @return Una calificación double entre 5.0 (inclusive) y 9.0 (exclusive).
+     */
+    private double generarCalificacion(SplittableRandom aleatorio){
+        return 5.0 + (aleatorio.nextDouble()*4.0); // Calificaciones entre 5.0 y 9.0
+    }
+
+    /**
+     * Agrega un objeto Alumno a la lista de alumnos gestionados por el módulo
+     * y lo registra en el índice por número de cuenta.
+     * @param alumno El objeto Alumno a agregar.
+     * @return true si se agregó, false si ya existía un alumno con el mismo número de cuenta.
+     */
+    public boolean agregarAlumno(Alumno alumno){
+        if (indicePorCuenta.contiene(alumno.getNumCuenta())) {
+            return false;
+        }
+        compartirTextos(alumno);
+        indicePorCuenta.poner(alumno.getNumCuenta(), alumnos.size());
+        alumnos.add(alumno);
+        registrarEnIndices(alumno);
+        return true;
+    }
+
+    /**
+     * Agrega un lote de alumnos al módulo, reservando de antemano el espacio de la lista.
+     * Los alumnos con un número de cuenta ya registrado se omiten. Un lote grande entra al
+     * ranking en una sola pasada (ver {@link #aplicarLote}). Si el lote al menos duplica la
+     * población, los índices de texto se difieren hasta la primera búsqueda que los necesite,
+     * como en una carga masiva: construirlos entonces cuesta a lo más el doble que mantenerlos
+     * alumno por alumno, y nada si no se busca por texto.
+     * @param nuevos Los alumnos a agregar, con su registro académico ya generado.
+     * @return La cantidad de alumnos efectivamente agregados.
+     */
+    public int agregarAlumnos(Collection<Alumno> nuevos){
+        if (!nuevos.isEmpty() && nuevos.size() >= alumnos.size()) {
+            diferirIndicesTexto();
+        }
+        alumnos.ensureCapacity(alumnos.size() + nuevos.size());
+        List<Alumno> agregados = new ArrayList<>(nuevos.size());
+        aplicarLote(nuevos.size(), null, agregados, () -> {
+            for (Alumno alumno : nuevos) {
+                if (agregarAlumno(alumno)) {
+                    agregados.add(alumno);
+                }
+            }
+        });
+        return agregados.size();
+    }
+
+    /**
+     * Aplica una modificación distinta a cada alumno de un lote (ver {@link #modificarAlumno}),
+     * reubicándolos en el ranking en una sola pasada si el lote es grande.
+     * Los números de cuenta que no están registrados se omiten.
+     * @param modificaciones La modificación de cada alumno, por número de cuenta; se aplican en
+     *                       el orden de iteración del mapa.
+     * @return Los alumnos modificados.
+     */
+    public List<Alumno> modificarAlumnos(Map<Long, ? extends Consumer<Alumno>> modificaciones){
+        List<Alumno> modificados = new ArrayList<>(modificaciones.size());
+        IndiceNumCuenta retirados = new IndiceNumCuenta(modificaciones.size());
+        aplicarLote(modificaciones.size(), retirados, modificados, () -> {
+            for (Map.Entry<Long, ? extends Consumer<Alumno>> entrada : modificaciones.entrySet()) {
+                Alumno alumno = buscarAlumnoPorNumCuenta(entrada.getKey());
+                if (alumno != null) {
+                    // Se anota antes de modificarlo para reubicarlo aunque la modificación falle
+                    retirados.poner(alumno.getNumCuenta(), 0);
+                    modificados.add(alumno);
+                    modificarAlumno(entrada.getKey(), entrada.getValue());
+                }
+            }
+        });
+        return modificados;
+    }
+
+    /**
+     * Elimina un lote de alumnos (ver {@link #eliminarAlumno}), retirándolos del ranking en una
+     * sola pasada si el lote es grande. Los números de cuenta que no están registrados se omiten.
+     * @param numCuentas Los números de cuenta de los alumnos a eliminar.
+     * @return Los alumnos eliminados.
+     */
+    public List<Alumno> eliminarAlumnos(Collection<Long> numCuentas){
+        List<Alumno> eliminados = new ArrayList<>(numCuentas.size());
+        IndiceNumCuenta retirados = new IndiceNumCuenta(numCuentas.size());
+        aplicarLote(numCuentas.size(), retirados, Collections.<Alumno>emptyList(), () -> {
+            for (long numCuenta : numCuentas) {
+                Alumno eliminado = eliminarAlumno(numCuenta);
+                if (eliminado != null) {
+                    retirados.poner(numCuenta, 0);
+                    eliminados.add(eliminado);
+                }
+            }
+        });
+        return eliminados;
+    }
+
+    /**
+     * Aplica un lote de altas, bajas o modificaciones. Si el lote tiene al menos 1/{@value #FRACCION_LOTE_PASADA_UNICA}
+     * de la población, las operaciones no tocan el ranking y, al terminar (aun si alguna falla),
+     * se reubica a todos los alumnos afectados en una sola pasada: se recorre el ranking vigente
+     * en orden omitiendo a los retirados, se intercalan los insertados (ordenados entre sí) y el
+     * árbol se reconstruye en O(n) reutilizando sus nodos. En total, O(n + k log k) para un lote
+     * de k alumnos, en lugar de k reubicaciones de O(log n). Con lotes pequeños, cada operación
+     * actualiza el ranking.
+     * @param tamanioLote Cantidad de operaciones del lote.
+     * @param retirados Números de cuenta de los alumnos que la aplicación retira de su posición
+     *                  en el ranking (bajas y modificados), o null si no retira a ninguno.
+     * @param insertados Los alumnos que la aplicación inserta en el ranking (altas y modificados),
+     *                   con su clave final.
+     * @param aplicacion Las operaciones del lote; llenan {@code retirados} e {@code insertados}.
+     */
+    private void aplicarLote(int tamanioLote, IndiceNumCuenta retirados, List<Alumno> insertados, Runnable aplicacion) {
+        if ((long) tamanioLote * FRACCION_LOTE_PASADA_UNICA < alumnos.size()) {
+            aplicacion.run();
+            return;
+        }
+        rankingDiferido = true;
+        try {
+            aplicacion.run();
+        } finally {
+            rankingDiferido = false;
+            reubicarEnRanking(retirados, insertados);
+        }
+    }
+
+    /**
+     * Reconstruye el ranking intercalando los alumnos insertados con los que no se retiraron
+     * (ver {@link RankingAlumnos#fusionar}).
+     * @param retirados Números de cuenta de los alumnos que deben salir de su posición actual, o null.
+     * @param insertados Los alumnos que deben entrar con su clave vigente.
+     */
+    private void reubicarEnRanking(IndiceNumCuenta retirados, List<Alumno> insertados) {
+        Alumno[] nuevos = insertados.toArray(new Alumno[0]);
+        Arrays.parallelSort(nuevos, RankingAlumnos.ORDEN_RANKING);
+        ranking.fusionar(retirados, Arrays.asList(nuevos));
+        for (Alumno alumno : nuevos) {
+            alumno.setNumInscripcionFinal(ranking.posicion(alumno));
+        }
+    }
+
+    /**
+     * Aplica una modificación a un alumno registrado manteniendo consistentes el ranking y los índices.
+     * Los datos que forman parte de la clave del ranking o de los índices (apellidos, indicador)
+     * solo deben cambiarse a través de este método: el alumno se retira de los índices, se aplica
+     * la modificación y se vuelve a registrar con sus nuevos datos.
+     * @param numCuenta El número de cuenta del alumno a modificar.
+     * @param modificacion Acción que actualiza los datos del alumno.
+     * @return El alumno modificado, o null si no existe un alumno con ese número de cuenta.
+     */
+    public Alumno modificarAlumno(long numCuenta, Consumer<Alumno> modificacion){
+        Alumno alumno = buscarAlumnoPorNumCuenta(numCuenta);
+        if (alumno == null) {
+            return null;
+        }
+        retirarDeIndices(alumno);
+        try {
+            modificacion.accept(alumno);
+        } finally {
+            compartirTextos(alumno);
+            registrarEnIndices(alumno);
+        }
+        return alumno;
+    }
+
+    /**
+     * Reemplaza la dirección, la carrera y el género del alumno por la instancia registrada en
+     * {@link #textosCompartidos}, de modo que los valores que llegan como cadenas nuevas (altas
+     * manuales, bitácora, importación) no se dupliquen en memoria. La carga masiva no lo usa:
+     * el snapshot ya guarda cada cadena una sola vez.
+     * @param alumno El alumno a actualizar.
+     */
+    private void compartirTextos(Alumno alumno) {
+        alumno.setDireccion(textosCompartidos.canonico(alumno.getDireccion()));
+        alumno.setCarrera(textosCompartidos.canonico(alumno.getCarrera()));
+        alumno.setGenero(textosCompartidos.canonico(alumno.getGenero()));
+    }
+
+    /**
+     * Registra al alumno en los índices secundarios (ranking, apellidos y nombres).
+     * @param alumno El alumno a registrar.
+     */
+    private void registrarEnIndices(Alumno alumno) {
+        if (!rankingDiferido) {
+            insertarEnRanking(alumno);
+        }
+        if (!indicesTextoPendientes) {
+            indiceApellidos.agregar(alumno);
+            indiceNombres.agregar(alumno);
+        }
+    }
+
+    /**
+     * Inserta al alumno en el ranking y le asigna su puesto como Num. Inscripción. O(log n).
+     * Los puestos de los demás alumnos solo se materializan al recorrer el ranking completo
+     * (ver {@code ControladorAlumnos.asignarNumerosDeInscripcion()}).
+     * @param alumno El alumno a insertar.
+     */
+    private void insertarEnRanking(Alumno alumno) {
+        ranking.insertar(alumno);
+        alumno.setNumInscripcionFinal(ranking.posicion(alumno));
+    }
+
+    /**
+     * Retira al alumno de los índices secundarios usando sus datos vigentes.
+     * @param alumno El alumno a retirar.
+     */
+    private void retirarDeIndices(Alumno alumno) {
+        if (!rankingDiferido) {
+            ranking.eliminar(alumno);
+        }
+        if (!indicesTextoPendientes) {
+            indiceApellidos.eliminar(alumno);
+            indiceNombres.eliminar(alumno);
+        }
+    }
+
+    /**
+     * Construye los índices de texto con todos los alumnos actuales si quedaron pendientes
+     * después de una carga masiva. Si la construcción falla, los índices quedan vacíos y
+     * pendientes, de modo que el siguiente intento empieza de cero.
+     */
+    void asegurarIndicesTexto() {
+        if (indicesTextoPendientes) {
+            try {
+                for (Alumno alumno : alumnos) {
+                    indiceApellidos.agregar(alumno);
+                    indiceNombres.agregar(alumno);
+                }
+            } catch (RuntimeException | Error e) {
+                indiceApellidos.limpiar();
+                indiceNombres = new IndiceNombres();
+                throw e;
+            }
+            indicesTextoPendientes = false;
+        }
+    }
+
+    /**
+     * @return true si los índices de texto aún no se construyen después de una carga masiva.
+     */
+    boolean tieneIndicesTextoPendientes() {
+        return indicesTextoPendientes;
+    }
+
+    /**
+     * Carga masiva de alumnos en un módulo vacío (por ejemplo, desde un snapshot).
+     * El ranking se construye en O(n) a partir del orden recibido y los índices de texto
+     * se difieren hasta la primera búsqueda que los necesite.
+     * @param enOrdenDeAlta Los alumnos en el orden en que deben quedar en la lista del módulo.
+     * @param enOrdenDeRanking Los mismos alumnos en orden de ranking, o null si no se conoce;
+     *                         si el orden no es válido, el ranking se ordena de nuevo.
+     * @throws IllegalStateException Si el módulo ya tiene alumnos.
+     * @throws IllegalArgumentException Si hay números de cuenta repetidos.
+     */
+    void cargarMasivo(List<Alumno> enOrdenDeAlta, List<Alumno> enOrdenDeRanking) {
+        if (!alumnos.isEmpty()) {
+            throw new IllegalStateException("La carga masiva requiere un modulo sin alumnos.");
+        }
+        alumnos.ensureCapacity(enOrdenDeAlta.size());
+        for (Alumno alumno : enOrdenDeAlta) {
+            if (indicePorCuenta.contiene(alumno.getNumCuenta())) {
+                indicePorCuenta.limpiar();
+                alumnos.clear();
+                throw new IllegalArgumentException("Numero de cuenta repetido: " + alumno.getNumCuenta());
+            }
+            indicePorCuenta.poner(alumno.getNumCuenta(), alumnos.size());
+            alumnos.add(alumno);
+        }
+
+        boolean construido = false;
+        if (enOrdenDeRanking != null && enOrdenDeRanking.size() == alumnos.size()) {
+            try {
+                ranking.construirDesdeOrdenados(enOrdenDeRanking);
+                construido = true;
+            } catch (IllegalArgumentException e) {
+                // Orden guardado inconsistente: se reconstruye ordenando
+            }
+        }
+        if (!construido) {
+            List<Alumno> ordenados = new ArrayList<>(alumnos);
+            ordenados.sort(RankingAlumnos.ORDEN_RANKING);
+            ranking.construirDesdeOrdenados(ordenados);
+        }
+
+        diferirIndicesTexto();
+    }
+
+    /**
+     * Vacía los índices de texto y los marca como pendientes (ver {@link #asegurarIndicesTexto()}).
+     */
+    private void diferirIndicesTexto() {
+        if (!indicesTextoPendientes) {
+            indiceApellidos.limpiar();
+            indiceNombres = new IndiceNombres();
+            indicesTextoPendientes = true;
+        }
+    }
+
+    /**
+     * Obtiene la posición de un alumno dentro de la lista {@link #alumnos}.
+     * @param numCuenta El número de cuenta del alumno.
+     * @return La posición, o {@link IndiceNumCuenta#NO_ENCONTRADO} si no está registrado.
+     */
+    int obtenerPosicion(long numCuenta) {
+        return indicePorCuenta.obtener(numCuenta);
+    }
+
+    /**
+     * Elimina un alumno del módulo a partir de su número de cuenta.
+     * Para que la baja sea O(1), el último alumno de la lista ocupa el lugar del eliminado
+     * y se actualiza su posición en el índice.
+     * @param numCuenta El número de cuenta del alumno a eliminar.
+     * @return El objeto Alumno eliminado, o null si no existía.
+     */
+    public Alumno eliminarAlumno(long numCuenta){
+        int posicion = indicePorCuenta.eliminar(numCuenta);
+        if (posicion == IndiceNumCuenta.NO_ENCONTRADO) {
+            return null;
+        }
+        Alumno eliminado = alumnos.get(posicion);
+        retirarDeIndices(eliminado);
+        Alumno ultimo = alumnos.remove(alumnos.size() - 1);
+        if (ultimo != eliminado) {
+            alumnos.set(posicion, ultimo);
+            indicePorCuenta.poner(ultimo.getNumCuenta(), posicion);
+        }
+        return eliminado;
+    }
+
+    /**
+     * Imprime en la consola el listado completo de todas las asignaturas
+     * disponibles en el plan de estudios, junto con el total.
+     */
+    public void mostrarAsignaturas(){
+        System.out.println("Asignaturas Disponibles");
+        for(List<Asignatura> listaSemestre : asignaturas){
+            for(Asignatura asignatura : listaSemestre){
+                System.out.printf("%s (%d creditos)%n",asignatura.getNombre(), asignatura.getCreditos());
+            }
+        }
+        int totalAsignaturas = asignaturas.stream().mapToInt(List::size).sum();
+        System.out.println("Total: "+ totalAsignaturas + " asignaturas");
+    }
+
 }
\ No newline at end of file
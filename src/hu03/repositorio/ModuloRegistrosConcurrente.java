@@ -0,0 +1,560 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * ModuloRegistrosConcurrente: Acceso seguro desde varios hilos a un {@link ModuloRegistros}
+ * (por ejemplo, varias terminales de inscripción atendidas por un mismo registro en memoria).
+ * <p>
+ * Todas las operaciones pasan por un {@link StampedLock}: las consultas (búsquedas, Top K,
+ * puesto en el ranking) toman el candado de lectura y no se bloquean entre sí; las altas, bajas
+ * y modificaciones toman el candado de escritura y se serializan. La búsqueda por número de
+ * cuenta usa una lectura optimista: no adquiere el candado y solo se repite con el candado de
+ * lectura si una escritura ocurrió al mismo tiempo.
+ * <p>
+ * Los índices de texto que el módulo construye en la primera búsqueda (después de cargar un
+ * snapshot) se construyen aquí con el candado de escritura, ya que una consulta concurrente
+ * no puede modificarlos.
+ * <p>
+ * Para los reportes se publica además una {@link VistaRanking} inmutable a través de una
+ * referencia atómica: leerla no toma ningún candado ni repite trabajo de ordenamiento. Después
+ * de cada escritura, un hilo en segundo plano reconstruye la vista (las escrituras que llegan
+ * mientras tanto se agrupan en una sola reconstrucción), de modo que la vista puede ir unas
+ * escrituras atrás del módulo, pero siempre es un ranking completo y consistente.
+ * <p>
+ * Las consultas devuelven listas nuevas, pero los objetos {@link Alumno} son los del módulo:
+ * sus datos solo deben cambiarse con {@link #modificarAlumno(long, Consumer)}. El módulo
+ * envuelto no debe usarse directamente mientras lo usa esta clase.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class ModuloRegistrosConcurrente {
+
+    private final ModuloRegistros modulo;
+    private final StampedLock candado = new StampedLock();
+    /** Bitácora opcional donde se registran las operaciones (null = sin bitácora). */
+    private volatile BitacoraOperaciones bitacora;
+
+    /** Cantidad de escrituras aplicadas al módulo; solo cambia con el candado de escritura. */
+    private volatile long versionEscrituras;
+    /** Última vista del ranking publicada para los lectores. */
+    private final AtomicReference<VistaRanking> vistaRanking;
+    /** true mientras haya una reconstrucción de la vista programada que aún no empieza. */
+    private final AtomicBoolean reconstruccionPendiente = new AtomicBoolean();
+    /** Hilo que reconstruye la vista del ranking después de las escrituras. */
+    private final ExecutorService reconstructor = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "reconstructor-vista-ranking");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    /**
+     * Crea el acceso concurrente a un módulo.
+     * @param modulo El módulo a proteger.
+     */
+    public ModuloRegistrosConcurrente(ModuloRegistros modulo) {
+        this.modulo = modulo;
+        this.vistaRanking = new AtomicReference<>(VistaRanking.desde(modulo, 0L));
+    }
+
+    /**
+     * Asocia una bitácora donde se registran las altas, bajas y modificaciones.
+     * Cada operación se agrega a la bitácora mientras se tiene el candado de escritura (así
+     * su orden en el archivo es el mismo en que se aplicaron) y se espera su durabilidad después
+     * de liberarlo, de modo que las escrituras de varios hilos comparten una sola sincronización.
+     * Conviene abrirla en modo no síncrono para no esperar la sincronización con el candado tomado.
+     * @param bitacora La bitácora, o null para no registrar las operaciones.
+     */
+    public void setBitacora(BitacoraOperaciones bitacora) {
+        this.bitacora = bitacora;
+    }
+
+    // ===============================================
+    //                   CONSULTAS
+    // ===============================================
+
+    /**
+     * Obtiene la última vista publicada del ranking sin tomar ningún candado. Puede no incluir
+     * las escrituras más recientes (ver {@link VistaRanking#getVersion()}); para un resultado
+     * exacto en el momento de la consulta, usar {@link #topK(int)} o {@link #obtenerNumInscripcion(Alumno)}.
+     * @return La vista del ranking.
+     */
+    public VistaRanking getVistaRanking() {
+        return vistaRanking.get();
+    }
+
+    /**
+     * Ejecuta una consulta compuesta con el candado de lectura, por ejemplo para copiar los datos
+     * de varios alumnos sin que una escritura los cambie a la mitad. La consulta no debe
+     * modificar el módulo ni invocar a este objeto.
+     * @param <T> Tipo del resultado.
+     * @param consulta La consulta a ejecutar sobre el módulo.
+     * @return El resultado de la consulta.
+     */
+    public <T> T leer(Function<ModuloRegistros, T> consulta) {
+        long sello = bloquearLecturaConIndicesTexto();
+        try {
+            return consulta.apply(modulo);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * @return La cantidad de escrituras aplicadas al módulo hasta ahora.
+     */
+    public long getVersionEscrituras() {
+        return versionEscrituras;
+    }
+
+    /**
+     * @return El plan de estudios del módulo (agrupado por semestre).
+     */
+    public List<List<Asignatura>> getAsignaturas() {
+        long sello = candado.readLock();
+        try {
+            return modulo.getAsignaturas();
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * @return La cantidad de alumnos registrados.
+     */
+    public int tamanio() {
+        long sello = candado.readLock();
+        try {
+            return modulo.getAlumnos().size();
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Obtiene una copia de la lista de alumnos.
+     * @return Los alumnos registrados, en el orden del módulo.
+     */
+    public List<Alumno> getAlumnos() {
+        long sello = candado.readLock();
+        try {
+            return new ArrayList<>(modulo.getAlumnos());
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Busca un alumno por su número de cuenta con una lectura optimista.
+     * @param numCuenta El número de cuenta del alumno.
+     * @return El alumno, o null si no está registrado.
+     */
+    public Alumno buscarAlumnoPorNumCuenta(long numCuenta) {
+        long sello = candado.tryOptimisticRead();
+        if (sello != 0L) {
+            try {
+                Alumno alumno = modulo.buscarAlumnoPorNumCuenta(numCuenta);
+                if (candado.validate(sello)) {
+                    return alumno;
+                }
+            } catch (RuntimeException e) {
+                // Una escritura simultánea dejó el índice a medio cambiar: se repite con el candado
+            }
+        }
+        sello = candado.readLock();
+        try {
+            return modulo.buscarAlumnoPorNumCuenta(numCuenta);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Obtiene los K mejores alumnos del ranking.
+     * @param k Cantidad de alumnos a devolver.
+     * @return Lista con a lo más k alumnos en orden de ranking.
+     */
+    public List<Alumno> topK(int k) {
+        long sello = candado.readLock();
+        try {
+            return modulo.topK(k);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Obtiene una copia de todos los alumnos en orden de ranking.
+     * @return Los alumnos, del puesto 1 al último.
+     */
+    public List<Alumno> getAlumnosPorRanking() {
+        long sello = candado.readLock();
+        try {
+            return modulo.topK(modulo.getAlumnos().size());
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Calcula el Número de Inscripción (puesto en el ranking) de un alumno.
+     * @param alumno El alumno a consultar.
+     * @return El puesto del alumno, o 0 si no está registrado.
+     */
+    public int obtenerNumInscripcion(Alumno alumno) {
+        long sello = candado.readLock();
+        try {
+            return modulo.obtenerNumInscripcion(alumno);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Busca los alumnos con un apellido coincidente (ver {@link ModuloRegistros#buscarAlumnosPorApellido}).
+     * @param apellidoBusqueda El apellido a buscar.
+     * @return Los alumnos encontrados.
+     */
+    public List<Alumno> buscarAlumnosPorApellido(String apellidoBusqueda) {
+        long sello = bloquearLecturaConIndicesTexto();
+        try {
+            return modulo.buscarAlumnosPorApellido(apellidoBusqueda);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Busca alumnos por prefijo de nombre o apellido (ver {@link ModuloRegistros#buscarAlumnosPorPrefijo}).
+     * @param prefijo El prefijo a buscar.
+     * @param pagina Número de página de resultados, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de alumnos encontrados.
+     */
+    public List<Alumno> buscarAlumnosPorPrefijo(String prefijo, int pagina, int tamanioPagina) {
+        long sello = bloquearLecturaConIndicesTexto();
+        try {
+            return modulo.buscarAlumnosPorPrefijo(prefijo, pagina, tamanioPagina);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Busca alumnos tolerando errores de escritura (ver {@link ModuloRegistros#buscarAlumnosAproximado}).
+     * @param termino El término a buscar.
+     * @param maxDistancia Distancia de edición máxima permitida.
+     * @param pagina Número de página de resultados, empezando en 0.
+     * @param tamanioPagina Cantidad máxima de alumnos por página.
+     * @return La página de alumnos encontrados.
+     */
+    public List<Alumno> buscarAlumnosAproximado(String termino, int maxDistancia, int pagina, int tamanioPagina) {
+        long sello = bloquearLecturaConIndicesTexto();
+        try {
+            return modulo.buscarAlumnosAproximado(termino, maxDistancia, pagina, tamanioPagina);
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    // ===============================================
+    //              ALTAS, BAJAS Y CAMBIOS
+    // ===============================================
+
+    /**
+     * Agrega un alumno al módulo (ver {@link ModuloRegistros#agregarAlumno}).
+     * @param alumno El alumno a agregar, con su registro académico ya generado.
+     * @return true si se agregó, false si ya existía un alumno con el mismo número de cuenta.
+     */
+    public boolean agregarAlumno(Alumno alumno) {
+        return agregarAlumno(alumno, false);
+    }
+
+    /**
+     * Agrega un alumno al módulo, generando antes su registro académico si se indica. La
+     * generación ocurre con el candado de escritura tomado, ya que consulta el índice del módulo.
+     * @param alumno El alumno a agregar.
+     * @param generarRegistro true para generar su registro académico (y su Indicador Bruto) al agregarlo.
+     * @return true si se agregó, false si ya existía un alumno con el mismo número de cuenta.
+     */
+    public boolean agregarAlumno(Alumno alumno, boolean generarRegistro) {
+        BitacoraOperaciones registro = bitacora;
+        boolean agregado;
+        long sello = candado.writeLock();
+        try {
+            agregado = modulo.buscarAlumnoPorNumCuenta(alumno.getNumCuenta()) == null;
+            if (agregado && generarRegistro) {
+                modulo.generarRegistroAcademico(alumno);
+            }
+            agregado = agregado && modulo.agregarAlumno(alumno);
+            if (agregado) {
+                versionEscrituras++;
+                if (registro != null) {
+                    registrarEnBitacora(() -> registro.registrarAlta(alumno));
+                }
+            }
+        } finally {
+            candado.unlockWrite(sello);
+        }
+        if (agregado) {
+            programarVistaRanking();
+            esperarBitacora(registro);
+        }
+        return agregado;
+    }
+
+    /**
+     * Agrega un lote de alumnos con un solo candado de escritura.
+     * @param nuevos Los alumnos a agregar.
+     * @return La cantidad de alumnos efectivamente agregados.
+     */
+    public int agregarAlumnos(Collection<Alumno> nuevos) {
+        BitacoraOperaciones registro = bitacora;
+        int agregados = 0;
+        long sello = candado.writeLock();
+        try {
+            for (Alumno alumno : nuevos) {
+                if (modulo.agregarAlumno(alumno)) {
+                    agregados++;
+                    versionEscrituras++;
+                    if (registro != null) {
+                        registrarEnBitacora(() -> registro.registrarAlta(alumno));
+                    }
+                }
+            }
+        } finally {
+            candado.unlockWrite(sello);
+        }
+        if (agregados > 0) {
+            programarVistaRanking();
+            esperarBitacora(registro);
+        }
+        return agregados;
+    }
+
+    /**
+     * Genera un nuevo registro académico (y su Indicador Bruto) para un alumno registrado,
+     * reubicándolo en el ranking.
+     * @param numCuenta El número de cuenta del alumno.
+     * @return El alumno actualizado, o null si no existe.
+     */
+    public Alumno regenerarRegistroAcademico(long numCuenta) {
+        return modificarAlumno(numCuenta, alumno -> { }, alumno -> true);
+    }
+
+    /**
+     * Aplica una modificación a un alumno manteniendo consistentes el ranking y los índices
+     * (ver {@link ModuloRegistros#modificarAlumno}). La modificación se ejecuta con el candado
+     * de escritura tomado: debe ser breve y no invocar a este objeto.
+     * @param numCuenta El número de cuenta del alumno a modificar.
+     * @param modificacion Acción que actualiza los datos del alumno.
+     * @return El alumno modificado, o null si no existe.
+     */
+    public Alumno modificarAlumno(long numCuenta, Consumer<Alumno> modificacion) {
+        return modificarAlumno(numCuenta, modificacion, alumno -> false);
+    }
+
+    /**
+     * Aplica una modificación a un alumno y, si se cumple la condición, le genera después un
+     * registro académico nuevo (por ejemplo, al cambiar de semestre), todo como una sola escritura.
+     * @param numCuenta El número de cuenta del alumno a modificar.
+     * @param modificacion Acción que actualiza los datos del alumno.
+     * @param regenerarRegistro Condición, evaluada sobre el alumno antes de modificarlo, para
+     *                          generar un registro académico nuevo después de la modificación.
+     * @return El alumno modificado, o null si no existe.
+     */
+    public Alumno modificarAlumno(long numCuenta, Consumer<Alumno> modificacion, Predicate<Alumno> regenerarRegistro) {
+        BitacoraOperaciones registro = bitacora;
+        Alumno alumno;
+        long sello = candado.writeLock();
+        try {
+            alumno = modulo.modificarAlumno(numCuenta, actual -> {
+                boolean regenerar = regenerarRegistro.test(actual);
+                modificacion.accept(actual);
+                if (regenerar) {
+                    modulo.generarRegistroAcademico(actual);
+                }
+            });
+            if (alumno != null) {
+                versionEscrituras++;
+                if (registro != null) {
+                    registrarEnBitacora(() -> registro.registrarModificacion(alumno));
+                }
+            }
+        } finally {
+            candado.unlockWrite(sello);
+        }
+        if (alumno != null) {
+            programarVistaRanking();
+            esperarBitacora(registro);
+        }
+        return alumno;
+    }
+
+    /**
+     * Elimina un alumno del módulo (ver {@link ModuloRegistros#eliminarAlumno}).
+     * @param numCuenta El número de cuenta del alumno a eliminar.
+     * @return El alumno eliminado, o null si no existía.
+     */
+    public Alumno eliminarAlumno(long numCuenta) {
+        BitacoraOperaciones registro = bitacora;
+        Alumno eliminado;
+        long sello = candado.writeLock();
+        try {
+            eliminado = modulo.eliminarAlumno(numCuenta);
+            if (eliminado != null) {
+                versionEscrituras++;
+                if (registro != null) {
+                    registrarEnBitacora(() -> registro.registrarBaja(numCuenta));
+                }
+            }
+        } finally {
+            candado.unlockWrite(sello);
+        }
+        if (eliminado != null) {
+            programarVistaRanking();
+            esperarBitacora(registro);
+        }
+        return eliminado;
+    }
+
+    /**
+     * Recalcula el Indicador Bruto de todos los alumnos (ver {@link ModuloRegistros#recalcularIndicadores()}).
+     * @return La cantidad de alumnos cuyo indicador cambió.
+     */
+    public int recalcularIndicadores() {
+        int cambios;
+        long sello = candado.writeLock();
+        try {
+            cambios = modulo.recalcularIndicadores();
+            if (cambios > 0) {
+                versionEscrituras++;
+            }
+        } finally {
+            candado.unlockWrite(sello);
+        }
+        if (cambios > 0) {
+            programarVistaRanking();
+        }
+        return cambios;
+    }
+
+    /**
+     * Guarda un snapshot del módulo (ver {@link SnapshotRegistros}); si hay una bitácora, la compacta.
+     * Solo toma el candado de lectura: las consultas continúan y las escrituras esperan a que termine.
+     * @param ruta La ruta del archivo de snapshot.
+     * @throws IOException Si falla la escritura del snapshot o de la bitácora.
+     */
+    public void guardarSnapshot(String ruta) throws IOException {
+        BitacoraOperaciones registro = bitacora;
+        long sello = candado.readLock();
+        try {
+            if (registro != null) {
+                registro.compactar(modulo, ruta);
+            } else {
+                SnapshotRegistros.guardar(modulo, ruta);
+            }
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /**
+     * Programa una reconstrucción de la vista del ranking, salvo que ya haya una esperando
+     * (esa reconstrucción incluirá también la escritura actual).
+     */
+    private void programarVistaRanking() {
+        if (reconstruccionPendiente.compareAndSet(false, true)) {
+            reconstructor.execute(this::reconstruirVistaRanking);
+        }
+    }
+
+    /**
+     * Copia el ranking con el candado de lectura y publica la vista nueva. La marca de pendiente
+     * se retira antes de copiar, así una escritura posterior a la copia programa otra reconstrucción.
+     */
+    private void reconstruirVistaRanking() {
+        reconstruccionPendiente.set(false);
+        VistaRanking vista;
+        long sello = candado.readLock();
+        try {
+            if (vistaRanking.get().getVersion() == versionEscrituras) {
+                return;
+            }
+            vista = VistaRanking.desde(modulo, versionEscrituras);
+        } finally {
+            candado.unlockRead(sello);
+        }
+        vistaRanking.set(vista);
+    }
+
+    /**
+     * Toma el candado de lectura asegurando antes que los índices de texto estén construidos;
+     * si faltan, los construye con el candado de escritura y lo convierte en uno de lectura.
+     * @return El sello del candado de lectura.
+     */
+    private long bloquearLecturaConIndicesTexto() {
+        long sello = candado.readLock();
+        if (!modulo.tieneIndicesTextoPendientes()) {
+            return sello;
+        }
+        long escritura = candado.tryConvertToWriteLock(sello);
+        if (escritura == 0L) {
+            candado.unlockRead(sello);
+            escritura = candado.writeLock();
+        }
+        try {
+            modulo.asegurarIndicesTexto();
+        } catch (RuntimeException | Error e) {
+            // Sin liberar el candado, todo lector y escritor posterior quedaría bloqueado
+            candado.unlockWrite(escritura);
+            throw e;
+        }
+        return candado.tryConvertToReadLock(escritura);
+    }
+
+    /** Operación de la bitácora que puede fallar por un error de escritura. */
+    private interface OperacionBitacora {
+        void ejecutar() throws IOException;
+    }
+
+    private static void registrarEnBitacora(OperacionBitacora operacion) {
+        try {
+            operacion.ejecutar();
+        } catch (IOException e) {
+            System.err.println("ADVERTENCIA: La operacion no se pudo registrar en la bitacora: " + e.getMessage());
+        }
+    }
+
+    private static void esperarBitacora(BitacoraOperaciones registro) {
+        if (registro == null) {
+            return;
+        }
+        try {
+            registro.sincronizar();
+        } catch (IOException e) {
+            System.err.println("ADVERTENCIA: La bitacora no confirmo la escritura: " + e.getMessage());
+        }
+    }
+}
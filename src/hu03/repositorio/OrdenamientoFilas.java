@@ -0,0 +1,204 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.DiccionarioTexto;
+
+/**
+ * OrdenamientoFilas: Ordenamiento y Top K de filas identificadas por su número (0..n-1),
+ * común a los almacenes que no guardan objetos {@link hu03.modelo.Alumno}
+ * ({@link AlmacenColumnarAlumnos}, {@link AlmacenDirectoAlumnos}). Cada almacén indica cómo
+ * comparar dos filas leyendo su propia memoria.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+abstract class OrdenamientoFilas {
+
+    /**
+     * Compara dos filas según el orden deseado.
+     * @return Negativo si la fila a va antes que la fila b, positivo si va después, 0 si son equivalentes.
+     */
+    abstract int comparar(int a, int b);
+
+    /**
+     * Ordena las filas 0..n-1 (ordenamiento por mezcla estable, sin objetos intermedios).
+     * @param n Cantidad de filas.
+     * @return Las filas en orden.
+     */
+    int[] ordenar(int n) {
+        int[] orden = new int[n];
+        for (int i = 0; i < n; i++) {
+            orden[i] = i;
+        }
+        ordenar(orden, new int[n], 0, n);
+        return orden;
+    }
+
+    /**
+     * Obtiene las k primeras filas en un solo recorrido, con un montículo de tamaño k (O(n log k)).
+     * @param k Cantidad de filas a obtener.
+     * @param n Cantidad de filas.
+     * @return A lo más k filas, en orden.
+     */
+    int[] mejores(int k, int n) {
+        k = Math.max(0, Math.min(k, n));
+        if (k == 0) {
+            return new int[0];
+        }
+        // Montículo cuya raíz es la peor de las k mejores filas encontradas hasta ahora
+        int[] monticulo = new int[k];
+        int tamanioMonticulo = 0;
+        for (int fila = 0; fila < n; fila++) {
+            if (tamanioMonticulo < k) {
+                monticulo[tamanioMonticulo] = fila;
+                subir(monticulo, tamanioMonticulo++);
+            } else if (comparar(fila, monticulo[0]) < 0) {
+                monticulo[0] = fila;
+                bajar(monticulo, tamanioMonticulo);
+            }
+        }
+        int[] resultado = new int[k];
+        for (int i = k - 1; i >= 0; i--) {
+            resultado[i] = monticulo[0];
+            monticulo[0] = monticulo[--tamanioMonticulo];
+            bajar(monticulo, tamanioMonticulo);
+        }
+        return resultado;
+    }
+
+    /**
+     * Compara dos códigos de texto por su rango alfabético; un texto nulo va antes que
+     * cualquier otro, como en {@link RankingAlumnos#compararClaves}.
+     */
+    static int compararTextos(int codigoA, int codigoB, int[] rangos) {
+        if (codigoA == codigoB) {
+            return 0;
+        }
+        int rangoA = codigoA == DiccionarioTexto.NULO ? -1 : rangos[codigoA];
+        int rangoB = codigoB == DiccionarioTexto.NULO ? -1 : rangos[codigoB];
+        return Integer.compare(rangoA, rangoB);
+    }
+
+    /**
+     * Rango alfabético de cada código de un diccionario, para comparar textos comparando enteros.
+     * Como el diccionario nunca elimina valores, el rango solo se recalcula cuando registró
+     * valores nuevos; entre tanto, cada ordenamiento o Top K reutiliza el mismo arreglo. El
+     * cálculo recorre todo el diccionario, por lo que conviene que sea exclusivo de la columna
+     * que se ordena.
+     */
+    static final class RangosAlfabeticos {
+
+        private final DiccionarioTexto textos;
+        /** Rango de cada código; su longitud es el tamaño del diccionario al calcularlo. */
+        private int[] rangos = new int[0];
+
+        /**
+         * @param textos El diccionario cuyos códigos se ordenan.
+         */
+        RangosAlfabeticos(DiccionarioTexto textos) {
+            this.textos = textos;
+        }
+
+        /**
+         * @return Arreglo indexado por código con el rango alfabético de cada texto.
+         */
+        int[] obtener() {
+            int total = textos.tamanio();
+            if (total != rangos.length) {
+                rangos = calcular(total);
+            }
+            return rangos;
+        }
+
+        private int[] calcular(int total) {
+            final String[] valores = new String[total];
+            for (int codigo = 0; codigo < total; codigo++) {
+                valores[codigo] = textos.decodificar(codigo);
+            }
+            int[] codigos = new OrdenamientoFilas() {
+                @Override
+                int comparar(int a, int b) {
+                    return valores[a].compareTo(valores[b]);
+                }
+            }.ordenar(total);
+            int[] nuevos = new int[total];
+            for (int posicion = 0; posicion < total; posicion++) {
+                nuevos[codigos[posicion]] = posicion;
+            }
+            return nuevos;
+        }
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    private void ordenar(int[] orden, int[] auxiliar, int desde, int hasta) {
+        if (hasta - desde <= 16) {
+            for (int i = desde + 1; i < hasta; i++) {
+                int actual = orden[i];
+                int j = i - 1;
+                while (j >= desde && comparar(orden[j], actual) > 0) {
+                    orden[j + 1] = orden[j];
+                    j--;
+                }
+                orden[j + 1] = actual;
+            }
+            return;
+        }
+        int medio = (desde + hasta) >>> 1;
+        ordenar(orden, auxiliar, desde, medio);
+        ordenar(orden, auxiliar, medio, hasta);
+        if (comparar(orden[medio - 1], orden[medio]) <= 0) {
+            return;
+        }
+        System.arraycopy(orden, desde, auxiliar, desde, hasta - desde);
+        int i = desde;
+        int j = medio;
+        for (int k = desde; k < hasta; k++) {
+            if (j >= hasta || (i < medio && comparar(auxiliar[i], auxiliar[j]) <= 0)) {
+                orden[k] = auxiliar[i++];
+            } else {
+                orden[k] = auxiliar[j++];
+            }
+        }
+    }
+
+    private void subir(int[] monticulo, int posicion) {
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            if (comparar(monticulo[posicion], monticulo[padre]) <= 0) {
+                return;
+            }
+            intercambiar(monticulo, posicion, padre);
+            posicion = padre;
+        }
+    }
+
+    private void bajar(int[] monticulo, int tamanio) {
+        int posicion = 0;
+        while (true) {
+            int izquierdo = 2 * posicion + 1;
+            if (izquierdo >= tamanio) {
+                return;
+            }
+            int peor = izquierdo;
+            if (izquierdo + 1 < tamanio && comparar(monticulo[izquierdo + 1], monticulo[izquierdo]) > 0) {
+                peor = izquierdo + 1;
+            }
+            if (comparar(monticulo[peor], monticulo[posicion]) <= 0) {
+                return;
+            }
+            intercambiar(monticulo, posicion, peor);
+            posicion = peor;
+        }
+    }
+
+    private static void intercambiar(int[] arreglo, int i, int j) {
+        int temporal = arreglo[i];
+        arreglo[i] = arreglo[j];
+        arreglo[j] = temporal;
+    }
+}
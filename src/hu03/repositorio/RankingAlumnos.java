@@ -0,0 +1,445 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * RankingAlumnos: Árbol de estadísticas de orden (treap con tamaños de subárbol) que mantiene
+ * a los alumnos ordenados según el criterio oficial de inscripción:
+ * 1. Indicador Bruto (Descendente).
+ * 2. Primer Apellido (Ascendente, como desempate).
+ * 3. Número de Cuenta (Ascendente, para que el orden sea total).
+ * Las altas, bajas y la consulta del puesto de un alumno cuestan O(log n), por lo que el ranking
+ * ya no necesita reordenarse completo después de cada operación CRUD.
+ * Cada nodo guarda una copia de la clave con la que fue insertado; por ello, un alumno debe
+ * retirarse del ranking ANTES de modificar su indicador o su primer apellido, y volver a
+ * insertarse después (ver {@link ModuloRegistros#modificarAlumno}).
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class RankingAlumnos implements Iterable<Alumno> {
+
+    /**
+     * Comparador equivalente al orden del ranking, útil para ordenar listas de alumnos
+     * con el mismo criterio que utiliza el árbol.
+     */
+    public static final Comparator<Alumno> ORDEN_RANKING = new Comparator<Alumno>() {
+        @Override
+        public int compare(Alumno a1, Alumno a2) {
+            return compararClaves(a1.getIndicadorBruto(), a1.getPrimerApellido(), a1.getNumCuenta(),
+                                  a2.getIndicadorBruto(), a2.getPrimerApellido(), a2.getNumCuenta());
+        }
+    };
+
+    /**
+     * Nodo del treap. Conserva la clave de ordenamiento vigente al momento de la inserción.
+     */
+    private static final class Nodo {
+        final Alumno alumno;
+        final long indicador;
+        final String apellido;
+        final long numCuenta;
+        final int prioridad;
+        Nodo izquierdo;
+        Nodo derecho;
+        int tamanio;
+
+        Nodo(Alumno alumno) {
+            this.alumno = alumno;
+            this.indicador = alumno.getIndicadorBruto();
+            this.apellido = alumno.getPrimerApellido();
+            this.numCuenta = alumno.getNumCuenta();
+            this.prioridad = calcularPrioridad(numCuenta);
+            this.tamanio = 1;
+        }
+    }
+
+    /** Raíz del árbol. */
+    private Nodo raiz;
+
+    /**
+     * Devuelve la cantidad de alumnos en el ranking.
+     * @return El número de alumnos.
+     */
+    public int tamanio() {
+        return tamanio(raiz);
+    }
+
+    /**
+     * Inserta un alumno en la posición que le corresponde según su clave actual. O(log n).
+     * @param alumno El alumno a insertar.
+     */
+    public void insertar(Alumno alumno) {
+        Nodo nuevo = new Nodo(alumno);
+        Nodo[] partes = dividir(raiz, nuevo.indicador, nuevo.apellido, nuevo.numCuenta);
+        raiz = unir(unir(partes[0], nuevo), partes[1]);
+    }
+
+    /**
+     * Retira un alumno del ranking. La búsqueda utiliza la clave actual del alumno, por lo que
+     * debe invocarse antes de modificar su indicador o su primer apellido. O(log n).
+     * @param alumno El alumno a retirar.
+     * @return true si el alumno estaba en el ranking y fue retirado, false en caso contrario.
+     */
+    public boolean eliminar(Alumno alumno) {
+        long indicador = alumno.getIndicadorBruto();
+        String apellido = alumno.getPrimerApellido();
+        long numCuenta = alumno.getNumCuenta();
+
+        Nodo padre = null;
+        Nodo actual = raiz;
+        while (actual != null) {
+            int comparacion = compararClaves(indicador, apellido, numCuenta,
+                                             actual.indicador, actual.apellido, actual.numCuenta);
+            if (comparacion == 0) {
+                break;
+            }
+            padre = actual;
+            actual = comparacion < 0 ? actual.izquierdo : actual.derecho;
+        }
+        if (actual == null || actual.alumno != alumno) {
+            return false;
+        }
+
+        Nodo reemplazo = unir(actual.izquierdo, actual.derecho);
+        if (padre == null) {
+            raiz = reemplazo;
+        } else if (padre.izquierdo == actual) {
+            padre.izquierdo = reemplazo;
+        } else {
+            padre.derecho = reemplazo;
+        }
+
+        // Actualizar los tamaños en el camino desde la raíz hasta el padre del nodo retirado
+        Nodo n = raiz;
+        while (n != null && n != reemplazo) {
+            n.tamanio--;
+            int comparacion = compararClaves(indicador, apellido, numCuenta,
+                                             n.indicador, n.apellido, n.numCuenta);
+            n = comparacion < 0 ? n.izquierdo : n.derecho;
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el puesto (1, 2, 3...) de un alumno dentro del ranking. O(log n).
+     * @param alumno El alumno a consultar.
+     * @return El puesto del alumno, o 0 si no se encuentra en el ranking.
+     */
+    public int posicion(Alumno alumno) {
+        long indicador = alumno.getIndicadorBruto();
+        String apellido = alumno.getPrimerApellido();
+        long numCuenta = alumno.getNumCuenta();
+
+        int anteriores = 0;
+        Nodo actual = raiz;
+        while (actual != null) {
+            int comparacion = compararClaves(indicador, apellido, numCuenta,
+                                             actual.indicador, actual.apellido, actual.numCuenta);
+            if (comparacion < 0) {
+                actual = actual.izquierdo;
+            } else if (comparacion > 0) {
+                anteriores += tamanio(actual.izquierdo) + 1;
+                actual = actual.derecho;
+            } else {
+                return actual.alumno == alumno ? anteriores + tamanio(actual.izquierdo) + 1 : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Obtiene el alumno que ocupa un puesto determinado. O(log n).
+     * @param posicion El puesto buscado (1 es el mejor).
+     * @return El alumno en ese puesto, o null si el puesto está fuera de rango.
+     */
+    public Alumno obtener(int posicion) {
+        if (posicion < 1 || posicion > tamanio()) {
+            return null;
+        }
+        int restante = posicion;
+        Nodo actual = raiz;
+        while (actual != null) {
+            int izquierda = tamanio(actual.izquierdo);
+            if (restante <= izquierda) {
+                actual = actual.izquierdo;
+            } else if (restante == izquierda + 1) {
+                return actual.alumno;
+            } else {
+                restante -= izquierda + 1;
+                actual = actual.derecho;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Devuelve los primeros alumnos del ranking en orden. O(log n + k).
+     * @param k Cantidad máxima de alumnos a devolver.
+     * @return Lista con a lo más k alumnos, del puesto 1 en adelante.
+     */
+    public List<Alumno> primeros(int k) {
+        List<Alumno> resultado = new ArrayList<>(Math.max(0, Math.min(k, tamanio())));
+        Iterator<Alumno> it = iterator();
+        while (resultado.size() < k && it.hasNext()) {
+            resultado.add(it.next());
+        }
+        return resultado;
+    }
+
+    /**
+     * Reemplaza el contenido del ranking con alumnos que ya vienen ordenados según
+     * {@link #ORDEN_RANKING}, construyendo el árbol en O(n) (sin una inserción por alumno).
+     * Útil para cargas masivas, como la lectura de un snapshot.
+     * @param ordenados Los alumnos en orden estricto de ranking (sin repetidos).
+     * @throws IllegalArgumentException Si la lista no está en orden estricto de ranking;
+     *                                  en ese caso el ranking no se modifica.
+     */
+    public void construirDesdeOrdenados(List<Alumno> ordenados) {
+        Nodo[] nodos = new Nodo[ordenados.size()];
+        for (int i = 0; i < nodos.length; i++) {
+            nodos[i] = new Nodo(ordenados.get(i));
+            if (i > 0 && compararClaves(nodos[i - 1].indicador, nodos[i - 1].apellido, nodos[i - 1].numCuenta,
+                                        nodos[i].indicador, nodos[i].apellido, nodos[i].numCuenta) >= 0) {
+                throw new IllegalArgumentException("Los alumnos no estan en orden de ranking (posicion " + (i + 1) + ")");
+            }
+        }
+
+        construir(nodos, nodos.length);
+    }
+
+    /**
+     * Reubica un lote de alumnos en una sola pasada: recorre el ranking en orden descartando los
+     * números de cuenta retirados, intercala los alumnos insertados y reconstruye el árbol en O(n).
+     * Compara con las claves guardadas en los nodos (sin leer los objetos Alumno) y reutiliza los
+     * nodos que permanecen, por lo que solo se crea un nodo por alumno insertado.
+     * @param retirados Números de cuenta cuyos nodos se descartan, o null para no descartar ninguno.
+     * @param insertadosOrdenados Alumnos a insertar con su clave actual, en orden estricto de
+     *                            {@link #ORDEN_RANKING}.
+     * @throws IllegalArgumentException Si un alumno insertado repite la clave de otro alumno del
+     *                                  ranking o de la lista; en ese caso el ranking no se modifica.
+     */
+    public void fusionar(IndiceNumCuenta retirados, List<Alumno> insertadosOrdenados) {
+        Nodo[] nodos = new Nodo[tamanio(raiz) + insertadosOrdenados.size()];
+        int cantidad = 0;
+        int siguiente = 0;
+        Nodo nuevo = siguiente < insertadosOrdenados.size() ? new Nodo(insertadosOrdenados.get(siguiente)) : null;
+        Deque<Nodo> pila = new ArrayDeque<>();
+        Nodo actual = raiz;
+        while (actual != null || !pila.isEmpty()) {
+            while (actual != null) {
+                pila.push(actual);
+                actual = actual.izquierdo;
+            }
+            Nodo n = pila.pop();
+            actual = n.derecho;
+            if (retirados != null && retirados.contiene(n.numCuenta)) {
+                continue;
+            }
+            while (nuevo != null && compararClaves(nuevo.indicador, nuevo.apellido, nuevo.numCuenta,
+                                                   n.indicador, n.apellido, n.numCuenta) < 0) {
+                cantidad = agregarEnOrden(nodos, cantidad, nuevo);
+                siguiente++;
+                nuevo = siguiente < insertadosOrdenados.size() ? new Nodo(insertadosOrdenados.get(siguiente)) : null;
+            }
+            cantidad = agregarEnOrden(nodos, cantidad, n);
+        }
+        while (nuevo != null) {
+            cantidad = agregarEnOrden(nodos, cantidad, nuevo);
+            siguiente++;
+            nuevo = siguiente < insertadosOrdenados.size() ? new Nodo(insertadosOrdenados.get(siguiente)) : null;
+        }
+        construir(nodos, cantidad);
+    }
+
+    /**
+     * Agrega un nodo al final del arreglo, verificando que su clave sea mayor que la del anterior.
+     * @return La nueva cantidad de nodos.
+     */
+    private static int agregarEnOrden(Nodo[] nodos, int cantidad, Nodo nodo) {
+        if (cantidad > 0) {
+            Nodo anterior = nodos[cantidad - 1];
+            if (compararClaves(anterior.indicador, anterior.apellido, anterior.numCuenta,
+                               nodo.indicador, nodo.apellido, nodo.numCuenta) >= 0) {
+                throw new IllegalArgumentException("Los alumnos no estan en orden de ranking (cuenta " + nodo.numCuenta + ")");
+            }
+        }
+        nodos[cantidad] = nodo;
+        return cantidad + 1;
+    }
+
+    /**
+     * Reemplaza el árbol con los primeros {@code cantidad} nodos del arreglo, que ya vienen en
+     * orden estricto de ranking. O(n).
+     */
+    private void construir(Nodo[] nodos, int cantidad) {
+        // Árbol cartesiano: el recorrido en orden respeta la lista y las prioridades forman un montículo
+        Deque<Nodo> pila = new ArrayDeque<>();
+        for (int i = 0; i < cantidad; i++) {
+            Nodo nuevo = nodos[i];
+            nuevo.derecho = null;
+            Nodo ultimoRetirado = null;
+            while (!pila.isEmpty() && pila.peek().prioridad < nuevo.prioridad) {
+                ultimoRetirado = pila.pop();
+            }
+            nuevo.izquierdo = ultimoRetirado;
+            if (!pila.isEmpty()) {
+                pila.peek().derecho = nuevo;
+            }
+            pila.push(nuevo);
+        }
+        raiz = pila.peekLast();
+
+        // Calcular los tamaños de los subárboles en post-orden, sin recursión
+        if (raiz != null) {
+            Deque<Nodo> pendientes = new ArrayDeque<>();
+            Deque<Nodo> postOrden = new ArrayDeque<>();
+            pendientes.push(raiz);
+            while (!pendientes.isEmpty()) {
+                Nodo n = pendientes.pop();
+                postOrden.push(n);
+                if (n.izquierdo != null) pendientes.push(n.izquierdo);
+                if (n.derecho != null) pendientes.push(n.derecho);
+            }
+            while (!postOrden.isEmpty()) {
+                actualizarTamanio(postOrden.pop());
+            }
+        }
+    }
+
+    /**
+     * Elimina todos los alumnos del ranking.
+     */
+    public void limpiar() {
+        raiz = null;
+    }
+
+    /**
+     * Recorre el ranking en orden (del puesto 1 al último) sin recursión.
+     * El iterador no admite {@code remove()}.
+     * @return Un iterador sobre los alumnos en orden de ranking.
+     */
+    @Override
+    public Iterator<Alumno> iterator() {
+        return new Iterator<Alumno>() {
+            private final Deque<Nodo> pila = new ArrayDeque<>();
+            {
+                apilarIzquierdos(raiz);
+            }
+
+            private void apilarIzquierdos(Nodo n) {
+                while (n != null) {
+                    pila.push(n);
+                    n = n.izquierdo;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pila.isEmpty();
+            }
+
+            @Override
+            public Alumno next() {
+                if (pila.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Nodo n = pila.pop();
+                apilarIzquierdos(n.derecho);
+                return n.alumno;
+            }
+        };
+    }
+
+    // ===============================================
+    //          OPERACIONES INTERNAS DEL TREAP
+    // ===============================================
+
+    /**
+     * Divide el subárbol en dos: las claves menores que la clave dada y las mayores o iguales.
+     * @return Arreglo de dos posiciones {menores, mayoresOIguales}.
+     */
+    private static Nodo[] dividir(Nodo n, long indicador, String apellido, long numCuenta) {
+        if (n == null) {
+            return new Nodo[] {null, null};
+        }
+        if (compararClaves(n.indicador, n.apellido, n.numCuenta, indicador, apellido, numCuenta) < 0) {
+            Nodo[] partes = dividir(n.derecho, indicador, apellido, numCuenta);
+            n.derecho = partes[0];
+            actualizarTamanio(n);
+            partes[0] = n;
+            return partes;
+        } else {
+            Nodo[] partes = dividir(n.izquierdo, indicador, apellido, numCuenta);
+            n.izquierdo = partes[1];
+            actualizarTamanio(n);
+            partes[1] = n;
+            return partes;
+        }
+    }
+
+    /**
+     * Une dos subárboles, asumiendo que todas las claves de {@code a} son menores que las de {@code b}.
+     */
+    private static Nodo unir(Nodo a, Nodo b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.prioridad > b.prioridad) {
+            a.derecho = unir(a.derecho, b);
+            actualizarTamanio(a);
+            return a;
+        } else {
+            b.izquierdo = unir(a, b.izquierdo);
+            actualizarTamanio(b);
+            return b;
+        }
+    }
+
+    private static int tamanio(Nodo n) {
+        return n == null ? 0 : n.tamanio;
+    }
+
+    private static void actualizarTamanio(Nodo n) {
+        n.tamanio = 1 + tamanio(n.izquierdo) + tamanio(n.derecho);
+    }
+
+    /**
+     * Compara dos claves de ranking (indicador descendente, apellido y cuenta ascendentes).
+     */
+    static int compararClaves(long indicador1, String apellido1, long cuenta1,
+                              long indicador2, String apellido2, long cuenta2) {
+        int comparacion = Long.compare(indicador2, indicador1);
+        if (comparacion != 0) {
+            return comparacion;
+        }
+        if (apellido1 != apellido2) {
+            if (apellido1 == null) return -1;
+            if (apellido2 == null) return 1;
+            comparacion = apellido1.compareTo(apellido2);
+            if (comparacion != 0) {
+                return comparacion;
+            }
+        }
+        return Long.compare(cuenta1, cuenta2);
+    }
+
+    /**
+     * Deriva una prioridad pseudoaleatoria pero determinista a partir del número de cuenta.
+     */
+    private static int calcularPrioridad(long numCuenta) {
+        long h = numCuenta * 0x9E3779B97F4A7C15L;
+        h ^= (h >>> 29);
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,604 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import hu03.modelo.RegistroAcademico;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SnapshotRegistros: Guarda y carga el estado completo de un {@link ModuloRegistros}
+ * (catálogo de asignaturas, alumnos y registros académicos) en un archivo binario compacto,
+ * usando archivos mapeados en memoria tanto para escribir como para leer.
+ * <p>
+ * Formato (little-endian, versión {@value #VERSION}):
+ * <pre>
+ * Cabecera (256 bytes)
+ *   0  magia "HU03SNAP" (8 bytes)
+ *   8  versión (int)
+ *  12  cantidad de alumnos (int)
+ *  16  cantidad de secciones (int)
+ *  20  reservado (int)
+ *  24  tabla de secciones: {id (int), reservado (int), desplazamiento (long), longitud (long)} por sección
+ * Secciones (alineadas a 8 bytes)
+ *   CADENAS   : k (int), desplazamientos int[k+1], bytes UTF-8 de todas las cadenas
+ *   CATALOGO  : m (int), semestre int[m], id int[m], créditos int[m], nombre int[m]
+ *   ALUMNOS   : numCuenta long[n], indicadorBruto long[n], y columnas int[n] de primerNombre,
+ *               segundoNombre, primerApellido, segundoApellido, carrera, direccion, genero
+ *               (índices en CADENAS, -1 = null), edad y semestre
+ *   REGISTROS : total de calificaciones t (long), calificaciones double[t],
+ *               asignaturas por alumno int[n] (-1 = sin registro), id de asignatura int[t]
+ *   RANKING   : posiciones int[n] (en la lista de alumnos) en orden de ranking (opcional)
+ * </pre>
+ * Las cadenas se guardan una sola vez (nombres, apellidos y direcciones se repiten mucho),
+ * de modo que al cargar los alumnos comparten las mismas instancias de {@link String}.
+ * Los alumnos se cargan en el mismo orden en que estaban en el módulo; el ranking se
+ * reconstruye en O(n) a partir del orden guardado y los índices de texto se construyen
+ * hasta la primera búsqueda que los usa. El mismo archivo puede cargarse sin crear objetos
+ * por alumno en un {@link AlmacenColumnarAlumnos} o en un {@link AlmacenDirectoAlumnos}.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class SnapshotRegistros {
+
+    /** Versión actual del formato. */
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIA = "HU03SNAP".getBytes(StandardCharsets.US_ASCII);
+    private static final int TAMANIO_CABECERA = 256;
+    private static final int TAMANIO_ENTRADA_SECCION = 24;
+
+    private static final int SECCION_CADENAS = 1;
+    private static final int SECCION_CATALOGO = 2;
+    private static final int SECCION_ALUMNOS = 3;
+    private static final int SECCION_REGISTROS = 4;
+    private static final int SECCION_RANKING = 5;
+    private static final int TOTAL_SECCIONES = 5;
+
+    /** Valor que representa una cadena nula o un alumno sin registro académico. */
+    private static final int NULO = -1;
+
+    // ===============================================
+    //                  ESCRITURA
+    // ===============================================
+
+    /**
+     * Guarda el estado completo del módulo en el archivo indicado.
+     * El archivo se escribe primero en una ruta temporal y después reemplaza al destino,
+     * por lo que una falla durante la escritura no deja un snapshot incompleto.
+     * @param modulo El módulo a guardar.
+     * @param ruta La ruta del archivo de snapshot.
+     * @throws IOException Si ocurre un error al escribir el archivo.
+     */
+    public static void guardar(ModuloRegistros modulo, String ruta) throws IOException {
+        List<Alumno> alumnos = modulo.getAlumnos();
+        int n = alumnos.size();
+        DiccionarioCadenas cadenas = new DiccionarioCadenas();
+
+        // --- Catálogo ---
+        List<List<Asignatura>> catalogo = modulo.getAsignaturas();
+        int m = 0;
+        for (List<Asignatura> semestre : catalogo) {
+            m += semestre.size();
+        }
+        int[] catSemestre = new int[m];
+        int[] catId = new int[m];
+        int[] catCreditos = new int[m];
+        int[] catNombre = new int[m];
+        int k = 0;
+        for (int s = 0; s < catalogo.size(); s++) {
+            for (Asignatura asignatura : catalogo.get(s)) {
+                catSemestre[k] = s;
+                catId[k] = asignatura.getId();
+                catCreditos[k] = asignatura.getCreditos();
+                catNombre[k] = cadenas.indice(asignatura.getNombre());
+                k++;
+            }
+        }
+
+        // --- Columnas de alumnos y conteo de calificaciones ---
+        long[] numCuenta = new long[n];
+        long[] indicador = new long[n];
+        int[][] columnasTexto = new int[7][n];
+        int[] edad = new int[n];
+        int[] semestre = new int[n];
+        int[] asignaturasPorAlumno = new int[n];
+        long totalCalificaciones = 0;
+        for (int i = 0; i < n; i++) {
+            Alumno a = alumnos.get(i);
+            numCuenta[i] = a.getNumCuenta();
+            indicador[i] = a.getIndicadorBruto();
+            columnasTexto[0][i] = cadenas.indice(a.getPrimerNombre());
+            columnasTexto[1][i] = cadenas.indice(a.getSegundoNombre());
+            columnasTexto[2][i] = cadenas.indice(a.getPrimerApellido());
+            columnasTexto[3][i] = cadenas.indice(a.getSegundoApellido());
+            columnasTexto[4][i] = cadenas.indice(a.getCarrera());
+            columnasTexto[5][i] = cadenas.indice(a.getDireccion());
+            columnasTexto[6][i] = cadenas.indice(a.getGenero());
+            edad[i] = a.getEdad();
+            semestre[i] = a.getSemestre();
+            RegistroAcademico registro = a.getRegistroAcademico();
+            asignaturasPorAlumno[i] = registro == null ? NULO : registro.getAsignaturasInscritas();
+            totalCalificaciones += Math.max(0, asignaturasPorAlumno[i]);
+        }
+        if (totalCalificaciones > Integer.MAX_VALUE) {
+            throw new IOException("Demasiadas calificaciones para el formato de snapshot: " + totalCalificaciones);
+        }
+        int t = (int) totalCalificaciones;
+        double[] calificaciones = new double[t];
+        int[] idsAsignatura = new int[t];
+        int c = 0;
+        for (Alumno a : alumnos) {
+            RegistroAcademico registro = a.getRegistroAcademico();
+            if (registro != null) {
+                for (int j = 0; j < registro.getAsignaturasInscritas(); j++) {
+                    calificaciones[c] = registro.getCalificacion(j);
+                    idsAsignatura[c] = registro.getAsignatura(j).getId();
+                    c++;
+                }
+            }
+        }
+
+        // --- Orden del ranking como posiciones en la lista de alumnos ---
+        int[] ordenRanking = new int[n];
+        int r = 0;
+        for (Alumno a : modulo.getAlumnosPorRanking()) {
+            ordenRanking[r++] = modulo.obtenerPosicion(a.getNumCuenta());
+        }
+
+        // --- Cadenas codificadas ---
+        byte[][] codificadas = cadenas.codificar();
+        long bytesCadenas = 0;
+        for (byte[] cadena : codificadas) {
+            bytesCadenas += cadena.length;
+        }
+
+        // --- Distribución de las secciones ---
+        long[] longitudes = new long[TOTAL_SECCIONES];
+        longitudes[0] = 4L + 4L * (codificadas.length + 1) + bytesCadenas;
+        longitudes[1] = 4L + 16L * m;
+        longitudes[2] = 16L * n + 36L * n;
+        longitudes[3] = 8L + 8L * t + 4L * n + 4L * t;
+        longitudes[4] = 4L * n;
+        long[] desplazamientos = new long[TOTAL_SECCIONES];
+        long posicion = TAMANIO_CABECERA;
+        for (int s = 0; s < TOTAL_SECCIONES; s++) {
+            desplazamientos[s] = posicion;
+            posicion = alinear(posicion + longitudes[s]);
+        }
+        long tamanioTotal = posicion;
+
+        Path destino = Paths.get(ruta);
+        Path temporal = Paths.get(ruta + ".tmp");
+        try (RandomAccessFile archivo = new RandomAccessFile(temporal.toFile(), "rw");
+             FileChannel canal = archivo.getChannel()) {
+            archivo.setLength(tamanioTotal);
+
+            // CADENAS
+            MappedByteBuffer seccion = mapear(canal, FileChannel.MapMode.READ_WRITE, desplazamientos[0], longitudes[0]);
+            seccion.putInt(codificadas.length);
+            int desplazamiento = 0;
+            seccion.putInt(desplazamiento);
+            for (byte[] cadena : codificadas) {
+                desplazamiento += cadena.length;
+                seccion.putInt(desplazamiento);
+            }
+            for (byte[] cadena : codificadas) {
+                seccion.put(cadena);
+            }
+            seccion.force();
+
+            // CATALOGO
+            seccion = mapear(canal, FileChannel.MapMode.READ_WRITE, desplazamientos[1], longitudes[1]);
+            seccion.putInt(m);
+            ponerEnteros(seccion, catSemestre);
+            ponerEnteros(seccion, catId);
+            ponerEnteros(seccion, catCreditos);
+            ponerEnteros(seccion, catNombre);
+            seccion.force();
+
+            // ALUMNOS
+            seccion = mapear(canal, FileChannel.MapMode.READ_WRITE, desplazamientos[2], longitudes[2]);
+            ponerLargos(seccion, numCuenta);
+            ponerLargos(seccion, indicador);
+            for (int[] columna : columnasTexto) {
+                ponerEnteros(seccion, columna);
+            }
+            ponerEnteros(seccion, edad);
+            ponerEnteros(seccion, semestre);
+            seccion.force();
+
+            // REGISTROS
+            seccion = mapear(canal, FileChannel.MapMode.READ_WRITE, desplazamientos[3], longitudes[3]);
+            seccion.putLong(t);
+            seccion.asDoubleBuffer().put(calificaciones);
+            seccion.position(seccion.position() + 8 * t);
+            ponerEnteros(seccion, asignaturasPorAlumno);
+            ponerEnteros(seccion, idsAsignatura);
+            seccion.force();
+
+            // RANKING
+            seccion = mapear(canal, FileChannel.MapMode.READ_WRITE, desplazamientos[4], longitudes[4]);
+            ponerEnteros(seccion, ordenRanking);
+            seccion.force();
+
+            // CABECERA (al final: el archivo solo es válido si todo lo anterior se escribió)
+            MappedByteBuffer cabecera = mapear(canal, FileChannel.MapMode.READ_WRITE, 0, TAMANIO_CABECERA);
+            cabecera.put(MAGIA);
+            cabecera.putInt(VERSION);
+            cabecera.putInt(n);
+            cabecera.putInt(TOTAL_SECCIONES);
+            cabecera.putInt(0);
+            int[] ids = {SECCION_CADENAS, SECCION_CATALOGO, SECCION_ALUMNOS, SECCION_REGISTROS, SECCION_RANKING};
+            for (int s = 0; s < TOTAL_SECCIONES; s++) {
+                cabecera.putInt(ids[s]);
+                cabecera.putInt(0);
+                cabecera.putLong(desplazamientos[s]);
+                cabecera.putLong(longitudes[s]);
+            }
+            cabecera.force();
+        }
+
+        try {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ===============================================
+    //                    LECTURA
+    // ===============================================
+
+    /**
+     * Carga un snapshot en un nuevo {@link ModuloRegistros}, con el catálogo, los alumnos
+     * (en su orden original), sus registros académicos e Indicadores Brutos, y los índices
+     * y el ranking reconstruidos.
+     * @param ruta La ruta del archivo de snapshot.
+     * @return El módulo cargado.
+     * @throws IOException Si el archivo no existe, no es un snapshot válido o su versión no es compatible.
+     */
+    public static ModuloRegistros cargar(String ruta) throws IOException {
+        ContenidoSnapshot contenido = leer(ruta);
+        try {
+            return construirModulo(contenido);
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot corrupto: " + ruta + " (" + e + ")", e);
+        }
+    }
+
+    /**
+     * Carga un snapshot directamente en un {@link AlmacenColumnarAlumnos}, sin crear un objeto
+     * {@link Alumno} ni {@link RegistroAcademico} por alumno: las columnas del archivo se copian
+     * a las columnas del almacén.
+     * @param ruta La ruta del archivo de snapshot.
+     * @return El almacén cargado, con los alumnos en su orden original.
+     * @throws IOException Si el archivo no existe, no es un snapshot válido o su versión no es compatible.
+     */
+    public static AlmacenColumnarAlumnos cargarColumnar(String ruta) throws IOException {
+        ContenidoSnapshot contenido = leer(ruta);
+        try {
+            AlmacenColumnarAlumnos almacen = new AlmacenColumnarAlumnos(contenido.catalogo, contenido.n);
+            copiarFilas(contenido, almacen::agregarFila);
+            return almacen;
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot corrupto: " + ruta + " (" + e + ")", e);
+        }
+    }
+
+    /**
+     * Carga un snapshot directamente en un {@link AlmacenDirectoAlumnos} (memoria fuera del
+     * montón), sin crear un objeto {@link Alumno} ni {@link RegistroAcademico} por alumno.
+     * @param ruta La ruta del archivo de snapshot.
+     * @return El almacén cargado, con los alumnos en su orden original.
+     * @throws IOException Si el archivo no existe, no es un snapshot válido o su versión no es compatible.
+     */
+    public static AlmacenDirectoAlumnos cargarDirecto(String ruta) throws IOException {
+        ContenidoSnapshot contenido = leer(ruta);
+        try {
+            AlmacenDirectoAlumnos almacen = new AlmacenDirectoAlumnos(contenido.catalogo, contenido.n);
+            copiarFilas(contenido, almacen::agregarFila);
+            return almacen;
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot corrupto: " + ruta + " (" + e + ")", e);
+        }
+    }
+
+    /**
+     * Destino de las filas de un snapshot en los almacenes que no crean objetos {@link Alumno}.
+     */
+    private interface DestinoFilas {
+        void agregarFila(long cuenta, String[] textosFila, int edad, int semestre, long indicador,
+                         int cantidad, int[] ids, double[] notas, int desde);
+    }
+
+    private static void copiarFilas(ContenidoSnapshot contenido, DestinoFilas destino) {
+        String[] textosFila = new String[contenido.columnasTexto.length];
+        int c = 0;
+        for (int i = 0; i < contenido.n; i++) {
+            for (int columna = 0; columna < textosFila.length; columna++) {
+                textosFila[columna] = cadena(contenido.cadenas, contenido.columnasTexto[columna][i]);
+            }
+            int cantidad = contenido.asignaturasPorAlumno[i];
+            destino.agregarFila(contenido.numCuenta[i], textosFila, contenido.edad[i], contenido.semestre[i],
+                                contenido.indicador[i], cantidad, contenido.idsAsignatura,
+                                contenido.calificaciones, c);
+            c += Math.max(0, cantidad);
+        }
+    }
+
+    /**
+     * Contenido decodificado de un snapshot, común a las dos formas de carga.
+     */
+    private static final class ContenidoSnapshot {
+        int n;
+        String[] cadenas;
+        List<List<Asignatura>> catalogo;
+        Asignatura[] asignaturaPorId;
+        long[] numCuenta;
+        long[] indicador;
+        int[][] columnasTexto;
+        int[] edad;
+        int[] semestre;
+        double[] calificaciones;
+        int[] asignaturasPorAlumno;
+        int[] idsAsignatura;
+        /** Posiciones en orden de ranking, o null si el snapshot no las incluye. */
+        int[] ordenRanking;
+    }
+
+    /**
+     * Valida la cabecera, mapea las secciones y decodifica su contenido.
+     */
+    private static ContenidoSnapshot leer(String ruta) throws IOException {
+        try (FileChannel canal = FileChannel.open(Paths.get(ruta), StandardOpenOption.READ)) {
+            long tamanioArchivo = canal.size();
+            if (tamanioArchivo < TAMANIO_CABECERA) {
+                throw new IOException("El archivo no es un snapshot valido (demasiado corto): " + ruta);
+            }
+            MappedByteBuffer cabecera = mapear(canal, FileChannel.MapMode.READ_ONLY, 0, TAMANIO_CABECERA);
+            byte[] magia = new byte[MAGIA.length];
+            cabecera.get(magia);
+            if (!Arrays.equals(magia, MAGIA)) {
+                throw new IOException("El archivo no es un snapshot valido: " + ruta);
+            }
+            int version = cabecera.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version de snapshot no soportada: " + version + " (se esperaba " + VERSION + ")");
+            }
+            int n = cabecera.getInt();
+            int secciones = cabecera.getInt();
+            cabecera.getInt();
+            if (n < 0 || secciones < 0 || TAMANIO_CABECERA < 24 + (long) secciones * TAMANIO_ENTRADA_SECCION) {
+                throw new IOException("Cabecera de snapshot corrupta: " + ruta);
+            }
+            Map<Integer, MappedByteBuffer> mapa = new HashMap<>();
+            for (int s = 0; s < secciones; s++) {
+                int id = cabecera.getInt();
+                cabecera.getInt();
+                long desplazamiento = cabecera.getLong();
+                long longitud = cabecera.getLong();
+                if (desplazamiento < TAMANIO_CABECERA || longitud < 0 || desplazamiento + longitud > tamanioArchivo) {
+                    throw new IOException("Seccion " + id + " fuera de los limites del archivo: " + ruta);
+                }
+                mapa.put(id, mapear(canal, FileChannel.MapMode.READ_ONLY, desplazamiento, longitud));
+            }
+            for (int id : new int[] {SECCION_CADENAS, SECCION_CATALOGO, SECCION_ALUMNOS, SECCION_REGISTROS}) {
+                if (!mapa.containsKey(id)) {
+                    throw new IOException("Falta la seccion " + id + " en el snapshot: " + ruta);
+                }
+            }
+            try {
+                return decodificar(n, mapa.get(SECCION_CADENAS), mapa.get(SECCION_CATALOGO),
+                                   mapa.get(SECCION_ALUMNOS), mapa.get(SECCION_REGISTROS),
+                                   mapa.get(SECCION_RANKING));
+            } catch (RuntimeException e) {
+                // Desbordamientos del búfer, índices fuera de rango, etc.: el contenido no es consistente
+                throw new IOException("Snapshot corrupto: " + ruta + " (" + e + ")", e);
+            }
+        }
+    }
+
+    private static ContenidoSnapshot decodificar(int n, ByteBuffer secCadenas, ByteBuffer secCatalogo,
+                                                 ByteBuffer secAlumnos, ByteBuffer secRegistros,
+                                                 ByteBuffer secRanking) {
+        ContenidoSnapshot contenido = new ContenidoSnapshot();
+        contenido.n = n;
+
+        // --- Cadenas ---
+        int k = secCadenas.getInt();
+        int[] limites = obtenerEnteros(secCadenas, k + 1);
+        byte[] bytes = new byte[limites[k]];
+        secCadenas.get(bytes);
+        String[] cadenas = new String[k];
+        for (int i = 0; i < k; i++) {
+            cadenas[i] = new String(bytes, limites[i], limites[i + 1] - limites[i], StandardCharsets.UTF_8);
+        }
+        contenido.cadenas = cadenas;
+
+        // --- Catálogo ---
+        int m = secCatalogo.getInt();
+        int[] catSemestre = obtenerEnteros(secCatalogo, m);
+        int[] catId = obtenerEnteros(secCatalogo, m);
+        int[] catCreditos = obtenerEnteros(secCatalogo, m);
+        int[] catNombre = obtenerEnteros(secCatalogo, m);
+        List<List<Asignatura>> catalogo = new ArrayList<>();
+        Map<Integer, Asignatura> porId = new HashMap<>();
+        for (int i = 0; i < m; i++) {
+            while (catalogo.size() <= catSemestre[i]) {
+                catalogo.add(new ArrayList<>());
+            }
+            Asignatura asignatura = new Asignatura(catId[i], cadena(cadenas, catNombre[i]), catCreditos[i]);
+            catalogo.get(catSemestre[i]).add(asignatura);
+            porId.put(catId[i], asignatura);
+        }
+        Asignatura[] asignaturaPorId = new Asignatura[porId.isEmpty() ? 0 : Collections.max(porId.keySet()) + 1];
+        for (Map.Entry<Integer, Asignatura> entrada : porId.entrySet()) {
+            asignaturaPorId[entrada.getKey()] = entrada.getValue();
+        }
+        contenido.catalogo = catalogo;
+        contenido.asignaturaPorId = asignaturaPorId;
+
+        // --- Alumnos ---
+        contenido.numCuenta = obtenerLargos(secAlumnos, n);
+        contenido.indicador = obtenerLargos(secAlumnos, n);
+        contenido.columnasTexto = new int[7][];
+        for (int c = 0; c < contenido.columnasTexto.length; c++) {
+            contenido.columnasTexto[c] = obtenerEnteros(secAlumnos, n);
+        }
+        contenido.edad = obtenerEnteros(secAlumnos, n);
+        contenido.semestre = obtenerEnteros(secAlumnos, n);
+
+        // --- Registros ---
+        int t = (int) secRegistros.getLong();
+        contenido.calificaciones = new double[t];
+        secRegistros.asDoubleBuffer().get(contenido.calificaciones);
+        secRegistros.position(secRegistros.position() + 8 * t);
+        contenido.asignaturasPorAlumno = obtenerEnteros(secRegistros, n);
+        contenido.idsAsignatura = obtenerEnteros(secRegistros, t);
+
+        // --- Ranking ---
+        if (secRanking != null && secRanking.remaining() == 4L * n) {
+            contenido.ordenRanking = obtenerEnteros(secRanking, n);
+        }
+        return contenido;
+    }
+
+    private static ModuloRegistros construirModulo(ContenidoSnapshot contenido) {
+        ModuloRegistros modulo = new ModuloRegistros();
+        modulo.reemplazarAsignaturas(contenido.catalogo);
+
+        int n = contenido.n;
+        String[] cadenas = contenido.cadenas;
+        int[][] columnasTexto = contenido.columnasTexto;
+        List<Alumno> alumnos = new ArrayList<>(n);
+        int c = 0;
+        for (int i = 0; i < n; i++) {
+            Alumno alumno = new Alumno(contenido.numCuenta[i],
+                    cadena(cadenas, columnasTexto[0][i]), cadena(cadenas, columnasTexto[1][i]),
+                    cadena(cadenas, columnasTexto[2][i]), cadena(cadenas, columnasTexto[3][i]),
+                    contenido.edad[i], cadena(cadenas, columnasTexto[4][i]), contenido.semestre[i],
+                    cadena(cadenas, columnasTexto[5][i]), cadena(cadenas, columnasTexto[6][i]));
+            alumno.setIndicadorBruto(contenido.indicador[i]);
+            int cantidad = contenido.asignaturasPorAlumno[i];
+            if (cantidad != NULO) {
+                RegistroAcademico registro = new RegistroAcademico(alumno);
+                registro.asegurarCapacidad(cantidad);
+                for (int j = 0; j < cantidad; j++, c++) {
+                    registro.agregarAsignatura(contenido.asignaturaPorId[contenido.idsAsignatura[c]],
+                                               contenido.calificaciones[c]);
+                }
+                alumno.setRegistroAcademico(registro);
+            }
+            alumnos.add(alumno);
+        }
+
+        // --- Ranking (si falta o es inconsistente, el módulo lo reordena) ---
+        List<Alumno> enOrdenDeRanking = null;
+        if (contenido.ordenRanking != null) {
+            enOrdenDeRanking = new ArrayList<>(n);
+            for (int posicion : contenido.ordenRanking) {
+                enOrdenDeRanking.add(alumnos.get(posicion));
+            }
+        }
+        modulo.cargarMasivo(alumnos, enOrdenDeRanking);
+        return modulo;
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /**
+     * Asigna un índice a cada cadena distinta, en orden de aparición.
+     */
+    private static final class DiccionarioCadenas {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> cadenas = new ArrayList<>();
+
+        int indice(String cadena) {
+            if (cadena == null) {
+                return NULO;
+            }
+            Integer existente = indices.get(cadena);
+            if (existente != null) {
+                return existente;
+            }
+            int nuevo = cadenas.size();
+            cadenas.add(cadena);
+            indices.put(cadena, nuevo);
+            return nuevo;
+        }
+
+        byte[][] codificar() {
+            byte[][] codificadas = new byte[cadenas.size()][];
+            for (int i = 0; i < codificadas.length; i++) {
+                codificadas[i] = cadenas.get(i).getBytes(StandardCharsets.UTF_8);
+            }
+            return codificadas;
+        }
+    }
+
+    private static String cadena(String[] cadenas, int indice) {
+        return indice == NULO ? null : cadenas[indice];
+    }
+
+    private static MappedByteBuffer mapear(FileChannel canal, FileChannel.MapMode modo, long desplazamiento, long longitud)
+            throws IOException {
+        if (longitud > Integer.MAX_VALUE) {
+            throw new IOException("Seccion de snapshot demasiado grande: " + longitud + " bytes");
+        }
+        MappedByteBuffer buffer = canal.map(modo, desplazamiento, longitud);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static long alinear(long posicion) {
+        return (posicion + 7) & ~7L;
+    }
+
+    private static void ponerEnteros(ByteBuffer buffer, int[] valores) {
+        buffer.asIntBuffer().put(valores);
+        buffer.position(buffer.position() + 4 * valores.length);
+    }
+
+    private static void ponerLargos(ByteBuffer buffer, long[] valores) {
+        buffer.asLongBuffer().put(valores);
+        buffer.position(buffer.position() + 8 * valores.length);
+    }
+
+    private static int[] obtenerEnteros(ByteBuffer buffer, int cantidad) {
+        int[] valores = new int[cantidad];
+        buffer.asIntBuffer().get(valores);
+        buffer.position(buffer.position() + 4 * cantidad);
+        return valores;
+    }
+
+    private static long[] obtenerLargos(ByteBuffer buffer, int cantidad) {
+        long[] valores = new long[cantidad];
+        buffer.asLongBuffer().get(valores);
+        buffer.position(buffer.position() + 8 * cantidad);
+        return valores;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.repositorio;
+
+import hu03.modelo.Alumno;
+
+/**
+ * VistaRanking: Copia inmutable del ranking en un momento dado, ya ordenada del puesto 1 al último.
+ * Guarda, por puesto, el número de cuenta, el nombre completo y el Indicador Bruto de cada alumno,
+ * y un índice del puesto de cada número de cuenta, de modo que los reportes (Top K, puesto de un
+ * alumno) se resuelven sin candados, sin recorrer el árbol del ranking y sin ordenar.
+ * <p>
+ * La vista no guarda los objetos {@link Alumno} del módulo, que siguen cambiando con cada
+ * edición: copia sus datos al construirse, con el módulo bloqueado. Como ningún arreglo cambia
+ * después, una vista puede compartirse entre hilos una vez publicada (ver
+ * {@link ModuloRegistrosConcurrente#getVistaRanking()}) y todos sus datos corresponden al mismo
+ * momento.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public final class VistaRanking {
+
+    private final long[] numCuentas;
+    private final String[] nombresCompletos;
+    private final long[] indicadores;
+    /** Posición (0..n-1) de cada número de cuenta dentro de la vista. */
+    private final IndiceNumCuenta posiciones;
+    /** Cantidad de escrituras del módulo reflejadas en la vista. */
+    private final long version;
+
+    private VistaRanking(long[] numCuentas, String[] nombresCompletos, long[] indicadores,
+                         IndiceNumCuenta posiciones, long version) {
+        this.numCuentas = numCuentas;
+        this.nombresCompletos = nombresCompletos;
+        this.indicadores = indicadores;
+        this.posiciones = posiciones;
+        this.version = version;
+    }
+
+    /**
+     * Construye la vista recorriendo el ranking del módulo en orden (O(n), sin ordenar).
+     * El módulo no debe modificarse mientras se construye.
+     * @param modulo El módulo cuyo ranking se copia.
+     * @param version Cantidad de escrituras del módulo reflejadas en la vista.
+     * @return La vista del ranking.
+     */
+    static VistaRanking desde(ModuloRegistros modulo, long version) {
+        int n = modulo.getAlumnos().size();
+        long[] numCuentas = new long[n];
+        String[] nombresCompletos = new String[n];
+        long[] indicadores = new long[n];
+        IndiceNumCuenta posiciones = new IndiceNumCuenta(n);
+        int i = 0;
+        for (Alumno alumno : modulo.getAlumnosPorRanking()) {
+            numCuentas[i] = alumno.getNumCuenta();
+            nombresCompletos[i] = alumno.getNombreCompleto();
+            indicadores[i] = alumno.getIndicadorBruto();
+            posiciones.poner(numCuentas[i], i);
+            i++;
+        }
+        return new VistaRanking(numCuentas, nombresCompletos, indicadores, posiciones, version);
+    }
+
+    /**
+     * @return La cantidad de alumnos en la vista.
+     */
+    public int tamanio() {
+        return numCuentas.length;
+    }
+
+    /**
+     * @return La cantidad de escrituras del módulo reflejadas en la vista; una vista con una
+     *         versión mayor es más reciente.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param posicion Posición en la vista (0 = puesto 1).
+     * @return El número de cuenta del alumno en esa posición.
+     */
+    public long getNumCuenta(int posicion) {
+        return numCuentas[posicion];
+    }
+
+    /**
+     * @param posicion Posición en la vista (0 = puesto 1).
+     * @return El nombre completo del alumno en esa posición al construirse la vista.
+     */
+    public String getNombreCompleto(int posicion) {
+        return nombresCompletos[posicion];
+    }
+
+    /**
+     * @param posicion Posición en la vista (0 = puesto 1).
+     * @return El Indicador Bruto con el que se ordenó al alumno en esa posición.
+     */
+    public long getIndicadorBruto(int posicion) {
+        return indicadores[posicion];
+    }
+
+    /**
+     * Obtiene el Número de Inscripción (puesto) de un alumno según la vista. O(1) promedio.
+     * @param numCuenta El número de cuenta del alumno.
+     * @return El puesto del alumno (1, 2, 3...), o 0 si no estaba registrado cuando se construyó la vista.
+     */
+    public int obtenerNumInscripcion(long numCuenta) {
+        return posiciones.obtener(numCuenta) + 1;
+    }
+}
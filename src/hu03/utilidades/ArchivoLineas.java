@@ -0,0 +1,164 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * ArchivoLineas: Lista de solo lectura con las líneas no vacías de un archivo de texto UTF-8.
+ * El archivo se mapea en memoria y se divide en líneas recorriendo sus bytes por bloques;
+ * cada línea se guarda como un desplazamiento y una longitud dentro del archivo mapeado y
+ * solo se decodifica a {@link String} la primera vez que se consulta.
+ * <p>
+ * Las líneas se recortan igual que con {@link String#trim()} (los bytes menores o iguales a
+ * un espacio nunca forman parte de un carácter UTF-8 multibyte) y se aceptan finales de
+ * línea "\n", "\r\n" y "\r". Se ignora una marca de orden de bytes (BOM) inicial.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class ArchivoLineas extends AbstractList<String> implements RandomAccess {
+
+    /** Tamaño de los bloques que se copian del archivo mapeado para buscar los finales de línea. */
+    private static final int TAMANIO_BLOQUE = 1 << 16;
+
+    private final MappedByteBuffer contenido;
+    private final int[] inicios;
+    private final int[] longitudes;
+    private final int cantidad;
+    /** Líneas ya decodificadas (null = todavía no se consulta). */
+    private final String[] decodificadas;
+
+    private ArchivoLineas(MappedByteBuffer contenido, int[] inicios, int[] longitudes, int cantidad) {
+        this.contenido = contenido;
+        this.inicios = inicios;
+        this.longitudes = longitudes;
+        this.cantidad = cantidad;
+        this.decodificadas = new String[cantidad];
+    }
+
+    /**
+     * Mapea el archivo indicado y localiza sus líneas no vacías.
+     * @param ruta La ruta del archivo de texto.
+     * @return La lista de líneas del archivo.
+     * @throws IOException Si el archivo no existe, no se puede leer o excede 2 GB.
+     */
+    public static ArchivoLineas cargar(String ruta) throws IOException {
+        MappedByteBuffer contenido;
+        try (FileChannel canal = FileChannel.open(Paths.get(ruta), StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio > Integer.MAX_VALUE) {
+                throw new IOException("El archivo es demasiado grande (" + tamanio + " bytes): " + ruta);
+            }
+            // El mapeo sigue siendo válido después de cerrar el canal
+            contenido = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanio);
+        }
+
+        int tamanio = contenido.limit();
+        int[] inicios = new int[1024];
+        int[] longitudes = new int[1024];
+        int cantidad = 0;
+
+        byte[] bloque = new byte[TAMANIO_BLOQUE];
+        ByteBuffer lector = contenido.duplicate();
+        int inicioLinea = tieneBom(contenido) ? 3 : 0;
+        lector.position(inicioLinea);
+        int posicionBloque = inicioLinea;
+        while (posicionBloque < tamanio) {
+            int leidos = Math.min(TAMANIO_BLOQUE, tamanio - posicionBloque);
+            lector.get(bloque, 0, leidos);
+            for (int i = 0; i < leidos; i++) {
+                byte b = bloque[i];
+                if (b == '\n' || b == '\r') {
+                    int finLinea = posicionBloque + i;
+                    if (cantidad == inicios.length) {
+                        inicios = Arrays.copyOf(inicios, cantidad * 2);
+                        longitudes = Arrays.copyOf(longitudes, cantidad * 2);
+                    }
+                    cantidad = recortarYAgregar(contenido, inicioLinea, finLinea, inicios, longitudes, cantidad);
+                    inicioLinea = finLinea + 1;
+                }
+            }
+            posicionBloque += leidos;
+        }
+        if (inicioLinea < tamanio) {
+            if (cantidad == inicios.length) {
+                inicios = Arrays.copyOf(inicios, cantidad + 1);
+                longitudes = Arrays.copyOf(longitudes, cantidad + 1);
+            }
+            cantidad = recortarYAgregar(contenido, inicioLinea, tamanio, inicios, longitudes, cantidad);
+        }
+        return new ArchivoLineas(contenido, inicios, longitudes, cantidad);
+    }
+
+    /**
+     * Obtiene la línea indicada, decodificándola la primera vez que se consulta.
+     * @param indice La posición de la línea (0 = primera línea no vacía).
+     * @return La línea recortada.
+     */
+    @Override
+    public String get(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndexOutOfBoundsException("Indice: " + indice + ", Cantidad: " + cantidad);
+        }
+        String linea = decodificadas[indice];
+        if (linea == null) {
+            // Carrera benigna: dos hilos pueden decodificar la misma línea y producen cadenas iguales
+            byte[] bytes = new byte[longitudes[indice]];
+            ByteBuffer lector = contenido.duplicate();
+            lector.position(inicios[indice]);
+            lector.get(bytes);
+            linea = new String(bytes, StandardCharsets.UTF_8);
+            decodificadas[indice] = linea;
+        }
+        return linea;
+    }
+
+    /**
+     * @return La cantidad de líneas no vacías del archivo.
+     */
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    private static boolean tieneBom(ByteBuffer contenido) {
+        return contenido.limit() >= 3
+            && contenido.get(0) == (byte) 0xEF && contenido.get(1) == (byte) 0xBB && contenido.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * Registra la línea [desde, hasta) sin los espacios y caracteres de control de los extremos,
+     * si no queda vacía.
+     * @return La nueva cantidad de líneas.
+     */
+    private static int recortarYAgregar(ByteBuffer contenido, int desde, int hasta,
+                                        int[] inicios, int[] longitudes, int cantidad) {
+        while (desde < hasta && (contenido.get(desde) & 0xFF) <= ' ') {
+            desde++;
+        }
+        while (hasta > desde && (contenido.get(hasta - 1) & 0xFF) <= ' ') {
+            hasta--;
+        }
+        if (desde == hasta) {
+            return cantidad;
+        }
+        inicios[cantidad] = desde;
+        longitudes[cantidad] = hasta - desde;
+        return cantidad + 1;
+    }
+}
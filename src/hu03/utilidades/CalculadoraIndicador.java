@@ -1,80 +1,138 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-package hu03.utilidades;
-
-/**
- * CalculadoraIndicador: Contiene la lógica estática para calcular los componentes
- * del Indicador Escolar de un alumno, incluyendo la escolaridad, la velocidad
- * y el Indicador Bruto final.
- * @author EnrollEngine
- * @version 3.7.18
- */
-public class CalculadoraIndicador {
-
-    /** Créditos teóricos que un alumno debe haber cursado en un semestre. */
-    private static final int CREDITOS_POR_SEMESTRE = 26; 
-    
-    /**
-     * Calcula la cantidad total de créditos que el alumno "debería" haber acumulado
-     * hasta el semestre actual, basado en el plan de estudios teórico.
-     * @param semestreActual El semestre en el que se encuentra el alumno.
-     * @return El total de créditos esperados.
-     */
-    public static int calcularCreditosDeberiaLlevar(int semestreActual) {
-        return semestreActual * CREDITOS_POR_SEMESTRE;
-    }
-    
-    /**
-     * Calcula el factor de Escolaridad (proporción de materias aprobadas).
-     * Fórmula: Escolaridad = Asignaturas Aprobadas / Asignaturas Inscritas
-     * @param aprobadas Número de asignaturas aprobadas.
-     * @param inscritas Número de asignaturas inscritas.
-     * @return El valor de Escolaridad (entre 0.0 y 1.0).
-     */
-    public static double calcularEscolaridad(int aprobadas, int inscritas) {
-        if (inscritas <= 0) return 0.0;
-        return ((double) aprobadas / inscritas); 
-    }
-
-    /**
-     * Calcula el factor de Velocidad (proporción de avance de créditos).
-     * Fórmula: Velocidad = Créditos Acumulados / Créditos Teóricos Esperados
-     * @param creditosAlumno Total de créditos acumulados por el alumno.
-     * @param creditosDeberiaLlevar Total de créditos teóricos esperados hasta su semestre.
-     * @return El valor de Velocidad (un valor > 0.0, usualmente <= 1.0).
-     */
-    public static double calcularVelocidad(int creditosAlumno, int creditosDeberiaLlevar) {
-        if (creditosDeberiaLlevar <= 0) return 0.0;
-        return ((double) creditosAlumno / creditosDeberiaLlevar); 
-    }
-
-    /**
-     * Calcula el Indicador Escolar Bruto, que es el valor final utilizado para
-     * el ranking académico del alumno.
-     * Fórmula: Indicador Bruto = Promedio * Escolaridad * Velocidad * 1000
-     * El resultado se escala por 1000 y se convierte a long para mantener precisión
-     * en las comparaciones y ordenamiento.
-     *
-     * @param promedio Promedio general de calificaciones del alumno.
-     * @param asigAprobOrd Asignaturas aprobadas (usado para Escolaridad).
-     * @param asigInscOrd Asignaturas inscritas (usado para Escolaridad).
-     * @param credAlumno Créditos totales acumulados por el alumno (usado para Velocidad).
-     * @param semestreActual El semestre actual del alumno (usado para Créditos Esperados).
-     * @return El Indicador Bruto (valor long usado para ordenar).
-     */
-    public static long calcularIndicadorBruto(double promedio, int asigAprobOrd, int asigInscOrd, 
-                                             int credAlumno, int semestreActual) {
-        
-        int credDeberiaLlevar = calcularCreditosDeberiaLlevar(semestreActual);
-        
-        double escolaridadDecimal = calcularEscolaridad(asigAprobOrd, asigInscOrd);
-        double velocidadDecimal = calcularVelocidad(credAlumno, credDeberiaLlevar);
-        
-        double indicadorDecimal = promedio * escolaridadDecimal * velocidadDecimal;
-        
-        // Factor de escala 1,000L para convertir a long y mantener precisión.
-        return (long) (indicadorDecimal * 1_000L); 
-    }
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+/**
+ * CalculadoraIndicador: Contiene la lógica estática para calcular los componentes
+ * del Indicador Escolar de un alumno, incluyendo la escolaridad, la velocidad
+ * y el Indicador Bruto final.
+ * @author EnrollEngine
+ * @version 3.8.0
+ */
+public class CalculadoraIndicador {
+
+    /** Créditos teóricos que un alumno debe haber cursado en un semestre. */
+    private static final int CREDITOS_POR_SEMESTRE = 26; 
+    
+    /**
+     * Calcula la cantidad total de créditos que el alumno "debería" haber acumulado
+     * hasta el semestre actual, basado en el plan de estudios teórico.
+     * @param semestreActual El semestre en el que se encuentra el alumno.
+     * @return El total de créditos esperados.
+     */
+    public static int calcularCreditosDeberiaLlevar(int semestreActual) {
+        return semestreActual * CREDITOS_POR_SEMESTRE;
+    }
+    
+    /**
+     * Calcula el factor de Escolaridad (proporción de materias aprobadas).
+     * Fórmula: Escolaridad = Asignaturas Aprobadas / Asignaturas Inscritas
+     * @param aprobadas Número de asignaturas aprobadas.
+     * @param inscritas Número de asignaturas inscritas.
+     * @return El valor de Escolaridad (entre 0.0 y 1.0).
+     */
+    public static double calcularEscolaridad(int aprobadas, int inscritas) {
+        if (inscritas <= 0) return 0.0;
+        return ((double) aprobadas / inscritas); 
+    }
+
+    /**
+     * Calcula el factor de Velocidad (proporción de avance de créditos).
+     * Fórmula: Velocidad = Créditos Acumulados / Créditos Teóricos Esperados
+     * @param creditosAlumno Total de créditos acumulados por el alumno.
+     * @param creditosDeberiaLlevar Total de créditos teóricos esperados hasta su semestre.
+     * @return El valor de Velocidad (un valor > 0.0, usualmente <= 1.0).
+     */
+    public static double calcularVelocidad(int creditosAlumno, int creditosDeberiaLlevar) {
+        if (creditosDeberiaLlevar <= 0) return 0.0;
+        return ((double) creditosAlumno / creditosDeberiaLlevar); 
+    }
+
+    /**
+     * Calcula el Indicador Escolar Bruto, que es el valor final utilizado para
+     * el ranking académico del alumno.
+     * Fórmula: Indicador Bruto = Promedio * Escolaridad * Velocidad * 1000
+     * El resultado se escala por 1000 y se convierte a long para mantener precisión
+     * en las comparaciones y ordenamiento.
+     *
+     * @param promedio Promedio general de calificaciones del alumno.
+     * @param asigAprobOrd Asignaturas aprobadas (usado para Escolaridad).
+     * @param asigInscOrd Asignaturas inscritas (usado para Escolaridad).
+     * @param credAlumno Créditos totales acumulados por el alumno (usado para Velocidad).
+     * @param semestreActual El semestre actual del alumno (usado para Créditos Esperados).
+     * @return El Indicador Bruto (valor long usado para ordenar).
+     */
+    public static long calcularIndicadorBruto(double promedio, int asigAprobOrd, int asigInscOrd, 
+                                             int credAlumno, int semestreActual) {
+        
+        int credDeberiaLlevar = calcularCreditosDeberiaLlevar(semestreActual);
+        
+        double escolaridadDecimal = calcularEscolaridad(asigAprobOrd, asigInscOrd);
+        double velocidadDecimal = calcularVelocidad(credAlumno, credDeberiaLlevar);
+        
+        double indicadorDecimal = promedio * escolaridadDecimal * velocidadDecimal;
+        
+        // Factor de escala 1,000L para convertir a long y mantener precisión.
+        return (long) (indicadorDecimal * 1_000L); 
+    }
+
+    /**
+     * Calcula el Indicador Bruto de varios alumnos en un solo recorrido sobre arreglos
+     * primitivos paralelos (la posición i de cada arreglo corresponde al mismo alumno).
+     * El resultado de cada posición es idéntico al de {@link #calcularIndicadorBruto}.
+     * <p>
+     * El ciclo no llama a otros métodos ni tiene saltos condicionales: los divisores nulos o
+     * negativos se reemplazan por 1 y el cociente se anula multiplicándolo por 0, de modo que
+     * el compilador JIT puede desenrollarlo y usar instrucciones vectoriales para la parte
+     * de punto flotante cuando el procesador las ofrece.
+     *
+     * @param promedios Promedio general de cada alumno.
+     * @param aprobadas Asignaturas aprobadas de cada alumno.
+     * @param inscritas Asignaturas inscritas de cada alumno.
+     * @param creditos Créditos acumulados de cada alumno.
+     * @param semestres Semestre actual de cada alumno.
+     * @param indicadores Arreglo donde se escribe el Indicador Bruto de cada alumno.
+     * @param desde Primera posición a calcular (inclusiva).
+     * @param hasta Última posición a calcular (exclusiva).
+     * @throws IllegalArgumentException Si el rango no cabe en alguno de los arreglos.
+     */
+    public static void calcularIndicadoresBrutos(double[] promedios, int[] aprobadas, int[] inscritas,
+                                                 int[] creditos, int[] semestres, long[] indicadores,
+                                                 int desde, int hasta) {
+        if (desde < 0 || desde > hasta
+                || hasta > promedios.length || hasta > aprobadas.length || hasta > inscritas.length
+                || hasta > creditos.length || hasta > semestres.length || hasta > indicadores.length) {
+            throw new IllegalArgumentException("Rango invalido [" + desde + ", " + hasta + ") para los arreglos indicados");
+        }
+        for (int i = desde; i < hasta; i++) {
+            int insc = inscritas[i];
+            int credDeberiaLlevar = semestres[i] * CREDITOS_POR_SEMESTRE;
+            // (x > 0) como 1 o 0, sin saltos: el bit de signo de -(long) x es 1 solo si x > 0
+            int hayInscritas = (int) (-(long) insc >>> 63);
+            int hayCreditos = (int) (-(long) credDeberiaLlevar >>> 63);
+            double escolaridad = (double) aprobadas[i] / (insc * hayInscritas + 1 - hayInscritas) * hayInscritas;
+            double velocidad = (double) creditos[i] / (credDeberiaLlevar * hayCreditos + 1 - hayCreditos) * hayCreditos;
+            indicadores[i] = (long) (promedios[i] * escolaridad * velocidad * 1_000L);
+        }
+    }
+
+    /**
+     * Calcula el Indicador Bruto de todos los alumnos de los arreglos indicados.
+     * Equivale a {@link #calcularIndicadoresBrutos(double[], int[], int[], int[], int[], long[], int, int)}
+     * con el rango completo de {@code indicadores}.
+     *
+     * @param promedios Promedio general de cada alumno.
+     * @param aprobadas Asignaturas aprobadas de cada alumno.
+     * @param inscritas Asignaturas inscritas de cada alumno.
+     * @param creditos Créditos acumulados de cada alumno.
+     * @param semestres Semestre actual de cada alumno.
+     * @param indicadores Arreglo donde se escribe el Indicador Bruto de cada alumno.
+     */
+    public static void calcularIndicadoresBrutos(double[] promedios, int[] aprobadas, int[] inscritas,
+                                                 int[] creditos, int[] semestres, long[] indicadores) {
+        calcularIndicadoresBrutos(promedios, aprobadas, inscritas, creditos, semestres, indicadores,
+                                  0, indicadores.length);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import java.util.Arrays;
+
+/**
+ * ConfiguracionGeneracion: Parámetros para generar un conjunto de alumnos simulados de forma
+ * reproducible con {@link GeneradorDatos#generarAlumnos(hu03.repositorio.ModuloRegistros, ConfiguracionGeneracion)}.
+ * Con la misma cantidad, semilla, primer número de cuenta y distribuciones (y el mismo archivo
+ * de direcciones), la generación produce exactamente los mismos alumnos, aunque se ejecute en paralelo.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class ConfiguracionGeneracion {
+
+    /** Valor que indica que el primer número de cuenta se toma del contador global. */
+    public static final long NUM_CUENTA_AUTOMATICO = -1;
+
+    /** Edad mínima de los alumnos generados. */
+    public static final int EDAD_MINIMA = 18;
+    /** Edad máxima de los alumnos generados. */
+    public static final int EDAD_MAXIMA = 24;
+    /** Cantidad de semestres del plan de estudios. */
+    public static final int TOTAL_SEMESTRES = 10;
+
+    /** Cantidad de alumnos a generar. */
+    private final int cantidad;
+    /** Semilla del generador de números aleatorios. */
+    private final long semilla;
+    /** Número de cuenta del primer alumno generado (o {@link #NUM_CUENTA_AUTOMATICO}). */
+    private long primerNumCuenta;
+    /** Pesos relativos de cada semestre (índice 0 = Semestre 1), o null para la distribución por defecto. */
+    private double[] pesosSemestre;
+    /** Pesos relativos de cada edad (índice 0 = 18 años), o null para la distribución uniforme. */
+    private double[] pesosEdad;
+
+    /**
+     * Constructor con los parámetros obligatorios. El primer número de cuenta se toma del
+     * contador global y se usan las distribuciones de edad y semestre por defecto.
+     * @param cantidad Cantidad de alumnos a generar.
+     * @param semilla Semilla del generador de números aleatorios.
+     */
+    public ConfiguracionGeneracion(int cantidad, long semilla) {
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("La cantidad de alumnos no puede ser negativa: " + cantidad);
+        }
+        this.cantidad = cantidad;
+        this.semilla = semilla;
+        this.primerNumCuenta = NUM_CUENTA_AUTOMATICO;
+    }
+
+    // --- Getters ---
+
+    /** @return La cantidad de alumnos a generar. */
+    public int getCantidad() { return cantidad; }
+    /** @return La semilla del generador de números aleatorios. */
+    public long getSemilla() { return semilla; }
+    /** @return El primer número de cuenta, o {@link #NUM_CUENTA_AUTOMATICO} si se usa el contador global. */
+    public long getPrimerNumCuenta() { return primerNumCuenta; }
+    /** @return Los pesos por semestre (índice 0 = Semestre 1), o null si se usa la distribución por defecto. */
+    public double[] getPesosSemestre() { return pesosSemestre == null ? null : pesosSemestre.clone(); }
+    /** @return Los pesos por edad (índice 0 = 18 años), o null si se usa la distribución uniforme. */
+    public double[] getPesosEdad() { return pesosEdad == null ? null : pesosEdad.clone(); }
+
+    // --- Setters ---
+
+    /**
+     * Establece el número de cuenta del primer alumno; los siguientes son consecutivos.
+     * @param primerNumCuenta El primer número de cuenta (mayor o igual a 0).
+     */
+    public void setPrimerNumCuenta(long primerNumCuenta) {
+        if (primerNumCuenta < 0) {
+            throw new IllegalArgumentException("El numero de cuenta no puede ser negativo: " + primerNumCuenta);
+        }
+        this.primerNumCuenta = primerNumCuenta;
+    }
+
+    /**
+     * Establece la distribución de semestres. El semestre de cada alumno se sigue limitando
+     * según su edad; los pesos se aplican dentro de los semestres permitidos.
+     * @param pesos Un peso no negativo por semestre (10 valores, el primero para el Semestre 1).
+     */
+    public void setDistribucionSemestres(double... pesos) {
+        this.pesosSemestre = validarPesos(pesos, TOTAL_SEMESTRES, "semestres");
+    }
+
+    /**
+     * Establece la distribución de edades.
+     * @param pesos Un peso no negativo por edad (7 valores, el primero para 18 años).
+     */
+    public void setDistribucionEdades(double... pesos) {
+        this.pesosEdad = validarPesos(pesos, EDAD_MAXIMA - EDAD_MINIMA + 1, "edades");
+    }
+
+    private static double[] validarPesos(double[] pesos, int esperados, String nombre) {
+        if (pesos == null) {
+            return null;
+        }
+        if (pesos.length != esperados) {
+            throw new IllegalArgumentException("La distribucion de " + nombre + " debe tener "
+                    + esperados + " pesos, se recibieron " + pesos.length);
+        }
+        double suma = 0.0;
+        for (double peso : pesos) {
+            if (!(peso >= 0.0) || Double.isInfinite(peso)) {
+                throw new IllegalArgumentException("Peso no valido en la distribucion de " + nombre + ": " + peso);
+            }
+            suma += peso;
+        }
+        if (suma <= 0.0) {
+            throw new IllegalArgumentException("La distribucion de " + nombre + " debe tener al menos un peso positivo.");
+        }
+        return pesos.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfiguracionGeneracion{" +
+               "cantidad=" + cantidad +
+               ", semilla=" + semilla +
+               ", primerNumCuenta=" + primerNumCuenta +
+               ", pesosSemestre=" + Arrays.toString(pesosSemestre) +
+               ", pesosEdad=" + Arrays.toString(pesosEdad) +
+               '}';
+    }
+}
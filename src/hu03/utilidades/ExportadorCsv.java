@@ -0,0 +1,344 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.RegistroAcademico;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * ExportadorCsv: Clase de utilidad estática que escribe el ranking de alumnos en formato CSV
+ * (RFC 4180, codificación UTF-8) de forma continua.
+ * Las filas se codifican directamente a bytes en un búfer reutilizable, sin {@link java.util.Formatter}
+ * ni cadenas intermedias por fila, y el búfer se vacía a un {@link FileChannel} en bloques grandes.
+ * Los campos de texto se escriben entre comillas, duplicando las comillas internas, por lo que
+ * los nombres con comas, comillas o saltos de línea se conservan sin alteraciones.
+ * Para poblaciones grandes, {@link #exportarEnParalelo(List, String)} divide el ranking en bloques
+ * que se formatean en paralelo y se escriben en orden mediante escrituras posicionales.
+ * @author EnrollEngine
+ * @version 1.1.0
+ */
+public class ExportadorCsv {
+
+    /** Cabecera del archivo CSV. */
+    public static final String CABECERA = "NumInscripcion,NumCuenta,NombreCompleto,PrimerApellido,SegundoApellido,"
+            + "Semestre,Edad,IndicadorBruto,Promedio,AsignaturasAprobadas,TotalCreditos";
+
+    /** Fin de registro según RFC 4180. */
+    private static final String FIN_DE_LINEA = "\r\n";
+
+    /** Tamaño a partir del cual el búfer se escribe al archivo (1 MiB). */
+    private static final int TAMANIO_BUFER = 1 << 20;
+
+    /** Cantidad de filas que formatea cada tarea en la exportación paralela. */
+    private static final int FILAS_POR_BLOQUE = 8192;
+
+    /** Bloques por hilo que se formatean en cada oleada (limita la memoria usada por los búferes). */
+    private static final int BLOQUES_POR_HILO = 4;
+
+    /**
+     * Escribe en el archivo a los alumnos en el orden recibido; el primero recibe el
+     * Número de Inscripción 1, el segundo el 2, etc. El archivo se crea o se sobrescribe.
+     * @param alumnosEnOrden Los alumnos en orden de ranking (por ejemplo, {@link hu03.repositorio.ModuloRegistros#getAlumnosPorRanking()}).
+     * @param nombreArchivo El nombre del archivo CSV a crear/sobrescribir.
+     * @return La cantidad de alumnos exportados.
+     * @throws IOException Si ocurre un error al escribir el archivo.
+     */
+    public static int exportar(Iterable<Alumno> alumnosEnOrden, String nombreArchivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(Paths.get(nombreArchivo), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BuferBytes bufer = new BuferBytes(TAMANIO_BUFER + 4096);
+            bufer.agregarAscii(CABECERA);
+            bufer.agregarAscii(FIN_DE_LINEA);
+
+            int numInscripcion = 0;
+            for (Alumno alumno : alumnosEnOrden) {
+                escribirFila(bufer, ++numInscripcion, alumno);
+                if (bufer.tamanio() >= TAMANIO_BUFER) {
+                    bufer.vaciarEn(canal);
+                }
+            }
+            bufer.vaciarEn(canal);
+            return numInscripcion;
+        }
+    }
+
+    /**
+     * Escribe el ranking en el archivo repartiendo el formateo entre los hilos del
+     * {@link ForkJoinPool} común. La lista se divide en bloques de {@value #FILAS_POR_BLOQUE} filas;
+     * cada bloque se codifica en su propio búfer y, una vez calculado el desplazamiento de cada
+     * bloque dentro del archivo, los búferes se escriben con escrituras posicionales del
+     * {@link FileChannel}, de modo que el archivo queda en el orden del ranking.
+     * El trabajo se procesa por oleadas de unos pocos bloques por hilo, así que la memoria
+     * usada no crece con el tamaño de la población. El resultado es idéntico al de
+     * {@link #exportar(Iterable, String)}.
+     * @param alumnosEnOrden Los alumnos en orden de ranking (por ejemplo, {@link hu03.repositorio.ModuloRegistros#topK(int)}
+     *                       con todos los alumnos). La lista no debe modificarse durante la exportación.
+     * @param nombreArchivo El nombre del archivo CSV a crear/sobrescribir.
+     * @return La cantidad de alumnos exportados.
+     * @throws IOException Si ocurre un error al escribir el archivo.
+     */
+    public static int exportarEnParalelo(List<Alumno> alumnosEnOrden, String nombreArchivo) throws IOException {
+        final List<Alumno> alumnos = alumnosEnOrden instanceof RandomAccess
+                                     ? alumnosEnOrden : new ArrayList<>(alumnosEnOrden);
+        int total = alumnos.size();
+        int bloques = (total + FILAS_POR_BLOQUE - 1) / FILAS_POR_BLOQUE;
+        int bloquesPorOleada = Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * BLOQUES_POR_HILO;
+        BuferBytes[] buferes = new BuferBytes[Math.min(bloques, bloquesPorOleada)];
+
+        try (FileChannel canal = FileChannel.open(Paths.get(nombreArchivo), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BuferBytes cabecera = new BuferBytes(CABECERA.length() + FIN_DE_LINEA.length());
+            cabecera.agregarAscii(CABECERA);
+            cabecera.agregarAscii(FIN_DE_LINEA);
+            long posicion = cabecera.escribirEn(canal, 0);
+
+            for (int inicio = 0; inicio < bloques; inicio += bloquesPorOleada) {
+                final int primerBloque = inicio;
+                int cantidad = Math.min(bloquesPorOleada, bloques - inicio);
+
+                // 1. Formatear los bloques de la oleada en paralelo, cada uno en su búfer
+                IntStream.range(0, cantidad).parallel().forEach(i -> {
+                    if (buferes[i] == null) {
+                        buferes[i] = new BuferBytes(FILAS_POR_BLOQUE * 128);
+                    }
+                    BuferBytes bufer = buferes[i];
+                    bufer.limpiar();
+                    int desde = (primerBloque + i) * FILAS_POR_BLOQUE;
+                    int hasta = Math.min(total, desde + FILAS_POR_BLOQUE);
+                    for (int fila = desde; fila < hasta; fila++) {
+                        escribirFila(bufer, fila + 1, alumnos.get(fila));
+                    }
+                });
+
+                // 2. Calcular el desplazamiento de cada bloque en el archivo (en orden de ranking)
+                long[] desplazamientos = new long[cantidad];
+                for (int i = 0; i < cantidad; i++) {
+                    desplazamientos[i] = posicion;
+                    posicion += buferes[i].tamanio();
+                }
+
+                // 3. Escribir los bloques en sus posiciones, también en paralelo
+                try {
+                    IntStream.range(0, cantidad).parallel().forEach(i -> {
+                        try {
+                            buferes[i].escribirEn(canal, desplazamientos[i]);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Codifica la fila CSV de un alumno al final del búfer (incluye el fin de línea).
+     * @param bufer El búfer de destino.
+     * @param numInscripcion El Número de Inscripción (puesto) del alumno.
+     * @param alumno El alumno a escribir.
+     */
+    static void escribirFila(BuferBytes bufer, int numInscripcion, Alumno alumno) {
+        RegistroAcademico registro = alumno.getRegistroAcademico();
+        bufer.agregarEntero(numInscripcion);
+        bufer.agregarByte(',');
+        bufer.agregarEntero(alumno.getNumCuenta());
+        bufer.agregarByte(',');
+        bufer.agregarCampoTexto(alumno.getNombreCompleto());
+        bufer.agregarByte(',');
+        bufer.agregarCampoTexto(alumno.getPrimerApellido());
+        bufer.agregarByte(',');
+        bufer.agregarCampoTexto(alumno.getSegundoApellido());
+        bufer.agregarByte(',');
+        bufer.agregarEntero(alumno.getSemestre());
+        bufer.agregarByte(',');
+        bufer.agregarEntero(alumno.getEdad());
+        bufer.agregarByte(',');
+        bufer.agregarEntero(alumno.getIndicadorBruto());
+        bufer.agregarByte(',');
+        if (registro != null) {
+            bufer.agregarDosDecimales(registro.calcularPromedio());
+            bufer.agregarByte(',');
+            bufer.agregarEntero(registro.getAsignaturasAprobadas());
+            bufer.agregarByte(',');
+            bufer.agregarEntero(registro.getTotalCreditos());
+        } else {
+            bufer.agregarAscii("0.00,0,0");
+        }
+        bufer.agregarAscii(FIN_DE_LINEA);
+    }
+
+    /**
+     * Arreglo de bytes que crece según se necesita, con las operaciones de codificación de
+     * los campos CSV. No es seguro para uso concurrente: cada hilo debe usar su propio búfer.
+     */
+    static final class BuferBytes {
+        private byte[] datos;
+        private int tamanio;
+        /** Espacio de trabajo para escribir los dígitos de un entero de derecha a izquierda. */
+        private final byte[] digitos = new byte[20];
+
+        BuferBytes(int capacidadInicial) {
+            datos = new byte[Math.max(16, capacidadInicial)];
+        }
+
+        int tamanio() {
+            return tamanio;
+        }
+
+        void limpiar() {
+            tamanio = 0;
+        }
+
+        /**
+         * Escribe todo el contenido en el canal (en su posición actual) y vacía el búfer.
+         */
+        void vaciarEn(FileChannel canal) throws IOException {
+            ByteBuffer envoltura = ByteBuffer.wrap(datos, 0, tamanio);
+            while (envoltura.hasRemaining()) {
+                canal.write(envoltura);
+            }
+            tamanio = 0;
+        }
+
+        /**
+         * Escribe todo el contenido en el canal a partir de la posición indicada, sin modificar
+         * la posición del canal (puede usarse desde varios hilos sobre el mismo canal).
+         * @return La posición siguiente al último byte escrito.
+         */
+        long escribirEn(FileChannel canal, long posicion) throws IOException {
+            ByteBuffer envoltura = ByteBuffer.wrap(datos, 0, tamanio);
+            long actual = posicion;
+            while (envoltura.hasRemaining()) {
+                actual += canal.write(envoltura, actual);
+            }
+            return actual;
+        }
+
+        void agregarByte(char c) {
+            asegurar(1);
+            datos[tamanio++] = (byte) c;
+        }
+
+        /** Agrega un texto que se sabe que solo contiene caracteres ASCII. */
+        void agregarAscii(String texto) {
+            asegurar(texto.length());
+            for (int i = 0; i < texto.length(); i++) {
+                datos[tamanio++] = (byte) texto.charAt(i);
+            }
+        }
+
+        /** Agrega un entero en base 10 sin crear cadenas intermedias. */
+        void agregarEntero(long valor) {
+            if (valor == Long.MIN_VALUE) {
+                agregarAscii(Long.toString(valor));
+                return;
+            }
+            asegurar(20);
+            if (valor < 0) {
+                datos[tamanio++] = '-';
+                valor = -valor;
+            }
+            int i = digitos.length;
+            do {
+                digitos[--i] = (byte) ('0' + (valor % 10));
+                valor /= 10;
+            } while (valor != 0);
+            int n = digitos.length - i;
+            System.arraycopy(digitos, i, datos, tamanio, n);
+            tamanio += n;
+        }
+
+        /**
+         * Agrega un número con exactamente dos decimales, redondeando la mitad hacia arriba sobre
+         * su representación decimal (el mismo resultado que {@code "%.2f"} con punto decimal).
+         */
+        void agregarDosDecimales(double valor) {
+            if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+                agregarAscii(Double.toString(valor));
+                return;
+            }
+            double escalado = Math.abs(valor) * 100.0;
+            long centesimos;
+            double fraccion = escalado - Math.floor(escalado);
+            if (escalado < 1e15 && Math.abs(fraccion - 0.5) > 1e-6) {
+                centesimos = Math.round(escalado);
+            } else {
+                // Caso cercano a un empate o fuera de rango: redondeo exacto sobre la representación decimal
+                centesimos = BigDecimal.valueOf(Math.abs(valor)).setScale(2, RoundingMode.HALF_UP)
+                        .movePointRight(2).longValueExact();
+            }
+            if (valor < 0 && centesimos != 0) {
+                agregarByte('-');
+            }
+            agregarEntero(centesimos / 100);
+            agregarByte('.');
+            long resto = centesimos % 100;
+            agregarByte((char) ('0' + resto / 10));
+            agregarByte((char) ('0' + resto % 10));
+        }
+
+        /**
+         * Agrega un campo de texto entre comillas (RFC 4180), duplicando las comillas internas
+         * y codificando en UTF-8. Un texto nulo se escribe como campo vacío.
+         */
+        void agregarCampoTexto(String texto) {
+            agregarByte('"');
+            if (texto != null) {
+                // Peor caso: 3 bytes por carácter UTF-16 (una comilla ocupa 2 y un par sustituto 4 en 2 caracteres)
+                asegurar(texto.length() * 3);
+                for (int i = 0; i < texto.length(); i++) {
+                    char c = texto.charAt(i);
+                    if (c == '"') {
+                        datos[tamanio++] = '"';
+                        datos[tamanio++] = '"';
+                    } else if (c < 0x80) {
+                        datos[tamanio++] = (byte) c;
+                    } else if (c < 0x800) {
+                        datos[tamanio++] = (byte) (0xC0 | (c >> 6));
+                        datos[tamanio++] = (byte) (0x80 | (c & 0x3F));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < texto.length()
+                               && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                        int punto = Character.toCodePoint(c, texto.charAt(++i));
+                        datos[tamanio++] = (byte) (0xF0 | (punto >> 18));
+                        datos[tamanio++] = (byte) (0x80 | ((punto >> 12) & 0x3F));
+                        datos[tamanio++] = (byte) (0x80 | ((punto >> 6) & 0x3F));
+                        datos[tamanio++] = (byte) (0x80 | (punto & 0x3F));
+                    } else if (Character.isSurrogate(c)) {
+                        datos[tamanio++] = '?';
+                    } else {
+                        datos[tamanio++] = (byte) (0xE0 | (c >> 12));
+                        datos[tamanio++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                        datos[tamanio++] = (byte) (0x80 | (c & 0x3F));
+                    }
+                }
+            }
+            agregarByte('"');
+        }
+
+        private void asegurar(int adicionales) {
+            int requerido = tamanio + adicionales;
+            if (requerido > datos.length) {
+                datos = Arrays.copyOf(datos, Math.max(requerido, datos.length * 2));
+            }
+        }
+    }
+}
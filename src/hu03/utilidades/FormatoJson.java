@@ -0,0 +1,256 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.RegistroAcademico;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FormatoJson: Clase de utilidad estática para escribir alumnos en formato JSON (RFC 8259)
+ * y leer los objetos JSON planos que envían los clientes del servidor HTTP.
+ * Solo cubre lo que necesita la aplicación: objetos sin anidar cuyos valores son textos,
+ * números, booleanos o null.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class FormatoJson {
+
+    // ===============================================
+    //                  ESCRITURA
+    // ===============================================
+
+    /**
+     * Escribe un alumno como objeto JSON, incluyendo el resumen de su registro académico.
+     * @param salida El búfer donde se escribe el objeto.
+     * @param alumno El alumno a escribir.
+     * @param numInscripcion El puesto del alumno en el ranking (0 si no aplica).
+     */
+    public static void escribirAlumno(StringBuilder salida, Alumno alumno, int numInscripcion) {
+        salida.append("{\"numCuenta\":").append(alumno.getNumCuenta());
+        salida.append(",\"numInscripcion\":").append(numInscripcion);
+        salida.append(",\"primerNombre\":");
+        escribirTexto(salida, alumno.getPrimerNombre());
+        salida.append(",\"segundoNombre\":");
+        escribirTexto(salida, alumno.getSegundoNombre());
+        salida.append(",\"primerApellido\":");
+        escribirTexto(salida, alumno.getPrimerApellido());
+        salida.append(",\"segundoApellido\":");
+        escribirTexto(salida, alumno.getSegundoApellido());
+        salida.append(",\"edad\":").append(alumno.getEdad());
+        salida.append(",\"carrera\":");
+        escribirTexto(salida, alumno.getCarrera());
+        salida.append(",\"semestre\":").append(alumno.getSemestre());
+        salida.append(",\"direccion\":");
+        escribirTexto(salida, alumno.getDireccion());
+        salida.append(",\"genero\":");
+        escribirTexto(salida, alumno.getGenero());
+        salida.append(",\"indicadorBruto\":").append(alumno.getIndicadorBruto());
+        RegistroAcademico registro = alumno.getRegistroAcademico();
+        if (registro != null) {
+            double promedio = registro.calcularPromedio();
+            salida.append(",\"promedio\":");
+            if (Double.isNaN(promedio) || Double.isInfinite(promedio)) {
+                salida.append("null");
+            } else {
+                salida.append(promedio);
+            }
+            salida.append(",\"asignaturasInscritas\":").append(registro.getAsignaturasInscritas());
+            salida.append(",\"asignaturasAprobadas\":").append(registro.getAsignaturasAprobadas());
+            salida.append(",\"totalCreditos\":").append(registro.getTotalCreditos());
+        }
+        salida.append('}');
+    }
+
+    /**
+     * Escribe un texto como cadena JSON, escapando comillas, diagonales invertidas y caracteres de control.
+     * @param salida El búfer donde se escribe la cadena.
+     * @param texto El texto a escribir (null se escribe como {@code null}).
+     */
+    public static void escribirTexto(StringBuilder salida, String texto) {
+        if (texto == null) {
+            salida.append("null");
+            return;
+        }
+        salida.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"':
+                    salida.append("\\\"");
+                    break;
+                case '\\':
+                    salida.append("\\\\");
+                    break;
+                case '\n':
+                    salida.append("\\n");
+                    break;
+                case '\r':
+                    salida.append("\\r");
+                    break;
+                case '\t':
+                    salida.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        salida.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        salida.append(c);
+                    }
+            }
+        }
+        salida.append('"');
+    }
+
+    // ===============================================
+    //                   LECTURA
+    // ===============================================
+
+    /**
+     * Lee un objeto JSON plano. Los números y booleanos se devuelven con su texto original
+     * y null como {@code null}.
+     * @param json El texto del objeto.
+     * @return Los campos del objeto, en el orden en que aparecen.
+     * @throws IllegalArgumentException Si el texto no es un objeto JSON plano válido.
+     */
+    public static Map<String, String> leerObjeto(String json) {
+        Lector lector = new Lector(json);
+        Map<String, String> campos = new LinkedHashMap<>();
+        lector.esperar('{');
+        if (!lector.consumirSi('}')) {
+            do {
+                String nombre = lector.leerCadena();
+                lector.esperar(':');
+                campos.put(nombre, lector.leerValor());
+            } while (lector.consumirSi(','));
+            lector.esperar('}');
+        }
+        lector.saltarEspacios();
+        if (!lector.terminado()) {
+            throw new IllegalArgumentException("Contenido inesperado despues del objeto en la posicion " + lector.posicion);
+        }
+        return campos;
+    }
+
+    /** Recorrido de un texto JSON con una posición actual. */
+    private static final class Lector {
+        private final String texto;
+        private int posicion;
+
+        Lector(String texto) {
+            this.texto = texto;
+        }
+
+        boolean terminado() {
+            return posicion >= texto.length();
+        }
+
+        void saltarEspacios() {
+            while (!terminado() && " \t\r\n".indexOf(texto.charAt(posicion)) >= 0) {
+                posicion++;
+            }
+        }
+
+        boolean consumirSi(char c) {
+            saltarEspacios();
+            if (!terminado() && texto.charAt(posicion) == c) {
+                posicion++;
+                return true;
+            }
+            return false;
+        }
+
+        void esperar(char c) {
+            if (!consumirSi(c)) {
+                throw new IllegalArgumentException("Se esperaba '" + c + "' en la posicion " + posicion);
+            }
+        }
+
+        String leerValor() {
+            saltarEspacios();
+            if (terminado()) {
+                throw new IllegalArgumentException("Falta un valor al final del objeto");
+            }
+            char c = texto.charAt(posicion);
+            if (c == '"') {
+                return leerCadena();
+            }
+            if (c == '{' || c == '[') {
+                throw new IllegalArgumentException("No se admiten objetos ni arreglos anidados (posicion " + posicion + ")");
+            }
+            int inicio = posicion;
+            while (!terminado() && ",} \t\r\n".indexOf(texto.charAt(posicion)) < 0) {
+                posicion++;
+            }
+            String literal = texto.substring(inicio, posicion);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.equals("true") || literal.equals("false")
+                    || literal.matches("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?")) {
+                return literal;
+            }
+            throw new IllegalArgumentException("Valor no valido en la posicion " + inicio + ": " + literal);
+        }
+
+        String leerCadena() {
+            esperar('"');
+            StringBuilder cadena = new StringBuilder();
+            while (true) {
+                if (terminado()) {
+                    throw new IllegalArgumentException("Cadena sin cerrar");
+                }
+                char c = texto.charAt(posicion++);
+                if (c == '"') {
+                    return cadena.toString();
+                }
+                if (c != '\\') {
+                    cadena.append(c);
+                    continue;
+                }
+                if (terminado()) {
+                    throw new IllegalArgumentException("Cadena sin cerrar");
+                }
+                char escape = texto.charAt(posicion++);
+                switch (escape) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        cadena.append(escape);
+                        break;
+                    case 'b':
+                        cadena.append('\b');
+                        break;
+                    case 'f':
+                        cadena.append('\f');
+                        break;
+                    case 'n':
+                        cadena.append('\n');
+                        break;
+                    case 'r':
+                        cadena.append('\r');
+                        break;
+                    case 't':
+                        cadena.append('\t');
+                        break;
+                    case 'u':
+                        if (posicion + 4 > texto.length()) {
+                            throw new IllegalArgumentException("Escape \\u incompleto");
+                        }
+                        try {
+                            cadena.append((char) Integer.parseInt(texto.substring(posicion, posicion + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Escape \\u no valido en la posicion " + posicion);
+                        }
+                        posicion += 4;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Escape no valido: \\" + escape);
+                }
+            }
+        }
+    }
+}
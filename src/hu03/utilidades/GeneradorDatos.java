@@ -1,216 +1,404 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
-package hu03.utilidades;
-
-import hu03.modelo.Alumno;
-import hu03.repositorio.ModuloRegistros;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
-import java.util.Scanner;
-
-/**
- * GeneradorDatos: Clase de utilidad estática encargada de crear datos simulados para la aplicación.
- * Esto incluye la generación de nombres, apellidos, números de cuenta, edades, semestres,
- * y la carga de direcciones desde un archivo externo.
- * Es crucial para inicializar el sistema con una gran cantidad de objetos Alumno.
- * @author EnrollEngine
- * @version 3.9.14
- */
-public class GeneradorDatos {
-    
-    /** Número fijo de alumnos a generar. */
-    private static final int NUM_ALUMNOS_REQUERIDOS = 1000;
-    /** Contador estático para asegurar que cada número de cuenta es único. */
-    private static long contadorNumCuenta = 1000000; 
-    /** Objeto Random estático para todas las operaciones de aleatoriedad. */
-    private static final Random RANDOM = new Random();
-
-    // Estructuras de nombres separadas por género
-    private static final List<String> NOMBRES_MASCULINOS = Arrays.asList(
-        "Alejandro", "Javier", "Miguel", "Ricardo", "Andres", "Fernando", "Santiago", "Carlos", "Pablo", "Luis",
-        "Jorge", "Manuel", "Angel", "Diego", "Hector", "Marco", "Juan", "Rafael", "Antonio", "Gustavo",
-        "Roberto", "David", "Francisco", "Mario", "Jose", "Arturo", "Guillermo", "Alonso", "Benito", "Cesar",
-        "Hector", "Julian", "Daniel", "Emilio", "Israel", "Jesus", "Pedro", "Alfredo", "Ernesto", "Felipe",
-        "Ramon", "Victor", "Sergio", "Oscar", "Enrique", "Mauricio", "Gerardo", "Adolfo", "Ruben", "Ivan"
-    );
-
-    private static final List<String> NOMBRES_FEMENINOS = Arrays.asList(
-        "Sofia", "Valeria", "Isabella", "Camila", "Mariana", "Luciana", "Daniela", "Emma", "Regina", "Natalia",
-        "Nicole", "Victoria", "Ximena", "Adriana", "Fernanda", "Andrea", "Gabriela", "Paulina", "Emilia", "Catalina",
-        "Maria", "Claudia", "Elena", "Sara", "Veronica", "Diana", "Laura", "Julia", "Gloria", "Esther",
-        "Ana", "Beatriz", "Carla", "Dulce", "Erika", "Irene", "Jimena", "Leticia", "Monica", "Nadia",
-        "Olga", "Patricia", "Quetzali", "Rosa", "Tania", "Ursula", "Vanesa", "Yolanda", "Zoe", "Alma"
-    );
-
-    // Estructura con 50 apellidos
-    private static final List<String> APELLIDOS = Arrays.asList(
-        "Garcia", "Rodriguez", "Gonzalez", "Fernandez", "Lopez", "Martinez", "Sanchez", "Perez", "Gomez", "Diaz",
-        "Vazquez", "Moreno", "Jimenez", "Ruiz", "Hernandez", "Torres", "Rivera", "Flores", "Ramirez", "Reyes",
-        "Morales", "Ortiz", "Gutierrez", "Castillo", "Mendoza", "Contreras", "Vargas", "Silva", "Rojas", "Herrera",
-        "Castro", "Blanco", "Navarro", "Soto", "Alonso", "Nunez", "Molina", "Aguilar", "Delgado", "Vega",
-        "Cabrera", "Maldonado", "Cruz", "Estrada", "Guerrero", "Ramos", "Salazar", "Montes", "Miranda", "Padilla"
-    );
-    
-    /** Lista que contendrá las direcciones cargadas desde un archivo externo. */
-    private static final List<String> DIRECCIONES = new ArrayList<>();
-
-    
-    /**
-     * Carga las direcciones desde un archivo de texto en la ruta especificada.
-     * Cada línea del archivo se considera una dirección única. Muestra mensajes de
-     * estado y errores en la consola.
-     * @param rutaArchivo La ruta del archivo de texto que contiene las direcciones.
-     */
-    public static void cargarDirecciones(String rutaArchivo) {
-        System.out.println("\n--- INICIO DE CARGA DE DATOS ---");
-        System.out.println("Cargando direcciones desde el archivo: " + rutaArchivo);
-        try {
-            File archivo = new File(rutaArchivo); 
-            Scanner scanner = new Scanner(archivo);
-            
-            while (scanner.hasNextLine()) {
-                String linea = scanner.nextLine().trim();
-                if (!linea.isEmpty()) { 
-                    DIRECCIONES.add(linea);
-                }
-            }
-            scanner.close();
-            
-            System.out.println("Carga finalizada. Total de direcciones cargadas: " + DIRECCIONES.size());
-            if (DIRECCIONES.size() < NUM_ALUMNOS_REQUERIDOS) {
-                 System.err.println("ADVERTENCIA: Se esperaban " + NUM_ALUMNOS_REQUERIDOS + " direcciones. Solo se cargaron " + DIRECCIONES.size() + ".");
-            }
-            
-        } catch (FileNotFoundException e) {
-            System.err.println("ERROR CRITICO: No se pudo encontrar el archivo de direcciones en la ruta: " + rutaArchivo);
-        }
-        System.out.println("--- FIN DE CARGA DE DATOS ---\n");
-    }
-
-    /**
-     * Genera un número de cuenta único e incremental para cada nuevo alumno.
-     * @return El siguiente número de cuenta disponible (long).
-     */
-    public static long generarNumCuenta() {
-        return contadorNumCuenta++;
-    }
-
-    /**
-     * Genera un número predefinido de objetos {@link Alumno} con datos aleatorios
-     * (nombre, edad, semestre, etc.), los agrega al {@link ModuloRegistros} y
-     * automáticamente genera su {@link hu03.modelo.RegistroAcademico}.
-     * @param modulo La instancia de ModuloRegistros donde se agregarán los alumnos.
-     */
-    public static void generarAlumnos(ModuloRegistros modulo) {
-        if (DIRECCIONES.isEmpty()) {
-            System.err.println("ERROR: No se pueden generar alumnos sin direcciones cargadas.");
-            return;
-        }
-        System.out.println("Iniciando la generacion de " + NUM_ALUMNOS_REQUERIDOS + " alumnos...");
-
-        for (int i = 0; i < NUM_ALUMNOS_REQUERIDOS; i++) {
-            
-            String[] nombreYGenero = generarNombreConGeneroBase();
-            String primerNombre = nombreYGenero[0];
-            String genero = nombreYGenero[1];
-            
-            // Genera un segundo nombre aleatorio o una cadena vacía (50% de probabilidad de tener 2 nombres)
-            String segundoNombre = RANDOM.nextBoolean() ? generarSegundoNombre(genero) : ""; 
-            
-            String primerApellido = generarApellido();
-            String segundoApellido = generarApellido();
-            
-            // Genera una edad entre 18 y 24
-            int edad = 18 + RANDOM.nextInt(7); 
-            
-            // Lógica para limitar el semestre máximo según la edad, simulando un avance natural
-            int semestreMaximo;
-            if (edad == 18) {
-                semestreMaximo = 2;
-            } else if (edad == 19) {
-                semestreMaximo = 4;
-            } else if (edad == 20) {
-                semestreMaximo = 6;
-            } else if (edad == 21) {
-                semestreMaximo = 8;
-            } else { 
-                semestreMaximo = 10;
-            }
-            int semestre = 1 + RANDOM.nextInt(semestreMaximo);
-            long numCuenta = generarNumCuenta(); 
-            String carrera = "Ingenieria en Computacion"; 
-            String direccion = generarDireccion();
-            
-            // Creación del objeto Alumno
-            Alumno nuevoAlumno = new Alumno(
-                    numCuenta, primerNombre, segundoNombre, primerApellido, segundoApellido, 
-                    edad, carrera, semestre, direccion, genero
-            );
-            
-            modulo.agregarAlumno(nuevoAlumno);
-            // Genera su historial académico y el Indicador Bruto
-            modulo.generarRegistroAcademico(nuevoAlumno);
-        }
-
-        System.out.println("Generacion de alumnos completada. Total de alumnos en el modulo: " + modulo.getAlumnos().size());
-    }
-    
-    /**
-     * Obtiene una dirección seleccionada al azar de la lista cargada.
-     * @return Una cadena que representa una dirección.
-     */
-    public static String generarDireccion() {
-        if (DIRECCIONES.isEmpty()) {
-            return "Direccion no asignada (ERROR de carga)";
-        }
-        int indice = RANDOM.nextInt(DIRECCIONES.size());
-        return DIRECCIONES.get(indice);
-    }
-    
-    /**
-     * Decide aleatoriamente el género del alumno y selecciona un nombre base
-     * de la lista correspondiente.
-     * @return Un array de String donde [0] es el primer nombre y [1] es el género ("M" o "F").
-     */
-    public static String[] generarNombreConGeneroBase() {
-        boolean esMasculino = RANDOM.nextBoolean();
-
-        if (esMasculino) {
-            int indice = RANDOM.nextInt(NOMBRES_MASCULINOS.size());
-            return new String[] {NOMBRES_MASCULINOS.get(indice), "M"};
-        } else {
-            int indice = RANDOM.nextInt(NOMBRES_FEMENINOS.size());
-            return new String[] {NOMBRES_FEMENINOS.get(indice), "F"};
-        }
-    }
-
-    /**
-     * Obtiene un segundo nombre aleatorio que coincide con el género proporcionado.
-     * @param genero El género ("M" o "F") para determinar la lista de nombres.
-     * @return Un segundo nombre.
-     */
-    public static String generarSegundoNombre(String genero) {
-        if ("M".equals(genero)) {
-            int indice = RANDOM.nextInt(NOMBRES_MASCULINOS.size());
-            return NOMBRES_MASCULINOS.get(indice);
-        } else {
-            int indice = RANDOM.nextInt(NOMBRES_FEMENINOS.size());
-            return NOMBRES_FEMENINOS.get(indice);
-        }
-    }
-
-    /**
-     * Obtiene un apellido seleccionado al azar de la lista predefinida.
-     * @return Un apellido.
-     */
-    public static String generarApellido() {
-        int indice = RANDOM.nextInt(APELLIDOS.size());
-        return APELLIDOS.get(indice);
-    }
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import hu03.modelo.Alumno;
+import hu03.repositorio.ModuloRegistros;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * GeneradorDatos: Clase de utilidad estática encargada de crear datos simulados para la aplicación.
+ * Esto incluye la generación de nombres, apellidos, números de cuenta, edades, semestres,
+ * y la carga de direcciones desde un archivo externo.
+ * Es crucial para inicializar el sistema con una gran cantidad de objetos Alumno.
+ * @author EnrollEngine
+ * @version 3.9.14
+ */
+public class GeneradorDatos {
+    
+    /** Número fijo de alumnos a generar. */
+    private static final int NUM_ALUMNOS_REQUERIDOS = 1000;
+    /** Cantidad de alumnos que genera cada tarea en la generación paralela. */
+    private static final int TAMANIO_BLOQUE = 4096;
+    /**
+     * Contador atómico para asegurar que cada número de cuenta es único, incluso cuando
+     * varios hilos reservan números al mismo tiempo.
+     */
+    private static final AtomicLong contadorNumCuenta = new AtomicLong(1000000); 
+    /** Objeto Random estático usado para sembrar los generadores de cada operación. */
+    private static final Random RANDOM = new Random();
+
+    // Estructuras de nombres separadas por género
+    private static final List<String> NOMBRES_MASCULINOS = Arrays.asList(
+        "Alejandro", "Javier", "Miguel", "Ricardo", "Andres", "Fernando", "Santiago", "Carlos", "Pablo", "Luis",
+        "Jorge", "Manuel", "Angel", "Diego", "Hector", "Marco", "Juan", "Rafael", "Antonio", "Gustavo",
+        "Roberto", "David", "Francisco", "Mario", "Jose", "Arturo", "Guillermo", "Alonso", "Benito", "Cesar",
+        "Hector", "Julian", "Daniel", "Emilio", "Israel", "Jesus", "Pedro", "Alfredo", "Ernesto", "Felipe",
+        "Ramon", "Victor", "Sergio", "Oscar", "Enrique", "Mauricio", "Gerardo", "Adolfo", "Ruben", "Ivan"
+    );
+
+    private static final List<String> NOMBRES_FEMENINOS = Arrays.asList(
+        "Sofia", "Valeria", "Isabella", "Camila", "Mariana", "Luciana", "Daniela", "Emma", "Regina", "Natalia",
+        "Nicole", "Victoria", "Ximena", "Adriana", "Fernanda", "Andrea", "Gabriela", "Paulina", "Emilia", "Catalina",
+        "Maria", "Claudia", "Elena", "Sara", "Veronica", "Diana", "Laura", "Julia", "Gloria", "Esther",
+        "Ana", "Beatriz", "Carla", "Dulce", "Erika", "Irene", "Jimena", "Leticia", "Monica", "Nadia",
+        "Olga", "Patricia", "Quetzali", "Rosa", "Tania", "Ursula", "Vanesa", "Yolanda", "Zoe", "Alma"
+    );
+
+    // Estructura con 50 apellidos
+    private static final List<String> APELLIDOS = Arrays.asList(
+        "Garcia", "Rodriguez", "Gonzalez", "Fernandez", "Lopez", "Martinez", "Sanchez", "Perez", "Gomez", "Diaz",
+        "Vazquez", "Moreno", "Jimenez", "Ruiz", "Hernandez", "Torres", "Rivera", "Flores", "Ramirez", "Reyes",
+        "Morales", "Ortiz", "Gutierrez", "Castillo", "Mendoza", "Contreras", "Vargas", "Silva", "Rojas", "Herrera",
+        "Castro", "Blanco", "Navarro", "Soto", "Alonso", "Nunez", "Molina", "Aguilar", "Delgado", "Vega",
+        "Cabrera", "Maldonado", "Cruz", "Estrada", "Guerrero", "Ramos", "Salazar", "Montes", "Miranda", "Padilla"
+    );
+    
+    /**
+     * Direcciones cargadas desde un archivo externo (ver {@link ArchivoLineas}: el archivo queda
+     * mapeado en memoria y cada dirección se decodifica la primera vez que se usa).
+     */
+    private static volatile List<String> direcciones = Collections.emptyList();
+
+    
+    /**
+     * Carga las direcciones desde un archivo de texto en la ruta especificada.
+     * Cada línea no vacía del archivo (UTF-8) se considera una dirección única y reemplaza a las
+     * cargadas anteriormente. El archivo se mapea en memoria y se divide en líneas en bloque, sin
+     * crear una cadena por línea hasta que se usa. Muestra mensajes de estado y errores en la consola.
+     * @param rutaArchivo La ruta del archivo de texto que contiene las direcciones.
+     */
+    public static void cargarDirecciones(String rutaArchivo) {
+        System.out.println("\n--- INICIO DE CARGA DE DATOS ---");
+        System.out.println("Cargando direcciones desde el archivo: " + rutaArchivo);
+        try {
+            direcciones = ArchivoLineas.cargar(rutaArchivo);
+            
+            System.out.println("Carga finalizada. Total de direcciones cargadas: " + direcciones.size());
+            if (direcciones.size() < NUM_ALUMNOS_REQUERIDOS) {
+                 System.err.println("ADVERTENCIA: Se esperaban " + NUM_ALUMNOS_REQUERIDOS + " direcciones. Solo se cargaron " + direcciones.size() + ".");
+            }
+            
+        } catch (NoSuchFileException e) {
+            System.err.println("ERROR CRITICO: No se pudo encontrar el archivo de direcciones en la ruta: " + rutaArchivo);
+        } catch (IOException e) {
+            System.err.println("ERROR CRITICO: No se pudo leer el archivo de direcciones " + rutaArchivo + ": " + e.getMessage());
+        }
+        System.out.println("--- FIN DE CARGA DE DATOS ---\n");
+    }
+
+    /**
+     * Genera un número de cuenta único e incremental para cada nuevo alumno.
+     * @return El siguiente número de cuenta disponible (long).
+     */
+    public static long generarNumCuenta() {
+        return contadorNumCuenta.getAndIncrement();
+    }
+
+    /**
+     * Reserva de forma atómica un bloque de números de cuenta consecutivos.
+     * @param cantidad Cantidad de números de cuenta a reservar.
+     * @return El primer número de cuenta del bloque reservado.
+     */
+    public static long reservarBloqueNumCuenta(int cantidad) {
+        return contadorNumCuenta.getAndAdd(cantidad);
+    }
+
+    /**
+     * Garantiza que los próximos números de cuenta generados sean mayores que los indicados,
+     * por ejemplo después de cargar alumnos guardados o de generar un rango configurado.
+     * @param ultimoNumCuentaUsado El mayor número de cuenta ya asignado.
+     */
+    public static void avanzarNumCuentaDespuesDe(long ultimoNumCuentaUsado) {
+        contadorNumCuenta.accumulateAndGet(ultimoNumCuentaUsado + 1, Math::max);
+    }
+
+    /**
+     * Genera un número predefinido de objetos {@link Alumno} con datos aleatorios
+     * (nombre, edad, semestre, etc.), los agrega al {@link ModuloRegistros} y
+     * automáticamente genera su {@link hu03.modelo.RegistroAcademico}.
+     * Utiliza una semilla aleatoria; para obtener resultados reproducibles use
+     * {@link #generarAlumnos(ModuloRegistros, ConfiguracionGeneracion)}.
+     * @param modulo La instancia de ModuloRegistros donde se agregarán los alumnos.
+     */
+    public static void generarAlumnos(ModuloRegistros modulo) {
+        generarAlumnos(modulo, new ConfiguracionGeneracion(NUM_ALUMNOS_REQUERIDOS, RANDOM.nextLong()));
+    }
+
+    /**
+     * Genera la cantidad indicada de alumnos a partir de una semilla fija, con las
+     * distribuciones de edad y semestre por defecto.
+     * @param modulo La instancia de ModuloRegistros donde se agregarán los alumnos.
+     * @param cantidad Número de alumnos a generar.
+     * @param semilla Semilla del generador de números aleatorios.
+     */
+    public static void generarAlumnos(ModuloRegistros modulo, int cantidad, long semilla) {
+        generarAlumnos(modulo, new ConfiguracionGeneracion(cantidad, semilla));
+    }
+
+    /**
+     * Genera la cantidad indicada de alumnos repartiendo el trabajo entre todos los núcleos,
+     * con una semilla aleatoria.
+     * @param modulo La instancia de ModuloRegistros donde se agregarán los alumnos.
+     * @param cantidad Número de alumnos a generar.
+     */
+    public static void generarAlumnosEnParalelo(ModuloRegistros modulo, int cantidad) {
+        generarAlumnos(modulo, new ConfiguracionGeneracion(cantidad, RANDOM.nextLong()));
+    }
+
+    /**
+     * Genera alumnos según la configuración indicada, repartiendo el trabajo entre todos los núcleos.
+     * La generación es determinista: los generadores de cada bloque se derivan en orden del
+     * generador principal (sembrado con la semilla de la configuración) antes de iniciar las tareas,
+     * y el número de cuenta de cada alumno depende solo de su posición, por lo que el resultado no
+     * depende del orden en que los hilos procesen los bloques. Los registros académicos se generan
+     * en paralelo y los alumnos se agregan al módulo por lotes, en orden, desde el hilo que llama.
+     * @param modulo La instancia de ModuloRegistros donde se agregarán los alumnos.
+     * @param configuracion Cantidad, semilla, primer número de cuenta y distribuciones a utilizar.
+     */
+    public static void generarAlumnos(ModuloRegistros modulo, ConfiguracionGeneracion configuracion) {
+        if (direcciones.isEmpty()) {
+            System.err.println("ERROR: No se pueden generar alumnos sin direcciones cargadas.");
+            return;
+        }
+        int cantidad = configuracion.getCantidad();
+        System.out.println("Iniciando la generacion de " + cantidad + " alumnos (semilla " + configuracion.getSemilla() + ")...");
+
+        // Rango de números de cuenta: el configurado, o uno reservado del contador global
+        long primerNumCuenta = configuracion.getPrimerNumCuenta();
+        if (primerNumCuenta == ConfiguracionGeneracion.NUM_CUENTA_AUTOMATICO) {
+            primerNumCuenta = reservarBloqueNumCuenta(cantidad);
+        } else {
+            avanzarNumCuentaDespuesDe(primerNumCuenta + cantidad - 1);
+        }
+        final long baseNumCuenta = primerNumCuenta;
+
+        double[] acumuladoSemestres = acumular(configuracion.getPesosSemestre());
+        double[] acumuladoEdades = acumular(configuracion.getPesosEdad());
+
+        int bloques = (cantidad + TAMANIO_BLOQUE - 1) / TAMANIO_BLOQUE;
+        SplittableRandom principal = new SplittableRandom(configuracion.getSemilla());
+        SplittableRandom[] generadores = new SplittableRandom[bloques];
+        for (int b = 0; b < bloques; b++) {
+            generadores[b] = principal.split();
+        }
+
+        List<List<Alumno>> lotes = IntStream.range(0, bloques)
+            .parallel()
+            .mapToObj(b -> {
+                int inicio = b * TAMANIO_BLOQUE;
+                int tamanio = Math.min(TAMANIO_BLOQUE, cantidad - inicio);
+                SplittableRandom aleatorio = generadores[b];
+                List<Alumno> lote = new ArrayList<>(tamanio);
+                for (int i = 0; i < tamanio; i++) {
+                    Alumno nuevoAlumno = crearAlumnoAleatorio(baseNumCuenta + inicio + i, aleatorio,
+                                                              acumuladoEdades, acumuladoSemestres);
+                    // Genera su historial académico y el Indicador Bruto antes de agregarlo,
+                    // para que entre al ranking directamente en su posición definitiva
+                    modulo.generarRegistroAcademico(nuevoAlumno, aleatorio);
+                    lote.add(nuevoAlumno);
+                }
+                return lote;
+            })
+            .collect(Collectors.toList());
+
+        // Un solo lote para que todos los alumnos entren al ranking en una sola pasada
+        List<Alumno> generados = new ArrayList<>(cantidad);
+        for (List<Alumno> lote : lotes) {
+            generados.addAll(lote);
+        }
+        int agregados = modulo.agregarAlumnos(generados);
+        if (agregados < cantidad) {
+            System.err.println("ADVERTENCIA: " + (cantidad - agregados) + " alumnos no se agregaron porque su numero de cuenta ya estaba registrado.");
+        }
+
+        System.out.println("Generacion de alumnos completada. Total de alumnos en el modulo: " + modulo.getAlumnos().size());
+    }
+
+    /**
+     * Crea un alumno con datos personales aleatorios (sin registro académico).
+     * La edad se genera entre 18 y 24 años y el semestre se limita según la edad.
+     * Si se proporcionan distribuciones, la edad y el semestre se eligen según sus pesos
+     * (el semestre, solo entre los permitidos para la edad).
+     * @param numCuenta Número de cuenta asignado al alumno.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @param acumuladoEdades Pesos acumulados por edad, o null para una distribución uniforme.
+     * @param acumuladoSemestres Pesos acumulados por semestre, o null para una distribución uniforme.
+     * @return El nuevo objeto Alumno.
+     */
+    private static Alumno crearAlumnoAleatorio(long numCuenta, SplittableRandom aleatorio,
+                                               double[] acumuladoEdades, double[] acumuladoSemestres) {
+        String[] nombreYGenero = generarNombreConGeneroBase(aleatorio);
+        String primerNombre = nombreYGenero[0];
+        String genero = nombreYGenero[1];
+        
+        // Genera un segundo nombre aleatorio o una cadena vacía (50% de probabilidad de tener 2 nombres)
+        String segundoNombre = aleatorio.nextBoolean() ? generarSegundoNombre(genero, aleatorio) : ""; 
+        
+        String primerApellido = generarApellido(aleatorio);
+        String segundoApellido = generarApellido(aleatorio);
+        
+        // Genera una edad entre 18 y 24
+        int totalEdades = ConfiguracionGeneracion.EDAD_MAXIMA - ConfiguracionGeneracion.EDAD_MINIMA + 1;
+        int edad = ConfiguracionGeneracion.EDAD_MINIMA + elegir(acumuladoEdades, totalEdades, aleatorio);
+        
+        // Lógica para limitar el semestre máximo según la edad, simulando un avance natural
+        int semestreMaximo;
+        if (edad == 18) {
+            semestreMaximo = 2;
+        } else if (edad == 19) {
+            semestreMaximo = 4;
+        } else if (edad == 20) {
+            semestreMaximo = 6;
+        } else if (edad == 21) {
+            semestreMaximo = 8;
+        } else { 
+            semestreMaximo = 10;
+        }
+        int semestre = 1 + elegir(acumuladoSemestres, semestreMaximo, aleatorio);
+        String carrera = "Ingenieria en Computacion"; 
+        String direccion = generarDireccion(aleatorio);
+        
+        // Creación del objeto Alumno
+        return new Alumno(
+                numCuenta, primerNombre, segundoNombre, primerApellido, segundoApellido, 
+                edad, carrera, semestre, direccion, genero
+        );
+    }
+
+    /**
+     * Elige un índice entre 0 y {@code limite - 1} según los pesos acumulados.
+     * Si no hay pesos, o los primeros {@code limite} pesos suman cero, la elección es uniforme.
+     */
+    private static int elegir(double[] acumulado, int limite, SplittableRandom aleatorio) {
+        if (acumulado == null || acumulado[limite - 1] <= 0.0) {
+            return aleatorio.nextInt(limite);
+        }
+        double objetivo = aleatorio.nextDouble() * acumulado[limite - 1];
+        for (int i = 0; i < limite - 1; i++) {
+            if (objetivo < acumulado[i]) {
+                return i;
+            }
+        }
+        return limite - 1;
+    }
+
+    /**
+     * Convierte un arreglo de pesos en sus sumas acumuladas (null si no hay pesos).
+     */
+    private static double[] acumular(double[] pesos) {
+        if (pesos == null) {
+            return null;
+        }
+        double[] acumulado = new double[pesos.length];
+        double suma = 0.0;
+        for (int i = 0; i < pesos.length; i++) {
+            suma += pesos[i];
+            acumulado[i] = suma;
+        }
+        return acumulado;
+    }
+    
+    /**
+     * Obtiene una dirección seleccionada al azar de la lista cargada.
+     * @return Una cadena que representa una dirección.
+     */
+    public static String generarDireccion() {
+        return generarDireccion(new SplittableRandom(RANDOM.nextLong()));
+    }
+
+    /**
+     * Obtiene una dirección seleccionada al azar usando el generador indicado.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @return Una cadena que representa una dirección.
+     */
+    public static String generarDireccion(SplittableRandom aleatorio) {
+        if (direcciones.isEmpty()) {
+            return "Direccion no asignada (ERROR de carga)";
+        }
+        List<String> cargadas = direcciones;
+        int indice = aleatorio.nextInt(cargadas.size());
+        return cargadas.get(indice);
+    }
+    
+    /**
+     * Decide aleatoriamente el género del alumno y selecciona un nombre base
+     * de la lista correspondiente.
+     * @return Un array de String donde [0] es el primer nombre y [1] es el género ("M" o "F").
+     */
+    public static String[] generarNombreConGeneroBase() {
+        return generarNombreConGeneroBase(new SplittableRandom(RANDOM.nextLong()));
+    }
+
+    /**
+     * Decide el género y selecciona un nombre base usando el generador indicado.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @return Un array de String donde [0] es el primer nombre y [1] es el género ("M" o "F").
+     */
+    public static String[] generarNombreConGeneroBase(SplittableRandom aleatorio) {
+        boolean esMasculino = aleatorio.nextBoolean();
+
+        if (esMasculino) {
+            int indice = aleatorio.nextInt(NOMBRES_MASCULINOS.size());
+            return new String[] {NOMBRES_MASCULINOS.get(indice), "M"};
+        } else {
+            int indice = aleatorio.nextInt(NOMBRES_FEMENINOS.size());
+            return new String[] {NOMBRES_FEMENINOS.get(indice), "F"};
+        }
+    }
+
+    /**
+     * Obtiene un segundo nombre aleatorio que coincide con el género proporcionado.
+     * @param genero El género ("M" o "F") para determinar la lista de nombres.
+     * @return Un segundo nombre.
+     */
+    public static String generarSegundoNombre(String genero) {
+        return generarSegundoNombre(genero, new SplittableRandom(RANDOM.nextLong()));
+    }
+
+    /**
+     * Obtiene un segundo nombre que coincide con el género usando el generador indicado.
+     * @param genero El género ("M" o "F") para determinar la lista de nombres.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @return Un segundo nombre.
+     */
+    public static String generarSegundoNombre(String genero, SplittableRandom aleatorio) {
+        if ("M".equals(genero)) {
+            int indice = aleatorio.nextInt(NOMBRES_MASCULINOS.size());
+            return NOMBRES_MASCULINOS.get(indice);
+        } else {
+            int indice = aleatorio.nextInt(NOMBRES_FEMENINOS.size());
+            return NOMBRES_FEMENINOS.get(indice);
+        }
+    }
+
+    /**
+     * Obtiene un apellido seleccionado al azar de la lista predefinida.
+     * @return Un apellido.
+     */
+    public static String generarApellido() {
+        return generarApellido(new SplittableRandom(RANDOM.nextLong()));
+    }
+
+    /**
+     * Obtiene un apellido al azar usando el generador indicado.
+     * @param aleatorio Generador de números aleatorios a utilizar.
+     * @return Un apellido.
+     */
+    public static String generarApellido(SplittableRandom aleatorio) {
+        int indice = aleatorio.nextInt(APELLIDOS.size());
+        return APELLIDOS.get(indice);
+    }
 }
\ No newline at end of file
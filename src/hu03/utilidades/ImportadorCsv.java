@@ -0,0 +1,324 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import hu03.modelo.Alumno;
+import hu03.modelo.Asignatura;
+import hu03.modelo.DatosAlumno;
+import hu03.modelo.RegistroAcademico;
+import hu03.repositorio.IndiceNumCuenta;
+import hu03.repositorio.ModuloRegistros;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ImportadorCsv: Clase de utilidad estática que carga alumnos y sus calificaciones desde
+ * archivos CSV (por ejemplo, extractos de la oficina de registro) a un {@link ModuloRegistros}.
+ * <p>
+ * Se leen dos archivos con {@link LectorCsv}, fila por fila y sin cargarlos completos en memoria:
+ * <ul>
+ *   <li>Alumnos: {@value #CABECERA_ALUMNOS}. Son obligatorias las columnas NumCuenta, PrimerNombre,
+ *       PrimerApellido, Edad y Semestre; las demás pueden faltar o estar vacías.</li>
+ *   <li>Calificaciones (opcional): {@value #CABECERA_CALIFICACIONES}, una fila por asignatura
+ *       cursada. Si una asignatura se repite para el mismo alumno, cuenta la última calificación.</li>
+ * </ul>
+ * Las columnas se localizan por el nombre de la cabecera (sin distinguir mayúsculas), en cualquier
+ * orden. Las filas no válidas se omiten y se informan con su número de línea.
+ * <p>
+ * Los registros académicos se arman directamente con las calificaciones leídas; después, el
+ * Indicador Bruto de todos los alumnos importados se calcula en paralelo
+ * ({@link ModuloRegistros#calcularIndicadores}) y se agregan como un solo lote, de modo que entran
+ * al ranking en una sola pasada ({@link ModuloRegistros#agregarAlumnos}).
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class ImportadorCsv {
+
+    /** Cabecera esperada del archivo de alumnos. */
+    public static final String CABECERA_ALUMNOS = "NumCuenta,PrimerNombre,SegundoNombre,PrimerApellido,"
+            + "SegundoApellido,Edad,Carrera,Semestre,Direccion,Genero";
+
+    /** Cabecera esperada del archivo de calificaciones. */
+    public static final String CABECERA_CALIFICACIONES = "NumCuenta,IdAsignatura,Calificacion";
+
+    /** Carrera asignada a los alumnos cuya fila no la indica. */
+    private static final String CARRERA_POR_DEFECTO = "Ingenieria en Computacion";
+
+    /** Cantidad máxima de filas no válidas que se informan una por una en cada archivo. */
+    private static final int MAXIMO_ERRORES_INFORMADOS = 20;
+
+    // Posiciones de las columnas en las cabeceras
+    private static final int NUM_CUENTA = 0;
+    private static final int PRIMER_NOMBRE = 1;
+    private static final int SEGUNDO_NOMBRE = 2;
+    private static final int PRIMER_APELLIDO = 3;
+    private static final int SEGUNDO_APELLIDO = 4;
+    private static final int EDAD = 5;
+    private static final int CARRERA = 6;
+    private static final int SEMESTRE = 7;
+    private static final int DIRECCION = 8;
+    private static final int GENERO = 9;
+
+    private static final int ID_ASIGNATURA = 1;
+    private static final int CALIFICACION = 2;
+
+    /**
+     * Importa los alumnos del primer archivo, con las calificaciones del segundo, y los agrega al módulo.
+     * Los alumnos cuyo número de cuenta ya está registrado (en el módulo o en una fila anterior)
+     * se omiten. Al terminar, los números de cuenta generados después quedan por encima de los importados.
+     * @param modulo El módulo donde se agregan los alumnos.
+     * @param rutaAlumnos La ruta del archivo CSV de alumnos.
+     * @param rutaCalificaciones La ruta del archivo CSV de calificaciones, o null para importar a los
+     *                           alumnos sin calificaciones (con un registro académico vacío).
+     * @return Los alumnos agregados, en el orden del archivo.
+     * @throws IOException Si algún archivo no se puede leer, no tiene cabecera o le falta una columna obligatoria.
+     */
+    public static List<Alumno> importar(ModuloRegistros modulo, String rutaAlumnos, String rutaCalificaciones)
+            throws IOException {
+        List<Alumno> nuevos = new ArrayList<>();
+        IndiceNumCuenta posiciones = new IndiceNumCuenta();
+        leerAlumnos(modulo, rutaAlumnos, nuevos, posiciones);
+        if (rutaCalificaciones != null) {
+            leerCalificaciones(modulo, rutaCalificaciones, nuevos, posiciones);
+        }
+
+        long mayorNumCuenta = Long.MIN_VALUE;
+        for (Alumno alumno : nuevos) {
+            if (alumno.getRegistroAcademico() == null) {
+                alumno.setRegistroAcademico(new RegistroAcademico(alumno));
+            }
+            mayorNumCuenta = Math.max(mayorNumCuenta, alumno.getNumCuenta());
+        }
+        modulo.calcularIndicadores(nuevos);
+        modulo.agregarAlumnos(nuevos);
+        if (!nuevos.isEmpty()) {
+            GeneradorDatos.avanzarNumCuentaDespuesDe(mayorNumCuenta);
+        }
+        return nuevos;
+    }
+
+    // ===============================================
+    //                  ALUMNOS
+    // ===============================================
+
+    private static void leerAlumnos(ModuloRegistros modulo, String ruta, List<Alumno> nuevos,
+                                    IndiceNumCuenta posiciones) throws IOException {
+        // Los nombres, apellidos y carreras se repiten mucho: cada valor distinto se guarda una vez
+        Map<String, String> textos = new HashMap<>();
+        ErroresFila errores = new ErroresFila(ruta);
+        try (LectorCsv lector = LectorCsv.abrir(ruta)) {
+            int[] columnas = ubicarColumnas(lector, CABECERA_ALUMNOS, ruta,
+                                            NUM_CUENTA, PRIMER_NOMBRE, PRIMER_APELLIDO, EDAD, SEMESTRE);
+            while (lector.siguienteFila()) {
+                try {
+                    long numCuenta = lector.getEntero(campo(lector, columnas, NUM_CUENTA));
+                    if (numCuenta <= 0) {
+                        errores.agregar(lector, "El numero de cuenta debe ser positivo.");
+                        continue;
+                    }
+                    if (posiciones.contiene(numCuenta) || modulo.buscarAlumnoPorNumCuenta(numCuenta) != null) {
+                        errores.agregar(lector, "El numero de cuenta " + numCuenta + " ya esta registrado.");
+                        continue;
+                    }
+                    DatosAlumno datos = new DatosAlumno(
+                        texto(lector, columnas, PRIMER_NOMBRE, textos),
+                        texto(lector, columnas, SEGUNDO_NOMBRE, textos),
+                        texto(lector, columnas, PRIMER_APELLIDO, textos),
+                        texto(lector, columnas, SEGUNDO_APELLIDO, textos),
+                        entero(lector, columnas, EDAD),
+                        entero(lector, columnas, SEMESTRE),
+                        texto(lector, columnas, DIRECCION, null),
+                        texto(lector, columnas, GENERO, textos)
+                    );
+                    String error = datos.validar();
+                    if (error != null) {
+                        errores.agregar(lector, error);
+                        continue;
+                    }
+                    String carrera = texto(lector, columnas, CARRERA, textos);
+                    posiciones.poner(numCuenta, nuevos.size());
+                    nuevos.add(new Alumno(numCuenta, datos.getPrimerNombre(), datos.getSegundoNombre(),
+                                          datos.getPrimerApellido(), datos.getSegundoApellido(), datos.getEdad(),
+                                          carrera.isEmpty() ? CARRERA_POR_DEFECTO : carrera, datos.getSemestre(),
+                                          datos.getDireccion(), datos.getGenero()));
+                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    errores.agregar(lector, e.getMessage());
+                }
+            }
+        }
+        errores.resumir();
+    }
+
+    // ===============================================
+    //                CALIFICACIONES
+    // ===============================================
+
+    private static void leerCalificaciones(ModuloRegistros modulo, String ruta, List<Alumno> nuevos,
+                                           IndiceNumCuenta posiciones) throws IOException {
+        // Catálogo indexado por ID de asignatura
+        Asignatura[] porId = new Asignatura[0];
+        for (List<Asignatura> listaSemestre : modulo.getAsignaturas()) {
+            for (Asignatura asignatura : listaSemestre) {
+                if (asignatura.getId() >= porId.length) {
+                    porId = Arrays.copyOf(porId, asignatura.getId() + 1);
+                }
+                porId[asignatura.getId()] = asignatura;
+            }
+        }
+
+        ErroresFila errores = new ErroresFila(ruta);
+        // Las calificaciones de un alumno suelen venir juntas: se evita buscarlo en cada fila
+        long ultimaCuenta = 0;
+        int ultimaPosicion = IndiceNumCuenta.NO_ENCONTRADO;
+        try (LectorCsv lector = LectorCsv.abrir(ruta)) {
+            int[] columnas = ubicarColumnas(lector, CABECERA_CALIFICACIONES, ruta,
+                                            NUM_CUENTA, ID_ASIGNATURA, CALIFICACION);
+            while (lector.siguienteFila()) {
+                try {
+                    long numCuenta = lector.getEntero(campo(lector, columnas, NUM_CUENTA));
+                    if (numCuenta != ultimaCuenta || ultimaPosicion == IndiceNumCuenta.NO_ENCONTRADO) {
+                        ultimaCuenta = numCuenta;
+                        ultimaPosicion = posiciones.obtener(numCuenta);
+                    }
+                    int posicion = ultimaPosicion;
+                    if (posicion == IndiceNumCuenta.NO_ENCONTRADO) {
+                        errores.agregar(lector, "El numero de cuenta " + numCuenta + " no se importo del archivo de alumnos.");
+                        continue;
+                    }
+                    long id = lector.getEntero(campo(lector, columnas, ID_ASIGNATURA));
+                    if (id < 0 || id >= porId.length || porId[(int) id] == null) {
+                        errores.agregar(lector, "La asignatura " + id + " no existe en el catalogo.");
+                        continue;
+                    }
+                    double calificacion = lector.getDecimal(campo(lector, columnas, CALIFICACION));
+                    if (!(calificacion >= 0.0 && calificacion <= 10.0)) {
+                        errores.agregar(lector, "La calificacion debe estar entre 0 y 10 (se recibio " + calificacion + ").");
+                        continue;
+                    }
+                    Alumno alumno = nuevos.get(posicion);
+                    RegistroAcademico registro = alumno.getRegistroAcademico();
+                    if (registro == null) {
+                        registro = new RegistroAcademico(alumno);
+                        alumno.setRegistroAcademico(registro);
+                    }
+                    registro.agregarAsignatura(porId[(int) id], calificacion);
+                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    errores.agregar(lector, e.getMessage());
+                }
+            }
+        }
+        errores.resumir();
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    /**
+     * Lee la cabecera y localiza cada columna esperada.
+     * @param cabeceraEsperada Los nombres de las columnas, separados por comas; la posición de cada
+     *                         nombre es la que se usa para consultar la columna.
+     * @param obligatorias Las posiciones (en la cabecera esperada) de las columnas obligatorias.
+     * @return Para cada columna esperada, su posición en el archivo, o -1 si no aparece.
+     * @throws IOException Si el archivo está vacío o le falta una columna obligatoria.
+     */
+    private static int[] ubicarColumnas(LectorCsv lector, String cabeceraEsperada, String ruta,
+                                        int... obligatorias) throws IOException {
+        if (!lector.siguienteFila()) {
+            throw new IOException("El archivo no tiene cabecera: " + ruta);
+        }
+        String[] nombres = cabeceraEsperada.split(",");
+        int[] columnas = new int[nombres.length];
+        Arrays.fill(columnas, -1);
+        for (int campo = 0; campo < lector.getCantidadCampos(); campo++) {
+            String nombre = lector.getTexto(campo).trim();
+            for (int i = 0; i < nombres.length; i++) {
+                if (columnas[i] < 0 && nombres[i].equalsIgnoreCase(nombre)) {
+                    columnas[i] = campo;
+                }
+            }
+        }
+        for (int obligatoria : obligatorias) {
+            if (columnas[obligatoria] < 0) {
+                throw new IOException("Falta la columna " + nombres[obligatoria] + " en " + ruta
+                                      + " (cabecera esperada: " + cabeceraEsperada + ")");
+            }
+        }
+        return columnas;
+    }
+
+    /**
+     * @return La posición en la fila de la columna indicada.
+     * @throws IndexOutOfBoundsException Si la fila no tiene esa columna.
+     */
+    private static int campo(LectorCsv lector, int[] columnas, int columna) {
+        int campo = columnas[columna];
+        if (campo >= lector.getCantidadCampos()) {
+            throw new IndexOutOfBoundsException("La fila tiene " + lector.getCantidadCampos()
+                                                + " campos; faltan columnas.");
+        }
+        return campo;
+    }
+
+    /**
+     * @return El valor de una columna entera pequeña (edad, semestre).
+     * @throws NumberFormatException Si el campo no es un entero válido o no cabe en un int.
+     */
+    private static int entero(LectorCsv lector, int[] columnas, int columna) {
+        long valor = lector.getEntero(campo(lector, columnas, columna));
+        if (valor < Integer.MIN_VALUE || valor > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Entero fuera de rango: " + valor);
+        }
+        return (int) valor;
+    }
+
+    /**
+     * Obtiene el texto recortado de una columna opcional, reutilizando la instancia de un
+     * valor igual ya leído si se indica el mapa.
+     * @return El texto, o una cadena vacía si la columna no existe o no tiene contenido.
+     */
+    private static String texto(LectorCsv lector, int[] columnas, int columna, Map<String, String> textos) {
+        int campo = columnas[columna];
+        if (campo < 0 || campo >= lector.getCantidadCampos() || lector.estaVacio(campo)) {
+            return "";
+        }
+        String valor = lector.getTexto(campo).trim();
+        if (textos == null) {
+            return valor;
+        }
+        String previo = textos.putIfAbsent(valor, valor);
+        return previo != null ? previo : valor;
+    }
+
+    /**
+     * Informa las filas no válidas de un archivo: las primeras una por una y las demás solo
+     * en el total, para no inundar la consola con un archivo muy dañado.
+     */
+    private static final class ErroresFila {
+        private final String ruta;
+        private long cantidad;
+
+        ErroresFila(String ruta) {
+            this.ruta = ruta;
+        }
+
+        void agregar(LectorCsv lector, String motivo) {
+            if (++cantidad <= MAXIMO_ERRORES_INFORMADOS) {
+                System.out.println("ADVERTENCIA: " + ruta + ", linea " + lector.getLinea() + " omitida: " + motivo);
+            }
+        }
+
+        void resumir() {
+            if (cantidad > MAXIMO_ERRORES_INFORMADOS) {
+                System.out.println("ADVERTENCIA: " + ruta + ": " + (cantidad - MAXIMO_ERRORES_INFORMADOS)
+                                   + " filas mas omitidas (" + cantidad + " en total).");
+            }
+        }
+    }
+}
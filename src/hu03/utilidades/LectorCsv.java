@@ -0,0 +1,372 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * LectorCsv: Lectura continua de un archivo CSV (RFC 4180, codificación UTF-8), fila por fila.
+ * El archivo se lee por bloques de {@value #TAMANIO_BLOQUE} bytes y los campos de la fila actual
+ * se guardan como bytes en un búfer que se reutiliza, por lo que la memoria usada depende de la
+ * fila más larga y no del tamaño del archivo. Los campos solo se convierten a {@link String}
+ * o a número cuando se consultan; los enteros y decimales sencillos se interpretan directamente
+ * sobre los bytes.
+ * <p>
+ * Se aceptan campos entre comillas (con comillas internas duplicadas, comas y saltos de línea),
+ * finales de línea "\n", "\r\n" y "\r", y una marca de orden de bytes (BOM) inicial.
+ * Las líneas vacías se omiten.
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class LectorCsv implements Closeable {
+
+    /** Tamaño de los bloques que se leen del archivo. */
+    private static final int TAMANIO_BLOQUE = 1 << 16;
+
+    /** Potencias de 10 representables exactamente como double. */
+    private static final double[] POTENCIAS_DE_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final FileChannel canal;
+    private final ByteBuffer bloque = ByteBuffer.allocate(TAMANIO_BLOQUE);
+    /** Arreglo de {@link #bloque}; se recorre directamente entre {@link #posicion} y {@link #limite}. */
+    private final byte[] bytes = bloque.array();
+    private int posicion;
+    private int limite;
+    private boolean finArchivo;
+
+    // --- Fila actual ---
+    /** Bytes de todos los campos de la fila, uno tras otro. */
+    private byte[] datos = new byte[256];
+    private int tamanio;
+    /** Inicio de cada campo en {@link #datos}; el campo i termina donde empieza el i + 1. */
+    private int[] inicios = new int[17];
+    private int cantidadCampos;
+    /** Línea del archivo (1, 2, 3...) donde empieza la fila actual. */
+    private long lineaFila;
+    /** Líneas completas leídas hasta ahora. */
+    private long lineasLeidas;
+
+    private LectorCsv(FileChannel canal) throws IOException {
+        this.canal = canal;
+        if (rellenar() && limite >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+            posicion = 3;
+        }
+    }
+
+    /**
+     * Abre un archivo CSV para leerlo fila por fila.
+     * @param ruta La ruta del archivo.
+     * @return El lector, posicionado antes de la primera fila.
+     * @throws IOException Si el archivo no existe o no se puede leer.
+     */
+    public static LectorCsv abrir(String ruta) throws IOException {
+        return new LectorCsv(FileChannel.open(Paths.get(ruta), StandardOpenOption.READ));
+    }
+
+    /**
+     * Avanza a la siguiente fila no vacía.
+     * @return true si se leyó una fila, false si el archivo terminó.
+     * @throws IOException Si falla la lectura o el archivo termina dentro de un campo entre comillas.
+     */
+    public boolean siguienteFila() throws IOException {
+        int b = leer();
+        while (b == '\n' || b == '\r') {
+            terminarLinea(b);
+            b = leer();
+        }
+        if (b < 0) {
+            return false;
+        }
+        tamanio = 0;
+        cantidadCampos = 0;
+        lineaFila = lineasLeidas + 1;
+        boolean inicioDeCampo = true;
+        while (true) {
+            if (b == '"' && inicioDeCampo) {
+                leerEntreComillas();
+                inicioDeCampo = false;
+            } else if (b == ',') {
+                cerrarCampo();
+                inicioDeCampo = true;
+            } else if (b < 0 || b == '\n' || b == '\r') {
+                cerrarCampo();
+                if (b >= 0) {
+                    terminarLinea(b);
+                }
+                return true;
+            } else {
+                agregarByte(b);
+                copiarHastaSeparador(false);
+                inicioDeCampo = false;
+            }
+            b = leer();
+        }
+    }
+
+    /**
+     * @return La línea del archivo (1, 2, 3...) donde empieza la fila actual.
+     */
+    public long getLinea() {
+        return lineaFila;
+    }
+
+    /**
+     * @return La cantidad de campos de la fila actual.
+     */
+    public int getCantidadCampos() {
+        return cantidadCampos;
+    }
+
+    /**
+     * Obtiene un campo de la fila actual como texto, sin las comillas que lo delimitan.
+     * @param campo La posición del campo (0 = primero).
+     * @return El texto del campo (vacío si el campo está vacío).
+     */
+    public String getTexto(int campo) {
+        int inicio = inicioCampo(campo);
+        return new String(datos, inicio, inicios[campo + 1] - inicio, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Indica si un campo de la fila actual está vacío o solo contiene espacios.
+     * @param campo La posición del campo (0 = primero).
+     * @return true si el campo no tiene contenido.
+     */
+    public boolean estaVacio(int campo) {
+        int inicio = inicioCampo(campo);
+        int fin = inicios[campo + 1];
+        for (int i = inicio; i < fin; i++) {
+            if ((datos[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Interpreta un campo de la fila actual como entero en base 10 (se ignoran los espacios de los extremos).
+     * @param campo La posición del campo (0 = primero).
+     * @return El valor del campo.
+     * @throws NumberFormatException Si el campo no es un entero válido o excede el rango de long.
+     */
+    public long getEntero(int campo) {
+        int inicio = inicioCampo(campo);
+        int fin = inicios[campo + 1];
+        while (inicio < fin && (datos[inicio] & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (datos[fin - 1] & 0xFF) <= ' ') {
+            fin--;
+        }
+        boolean negativo = inicio < fin && datos[inicio] == '-';
+        int i = negativo || (inicio < fin && datos[inicio] == '+') ? inicio + 1 : inicio;
+        if (i == fin) {
+            throw new NumberFormatException("Entero no valido: \"" + getTexto(campo) + "\"");
+        }
+        long valor = 0;
+        for (; i < fin; i++) {
+            int digito = datos[i] - '0';
+            if (digito < 0 || digito > 9) {
+                throw new NumberFormatException("Entero no valido: \"" + getTexto(campo) + "\"");
+            }
+            // Se acumula en negativo para admitir Long.MIN_VALUE
+            if (valor < (Long.MIN_VALUE + digito) / 10) {
+                throw new NumberFormatException("Entero fuera de rango: \"" + getTexto(campo) + "\"");
+            }
+            valor = valor * 10 - digito;
+        }
+        if (!negativo && valor == Long.MIN_VALUE) {
+            throw new NumberFormatException("Entero fuera de rango: \"" + getTexto(campo) + "\"");
+        }
+        return negativo ? valor : -valor;
+    }
+
+    /**
+     * Interpreta un campo de la fila actual como número decimal (se ignoran los espacios de los extremos).
+     * Los números con a lo más 15 dígitos y sin exponente (como "8.75") se interpretan sobre los
+     * bytes del campo; los demás, con {@link Double#parseDouble}. El resultado es el mismo.
+     * @param campo La posición del campo (0 = primero).
+     * @return El valor del campo.
+     * @throws NumberFormatException Si el campo no es un número válido.
+     */
+    public double getDecimal(int campo) {
+        int inicio = inicioCampo(campo);
+        int fin = inicios[campo + 1];
+        while (inicio < fin && (datos[inicio] & 0xFF) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && (datos[fin - 1] & 0xFF) <= ' ') {
+            fin--;
+        }
+        boolean negativo = inicio < fin && datos[inicio] == '-';
+        int i = negativo ? inicio + 1 : inicio;
+        long mantisa = 0;
+        int digitos = 0;
+        int decimales = -1;
+        for (; i < fin; i++) {
+            byte b = datos[i];
+            if (b == '.' && decimales < 0) {
+                decimales = 0;
+            } else if (b >= '0' && b <= '9' && digitos < 15) {
+                mantisa = mantisa * 10 + (b - '0');
+                digitos++;
+                if (decimales >= 0) {
+                    decimales++;
+                }
+            } else {
+                break;
+            }
+        }
+        if (i < fin || digitos == 0) {
+            // Exponente, demasiados dígitos o texto no numérico: se delega a la conversión general
+            return Double.parseDouble(getTexto(campo).trim());
+        }
+        // La mantisa (< 2^53) y la potencia de 10 son exactas, así que el cociente se redondea correctamente
+        double valor = decimales > 0 ? mantisa / POTENCIAS_DE_10[decimales] : mantisa;
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * Cierra el archivo.
+     * @throws IOException Si falla el cierre.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ===============================================
+    //                  AUXILIARES
+    // ===============================================
+
+    private int inicioCampo(int campo) {
+        if (campo < 0 || campo >= cantidadCampos) {
+            throw new IndexOutOfBoundsException("Campo: " + campo + ", Cantidad de campos: " + cantidadCampos);
+        }
+        return inicios[campo];
+    }
+
+    /**
+     * Lee el contenido de un campo entre comillas, a partir de la comilla inicial ya leída,
+     * hasta la comilla de cierre.
+     */
+    private void leerEntreComillas() throws IOException {
+        while (true) {
+            int b = leer();
+            if (b < 0) {
+                throw new IOException("Campo entre comillas sin cerrar (la fila empieza en la linea " + lineaFila + ")");
+            }
+            if (b == '"') {
+                if (siguienteEs('"')) {
+                    leer();
+                } else {
+                    return;
+                }
+            } else if (b == '\n' || (b == '\r' && !siguienteEs('\n'))) {
+                lineasLeidas++;
+            }
+            agregarByte(b);
+            copiarHastaSeparador(true);
+        }
+    }
+
+    /**
+     * Cuenta la línea terminada por el byte indicado, consumiendo el "\n" de un "\r\n".
+     */
+    private void terminarLinea(int b) throws IOException {
+        if (b == '\r' && siguienteEs('\n')) {
+            leer();
+        }
+        lineasLeidas++;
+    }
+
+    /** Registra el fin del campo actual. */
+    private void cerrarCampo() {
+        if (cantidadCampos + 2 > inicios.length) {
+            inicios = Arrays.copyOf(inicios, inicios.length * 2);
+        }
+        inicios[++cantidadCampos] = tamanio;
+    }
+
+    /**
+     * Copia al campo actual los bytes del bloque hasta el siguiente separador, comilla o fin
+     * de línea (sin consumirlo), en un solo recorrido del arreglo.
+     * @param entreComillas true si el campo está entre comillas (las comas son parte del campo).
+     */
+    private void copiarHastaSeparador(boolean entreComillas) {
+        int inicio = posicion;
+        int i = inicio;
+        while (i < limite) {
+            byte b = bytes[i];
+            if ((b == ',' && !entreComillas) || b == '\n' || b == '\r' || b == '"') {
+                break;
+            }
+            i++;
+        }
+        int cantidad = i - inicio;
+        if (tamanio + cantidad > datos.length) {
+            datos = Arrays.copyOf(datos, Math.max(datos.length * 2, tamanio + cantidad));
+        }
+        System.arraycopy(bytes, inicio, datos, tamanio, cantidad);
+        tamanio += cantidad;
+        posicion = i;
+    }
+
+    private void agregarByte(int b) {
+        if (tamanio == datos.length) {
+            datos = Arrays.copyOf(datos, datos.length * 2);
+        }
+        datos[tamanio++] = (byte) b;
+    }
+
+    /**
+     * @return El siguiente byte del archivo (0..255), o -1 si el archivo terminó.
+     */
+    private int leer() throws IOException {
+        if (posicion == limite && !rellenar()) {
+            return -1;
+        }
+        return bytes[posicion++] & 0xFF;
+    }
+
+    /**
+     * Indica si el siguiente byte es el indicado, sin consumirlo.
+     */
+    private boolean siguienteEs(char c) throws IOException {
+        return (posicion < limite || rellenar()) && bytes[posicion] == c;
+    }
+
+    /**
+     * Lee el siguiente bloque del archivo.
+     * @return true si quedan bytes por leer.
+     */
+    private boolean rellenar() throws IOException {
+        if (finArchivo) {
+            return false;
+        }
+        bloque.clear();
+        int leidos = 0;
+        while (leidos == 0) {
+            leidos = canal.read(bloque);
+        }
+        posicion = 0;
+        limite = Math.max(0, leidos);
+        if (leidos < 0) {
+            finArchivo = true;
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package hu03.utilidades;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * NormalizadorTexto: Clase de utilidad estática que convierte nombres y apellidos a una forma
+ * canónica para búsquedas: sin espacios en los extremos, en minúsculas y sin acentos
+ * ("Hernández" y "HERNANDEZ" producen la misma clave "hernandez").
+ * @author EnrollEngine
+ * @version 1.0.0
+ */
+public class NormalizadorTexto {
+
+    /**
+     * Normaliza un texto para usarlo como clave de búsqueda.
+     * Los textos formados solo por caracteres ASCII (el caso más común) se convierten sin pasar
+     * por {@link Normalizer}, evitando la descomposición Unicode.
+     * @param texto El texto a normalizar (puede ser {@code null}).
+     * @return El texto normalizado, o una cadena vacía si el texto es {@code null}.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String recortado = texto.trim();
+        boolean esAscii = true;
+        boolean requiereCambio = false;
+        for (int i = 0; i < recortado.length(); i++) {
+            char c = recortado.charAt(i);
+            if (c >= 0x80) {
+                esAscii = false;
+                break;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                requiereCambio = true;
+            }
+        }
+        if (esAscii) {
+            return requiereCambio ? recortado.toLowerCase(Locale.ROOT) : recortado;
+        }
+
+        // Descomponer los caracteres acentuados (á -> a + ´) y descartar las marcas diacríticas
+        String descompuesto = Normalizer.normalize(recortado, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(descompuesto.length());
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char c = descompuesto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}